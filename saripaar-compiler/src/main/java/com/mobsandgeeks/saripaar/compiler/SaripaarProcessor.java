@@ -0,0 +1,790 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.compiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.SimpleAnnotationValueVisitor6;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a {@code <Controller>_SaripaarBinder} for every class that declares (or inherits)
+ * {@link android.view.View} fields annotated with Saripaar rule annotations. The generated binder
+ * reads the fields and instantiates the rules with plain code, so the {@code Validator} does not
+ * have to use reflection for that controller. Data adapters are not selected by the binder, the
+ * {@code Validator} resolves them from its registered adapters, so adapters registered at runtime
+ * behave the same way with or without a binder.
+ *
+ * Controllers that cannot be bound with plain code (private fields, inaccessible rule
+ * constructors or unsupported annotation attributes) are skipped with a note, the
+ * {@code Validator} falls back to reflection for them.
+ *
+ * @since 2.1
+ */
+public final class SaripaarProcessor extends AbstractProcessor {
+    private static final String VIEW = "android.view.View";
+    private static final String VALIDATE_USING = "com.mobsandgeeks.saripaar.annotation.ValidateUsing";
+    private static final String ORDER = "com.mobsandgeeks.saripaar.annotation.Order";
+    private static final String CONTEXTUAL_RULE = "com.mobsandgeeks.saripaar.ContextualAnnotationRule";
+    private static final String VALIDATION_CONTEXT = "com.mobsandgeeks.saripaar.ValidationContext";
+    private static final String BINDER = "com.mobsandgeeks.saripaar.SaripaarBinder";
+    private static final String BINDER_SUFFIX = "_SaripaarBinder";
+
+    private Elements mElements;
+    private Types mTypes;
+    private final Set<String> mProcessedTypes = new HashSet<String>();
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnvironment) {
+        super.init(processingEnvironment);
+        mElements = processingEnvironment.getElementUtils();
+        mTypes = processingEnvironment.getTypeUtils();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // Custom rule annotations are not known in advance, any annotation may be relevant.
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+            final RoundEnvironment roundEnvironment) {
+        List<TypeElement> types = new ArrayList<TypeElement>();
+        for (Element rootElement : roundEnvironment.getRootElements()) {
+            collectTypes(rootElement, types);
+        }
+
+        for (TypeElement type : types) {
+            String qualifiedName = type.getQualifiedName().toString();
+            if (mProcessedTypes.add(qualifiedName)) {
+                processType(type);
+            }
+        }
+
+        // Never claim annotations, other processors may be interested in them too.
+        return false;
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private void collectTypes(final Element element, final List<TypeElement> types) {
+        if (element.getKind() == ElementKind.CLASS) {
+            types.add((TypeElement) element);
+        }
+        for (TypeElement nestedType : ElementFilter.typesIn(element.getEnclosedElements())) {
+            collectTypes(nestedType, types);
+        }
+    }
+
+    private void processType(final TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return;
+        }
+
+        try {
+            List<FieldModel> fields = getAnnotatedFields(type);
+            if (fields.isEmpty()) {
+                return;
+            }
+            writeBinder(type, fields);
+        } catch (UnsupportedControllerException e) {
+            String message = String.format(
+                    "Saripaar will use reflection for '%s', %s", type.getQualifiedName(),
+                    e.getMessage());
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, type);
+        } catch (IOException e) {
+            String message = String.format("Unable to write the Saripaar binder for '%s': %s",
+                    type.getQualifiedName(), e.getMessage());
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, type);
+        }
+    }
+
+    private List<FieldModel> getAnnotatedFields(final TypeElement controller)
+            throws UnsupportedControllerException {
+        TypeMirror viewType = getTypeMirror(VIEW);
+        if (viewType == null) {
+            return Collections.emptyList();
+        }
+
+        String binderPackage = getPackageName(controller);
+        List<FieldModel> fields = new ArrayList<FieldModel>();
+
+        TypeElement declaringType = controller;
+        while (declaringType != null
+                && !"java.lang.Object".equals(declaringType.getQualifiedName().toString())) {
+            for (VariableElement field : ElementFilter.fieldsIn(declaringType.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)
+                        || !mTypes.isAssignable(mTypes.erasure(field.asType()), viewType)) {
+                    continue;
+                }
+
+                FieldModel fieldModel = getFieldModel(field, declaringType, binderPackage);
+                if (fieldModel != null) {
+                    fields.add(fieldModel);
+                }
+            }
+            declaringType = getSuperclass(declaringType);
+        }
+
+        if (allOrdered(fields)) {
+            Collections.sort(fields, new Comparator<FieldModel>() {
+                @Override
+                public int compare(final FieldModel lhs, final FieldModel rhs) {
+                    return lhs.order == rhs.order ? 0 : lhs.order > rhs.order ? 1 : -1;
+                }
+            });
+        }
+        return fields;
+    }
+
+    private FieldModel getFieldModel(final VariableElement field, final TypeElement declaringType,
+            final String binderPackage) throws UnsupportedControllerException {
+        Integer order = null;
+        List<RuleModel> rules = new ArrayList<RuleModel>();
+
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (ORDER.equals(annotationType.getQualifiedName().toString())) {
+                order = (Integer) getAttributeValue(annotation, "value");
+                continue;
+            }
+
+            TypeElement ruleType = getRuleType(annotationType);
+            if (ruleType != null) {
+                rules.add(getRuleModel(annotation, annotationType, ruleType, binderPackage));
+            }
+        }
+
+        if (rules.isEmpty() && order == null) {
+            return null;
+        }
+
+        if (!isAccessible(field, binderPackage)) {
+            throw new UnsupportedControllerException(String.format(
+                    "field '%s' should not be private.", field.getSimpleName()));
+        }
+
+        Collections.sort(rules, new Comparator<RuleModel>() {
+            @Override
+            public int compare(final RuleModel lhs, final RuleModel rhs) {
+                return lhs.sequence == rhs.sequence ? 0 : lhs.sequence > rhs.sequence ? 1 : -1;
+            }
+        });
+        return new FieldModel(field, declaringType, order, rules);
+    }
+
+    private RuleModel getRuleModel(final AnnotationMirror annotation,
+            final TypeElement annotationType, final TypeElement ruleType,
+            final String binderPackage)
+                    throws UnsupportedControllerException {
+        if (!isAccessible(annotationType, binderPackage)) {
+            throw new UnsupportedControllerException(String.format(
+                    "'%s' is not accessible.", annotationType.getQualifiedName()));
+        }
+
+        boolean contextual = isSubtype(ruleType, CONTEXTUAL_RULE);
+        ExecutableElement constructor = findRuleConstructor(ruleType, annotationType, contextual);
+        boolean instantiable = constructor != null
+                && !ruleType.getModifiers().contains(Modifier.ABSTRACT)
+                && isAccessible(ruleType, binderPackage)
+                && isAccessible(constructor, binderPackage);
+        if (!instantiable) {
+            throw new UnsupportedControllerException(String.format(
+                    "'%s' cannot be instantiated from generated code.",
+                    ruleType.getQualifiedName()));
+        }
+
+        Map<ExecutableElement, AnnotationValue> values = new LinkedHashMap<
+                ExecutableElement, AnnotationValue>();
+        values.putAll(mElements.getElementValuesWithDefaults(annotation));
+
+        Object sequence = getAttributeValue(annotation, "sequence");
+        return new RuleModel(annotationType, ruleType, contextual, values,
+                sequence instanceof Integer ? (Integer) sequence : -1);
+    }
+
+    private TypeElement getRuleType(final TypeElement annotationType) {
+        for (AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+            TypeElement metaAnnotationType = (TypeElement) metaAnnotation.getAnnotationType()
+                    .asElement();
+            if (VALIDATE_USING.equals(metaAnnotationType.getQualifiedName().toString())) {
+                Object value = getAttributeValue(metaAnnotation, "value");
+                if (value instanceof DeclaredType) {
+                    return (TypeElement) ((DeclaredType) value).asElement();
+                }
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement findRuleConstructor(final TypeElement ruleType,
+            final TypeElement annotationType, final boolean contextual) {
+        for (ExecutableElement constructor
+                : ElementFilter.constructorsIn(ruleType.getEnclosedElements())) {
+            List<? extends VariableElement> parameters = constructor.getParameters();
+            int expectedParameters = contextual ? 2 : 1;
+            if (parameters.size() != expectedParameters) {
+                continue;
+            }
+
+            boolean matchesAnnotation = mTypes.isSameType(parameters.get(0).asType(),
+                    annotationType.asType());
+            boolean matchesContext = !contextual || VALIDATION_CONTEXT.equals(
+                    mTypes.erasure(parameters.get(1).asType()).toString());
+            if (matchesAnnotation && matchesContext) {
+                return constructor;
+            }
+        }
+        return null;
+    }
+
+    private void writeBinder(final TypeElement controller, final List<FieldModel> fields)
+            throws IOException, UnsupportedControllerException {
+        String packageName = getPackageName(controller);
+        String binaryName = mElements.getBinaryName(controller).toString();
+        String binderName = (packageName.length() == 0
+                ? binaryName : binaryName.substring(packageName.length() + 1)) + BINDER_SUFFIX;
+        String controllerName = mTypes.erasure(controller.asType()).toString();
+
+        Map<String, String> annotationImpls = new LinkedHashMap<String, String>();
+        Map<String, TypeElement> annotationTypes = new LinkedHashMap<String, TypeElement>();
+        StringBuilder constants = new StringBuilder();
+        StringBuilder bindings = new StringBuilder();
+
+        int annotationIndex = 0;
+        for (FieldModel field : fields) {
+            String fieldAccess = field.declaringType.equals(controller)
+                    ? "target." + field.field.getSimpleName()
+                    : "((" + mTypes.erasure(field.declaringType.asType()) + ") target)."
+                            + field.field.getSimpleName();
+            String viewType = mTypes.erasure(field.field.asType()).toString();
+
+            if (field.order != null) {
+                bindings.append("        bindings.addView(").append(fieldAccess).append(");\n");
+            }
+
+            for (RuleModel rule : field.rules) {
+                String annotationName = rule.annotationType.getQualifiedName().toString();
+                String implName = annotationImpls.get(annotationName);
+                if (implName == null) {
+                    implName = rule.annotationType.getSimpleName() + "Impl";
+                    while (annotationImpls.containsValue(implName)) {
+                        implName = "_" + implName;
+                    }
+                    annotationImpls.put(annotationName, implName);
+                    annotationTypes.put(annotationName, rule.annotationType);
+                }
+
+                String annotationConstant = "ANNOTATION_" + annotationIndex++;
+                constants.append("    private static final ").append(annotationName).append(' ')
+                        .append(annotationConstant).append(" = new ").append(implName)
+                        .append('(').append(getArguments(rule.annotationType, rule.values))
+                        .append(");\n");
+
+                bindings.append("        bindings.addRule(").append(fieldAccess).append(", ")
+                        .append(viewType).append(".class,\n                new ")
+                        .append(rule.ruleType.getQualifiedName()).append('(')
+                        .append(annotationConstant)
+                        .append(rule.contextual ? ", validationContext" : "")
+                        .append("), null);\n");
+            }
+        }
+
+        StringBuilder source = new StringBuilder();
+        source.append("// Generated code from Saripaar. Do not modify!\n");
+        if (packageName.length() != 0) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n")
+                .append("public final class ").append(binderName).append("\n        implements ")
+                .append(BINDER).append('<').append(controllerName).append("> {\n")
+                .append(constants).append('\n')
+                .append("    @Override\n")
+                .append("    public boolean hasOrderedFields() {\n")
+                .append("        return ").append(hasOrderedFields(fields)).append(";\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void bind(final ").append(controllerName).append(" target,\n")
+                .append("            final com.mobsandgeeks.saripaar.ValidationContext ")
+                .append("validationContext,\n")
+                .append("            final ").append(BINDER).append(".Bindings bindings) {\n")
+                .append(bindings)
+                .append("    }\n");
+
+        for (Map.Entry<String, String> impl : annotationImpls.entrySet()) {
+            source.append('\n');
+            appendAnnotationImpl(source, annotationTypes.get(impl.getKey()), impl.getValue());
+        }
+        source.append("}\n");
+
+        JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(
+                packageName.length() == 0 ? binderName : packageName + "." + binderName,
+                controller);
+        Writer writer = sourceFile.openWriter();
+        try {
+            writer.write(source.toString());
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void appendAnnotationImpl(final StringBuilder source,
+            final TypeElement annotationType, final String implName) {
+        List<ExecutableElement> members = ElementFilter.methodsIn(
+                annotationType.getEnclosedElements());
+        String annotationName = annotationType.getQualifiedName().toString();
+
+        source.append("    private static final class ").append(implName).append(" implements ")
+                .append(annotationName).append(" {\n");
+        for (ExecutableElement member : members) {
+            source.append("        private final ").append(member.getReturnType()).append(' ')
+                    .append(member.getSimpleName()).append(";\n");
+        }
+
+        source.append("\n        ").append(implName).append('(');
+        for (int i = 0, n = members.size(); i < n; i++) {
+            ExecutableElement member = members.get(i);
+            source.append(i == 0 ? "" : ", ").append("final ").append(member.getReturnType())
+                    .append(' ').append(member.getSimpleName());
+        }
+        source.append(") {\n");
+        for (ExecutableElement member : members) {
+            source.append("            this.").append(member.getSimpleName()).append(" = ")
+                    .append(member.getSimpleName()).append(";\n");
+        }
+        source.append("        }\n");
+
+        for (ExecutableElement member : members) {
+            boolean isArray = member.getReturnType().getKind() == TypeKind.ARRAY;
+            source.append("\n        @Override\n        public ").append(member.getReturnType())
+                    .append(' ').append(member.getSimpleName()).append("() {\n")
+                    .append("            return ").append(member.getSimpleName())
+                    .append(isArray ? ".clone()" : "").append(";\n        }\n");
+        }
+
+        source.append("\n        @Override\n")
+                .append("        public Class<? extends java.lang.annotation.Annotation> ")
+                .append("annotationType() {\n")
+                .append("            return ").append(annotationName).append(".class;\n")
+                .append("        }\n");
+
+        appendEquals(source, members, annotationName);
+        appendHashCode(source, members);
+        appendToString(source, members, annotationName);
+        source.append("    }\n");
+    }
+
+    /**
+     * Follows {@link java.lang.annotation.Annotation#equals(Object)}, so that the generated
+     * instances are interchangeable with the ones returned by reflection.
+     */
+    private void appendEquals(final StringBuilder source, final List<ExecutableElement> members,
+            final String annotationName) {
+        source.append("\n        @Override\n")
+                .append("        public boolean equals(final Object object) {\n");
+        if (members.isEmpty()) {
+            source.append("            return object instanceof ").append(annotationName)
+                    .append(";\n        }\n");
+            return;
+        }
+
+        source.append("            if (this == object) {\n")
+                .append("                return true;\n")
+                .append("            } else if (!(object instanceof ").append(annotationName)
+                .append(")) {\n")
+                .append("                return false;\n")
+                .append("            }\n\n")
+                .append("            ").append(annotationName).append(" that = (")
+                .append(annotationName).append(") object;\n")
+                .append("            return ");
+        for (int i = 0, n = members.size(); i < n; i++) {
+            ExecutableElement member = members.get(i);
+            String value = "this." + member.getSimpleName();
+            String otherValue = "that." + member.getSimpleName() + "()";
+
+            source.append(i == 0 ? "" : "\n                    && ");
+            switch (member.getReturnType().getKind()) {
+                case ARRAY:
+                    source.append("java.util.Arrays.equals(").append(value).append(", ")
+                            .append(otherValue).append(')');
+                    break;
+                case FLOAT:
+                    source.append("Float.floatToIntBits(").append(value)
+                            .append(") == Float.floatToIntBits(").append(otherValue).append(')');
+                    break;
+                case DOUBLE:
+                    source.append("Double.doubleToLongBits(").append(value)
+                            .append(") == Double.doubleToLongBits(").append(otherValue)
+                            .append(')');
+                    break;
+                default:
+                    if (member.getReturnType().getKind().isPrimitive()) {
+                        source.append(value).append(" == ").append(otherValue);
+                    } else {
+                        source.append(value).append(".equals(").append(otherValue).append(')');
+                    }
+                    break;
+            }
+        }
+        source.append(";\n        }\n");
+    }
+
+    /**
+     * Follows {@link java.lang.annotation.Annotation#hashCode()}, the sum of
+     * {@code (127 * name.hashCode()) ^ valueHashCode} over all the members.
+     */
+    private void appendHashCode(final StringBuilder source,
+            final List<ExecutableElement> members) {
+        source.append("\n        @Override\n")
+                .append("        public int hashCode() {\n")
+                .append("            int hashCode = 0;\n");
+        for (ExecutableElement member : members) {
+            String value = "this." + member.getSimpleName();
+            String valueHashCode;
+            if (member.getReturnType().getKind() == TypeKind.ARRAY) {
+                valueHashCode = "java.util.Arrays.hashCode(" + value + ")";
+            } else if (member.getReturnType().getKind().isPrimitive()) {
+                valueHashCode = "((Object) " + value + ").hashCode()";
+            } else {
+                valueHashCode = value + ".hashCode()";
+            }
+
+            int nameHashCode = 127 * member.getSimpleName().toString().hashCode();
+            source.append("            hashCode += ").append(nameHashCode).append(" ^ ")
+                    .append(valueHashCode).append(";\n");
+        }
+        source.append("            return hashCode;\n        }\n");
+    }
+
+    private void appendToString(final StringBuilder source, final List<ExecutableElement> members,
+            final String annotationName) {
+        source.append("\n        @Override\n")
+                .append("        public String toString() {\n")
+                .append("            return \"@").append(annotationName).append('(');
+        for (int i = 0, n = members.size(); i < n; i++) {
+            ExecutableElement member = members.get(i);
+            String value = "this." + member.getSimpleName();
+            if (member.getReturnType().getKind() == TypeKind.ARRAY) {
+                value = "java.util.Arrays.toString(" + value + ")";
+            }
+            source.append(i == 0 ? "" : ", ").append(member.getSimpleName()).append("=\"\n")
+                    .append("                    + ").append(value).append(" + \"");
+        }
+        source.append(")\";\n        }\n");
+    }
+
+    private String getArguments(final TypeElement annotationType,
+            final Map<ExecutableElement, AnnotationValue> values)
+                    throws UnsupportedControllerException {
+        StringBuilder arguments = new StringBuilder();
+
+        // Constructor parameters follow the declaration order of the members.
+        List<ExecutableElement> members = ElementFilter.methodsIn(
+                annotationType.getEnclosedElements());
+        for (int i = 0, n = members.size(); i < n; i++) {
+            ExecutableElement member = members.get(i);
+            AnnotationValue value = values.get(member);
+            if (value == null) {
+                throw new UnsupportedControllerException(String.format(
+                        "no value for '%s'.", member.getSimpleName()));
+            }
+            arguments.append(i == 0 ? "" : ", ")
+                    .append(toLiteral(value, member.getReturnType()));
+        }
+        return arguments.toString();
+    }
+
+    private String toLiteral(final AnnotationValue value, final TypeMirror type)
+            throws UnsupportedControllerException {
+        String literal = value.accept(new LiteralVisitor(type), null);
+        if (literal == null) {
+            throw new UnsupportedControllerException(String.format(
+                    "annotation value '%s' is not supported.", value));
+        }
+        return literal;
+    }
+
+    private boolean hasOrderedFields(final List<FieldModel> fields) {
+        return fields.size() == 1 ? fields.get(0).order != null
+                : fields.size() != 0 && allOrdered(fields);
+    }
+
+    private boolean allOrdered(final List<FieldModel> fields) {
+        for (FieldModel field : fields) {
+            if (field.order == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isAccessible(final Element element, final String binderPackage) {
+        Set<Modifier> modifiers = element.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return element.getKind() != ElementKind.CLASS
+                    && element.getKind() != ElementKind.ANNOTATION_TYPE
+                    || isAccessibleEnclosure(element, binderPackage);
+        }
+        return !modifiers.contains(Modifier.PRIVATE)
+                && binderPackage.equals(getPackageName(element));
+    }
+
+    private boolean isAccessibleEnclosure(final Element element, final String binderPackage) {
+        Element enclosing = element.getEnclosingElement();
+        return enclosing == null || enclosing.getKind() == ElementKind.PACKAGE
+                || isAccessible(enclosing, binderPackage);
+    }
+
+    private boolean isSubtype(final TypeElement type, final String superTypeName) {
+        TypeMirror superType = getTypeMirror(superTypeName);
+        return superType != null && mTypes.isSubtype(mTypes.erasure(type.asType()), superType);
+    }
+
+    private TypeMirror getTypeMirror(final String qualifiedName) {
+        TypeElement typeElement = mElements.getTypeElement(qualifiedName);
+        return typeElement != null ? mTypes.erasure(typeElement.asType()) : null;
+    }
+
+    private TypeElement getSuperclass(final TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED
+                ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+
+    private String getPackageName(final Element element) {
+        PackageElement packageElement = mElements.getPackageOf(element);
+        return packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    }
+
+    private static Object getAttributeValue(final AnnotationMirror annotation,
+            final String attributeName) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : annotation.getElementValues().entrySet()) {
+            if (attributeName.contentEquals(entry.getKey().getSimpleName())) {
+                return entry.getValue().getValue();
+            }
+        }
+        for (ExecutableElement member : ElementFilter.methodsIn(
+                annotation.getAnnotationType().asElement().getEnclosedElements())) {
+            if (attributeName.contentEquals(member.getSimpleName())
+                    && member.getDefaultValue() != null) {
+                return member.getDefaultValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String quote(final String value, final char quote) {
+        StringBuilder quoted = new StringBuilder().append(quote);
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\': quoted.append("\\\\"); break;
+                case '\n': quoted.append("\\n"); break;
+                case '\r': quoted.append("\\r"); break;
+                case '\t': quoted.append("\\t"); break;
+                case '"': quoted.append(quote == '"' ? "\\\"" : "\""); break;
+                case '\'': quoted.append(quote == '\'' ? "\\'" : "'"); break;
+                default:
+                    if (c < ' ' || c > '~') {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                    break;
+            }
+        }
+        return quoted.append(quote).toString();
+    }
+
+    /**
+     * Converts annotation values to Java source literals, returns null for annotation-typed
+     * values which are not supported.
+     */
+    private final class LiteralVisitor extends SimpleAnnotationValueVisitor6<String, Void> {
+        private final TypeMirror mType;
+
+        LiteralVisitor(final TypeMirror type) {
+            mType = type;
+        }
+
+        @Override
+        public String visitBoolean(final boolean b, final Void unused) {
+            return String.valueOf(b);
+        }
+
+        @Override
+        public String visitByte(final byte b, final Void unused) {
+            return "(byte) " + b;
+        }
+
+        @Override
+        public String visitChar(final char c, final Void unused) {
+            return quote(String.valueOf(c), '\'');
+        }
+
+        @Override
+        public String visitDouble(final double d, final Void unused) {
+            if (Double.isNaN(d)) {
+                return "Double.NaN";
+            } else if (Double.isInfinite(d)) {
+                return d > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+            }
+            return d + "d";
+        }
+
+        @Override
+        public String visitFloat(final float f, final Void unused) {
+            if (Float.isNaN(f)) {
+                return "Float.NaN";
+            } else if (Float.isInfinite(f)) {
+                return f > 0 ? "Float.POSITIVE_INFINITY" : "Float.NEGATIVE_INFINITY";
+            }
+            return f + "f";
+        }
+
+        @Override
+        public String visitInt(final int i, final Void unused) {
+            return i == Integer.MIN_VALUE ? "Integer.MIN_VALUE" : String.valueOf(i);
+        }
+
+        @Override
+        public String visitLong(final long i, final Void unused) {
+            return i == Long.MIN_VALUE ? "Long.MIN_VALUE" : i + "L";
+        }
+
+        @Override
+        public String visitShort(final short s, final Void unused) {
+            return "(short) " + s;
+        }
+
+        @Override
+        public String visitString(final String s, final Void unused) {
+            return quote(s, '"');
+        }
+
+        @Override
+        public String visitType(final TypeMirror t, final Void unused) {
+            return mTypes.erasure(t) + ".class";
+        }
+
+        @Override
+        public String visitEnumConstant(final VariableElement c, final Void unused) {
+            return ((TypeElement) c.getEnclosingElement()).getQualifiedName() + "."
+                    + c.getSimpleName();
+        }
+
+        @Override
+        public String visitArray(final List<? extends AnnotationValue> values,
+                final Void unused) {
+            if (mType.getKind() != TypeKind.ARRAY) {
+                return null;
+            }
+            TypeMirror componentType = ((ArrayType) mType).getComponentType();
+            StringBuilder array = new StringBuilder("new ")
+                    .append(mTypes.erasure(componentType)).append("[] {");
+            for (int i = 0, n = values.size(); i < n; i++) {
+                String literal = values.get(i).accept(new LiteralVisitor(componentType), null);
+                if (literal == null) {
+                    return null;
+                }
+                array.append(i == 0 ? "" : ", ").append(literal);
+            }
+            return array.append('}').toString();
+        }
+
+        @Override
+        protected String defaultAction(final Object o, final Void unused) {
+            return null;
+        }
+    }
+
+    private static final class FieldModel {
+        final VariableElement field;
+        final TypeElement declaringType;
+        final Integer order;
+        final List<RuleModel> rules;
+
+        FieldModel(final VariableElement field, final TypeElement declaringType,
+                final Integer order, final List<RuleModel> rules) {
+            this.field = field;
+            this.declaringType = declaringType;
+            this.order = order;
+            this.rules = rules;
+        }
+    }
+
+    private static final class RuleModel {
+        final TypeElement annotationType;
+        final TypeElement ruleType;
+        final boolean contextual;
+        final Map<ExecutableElement, AnnotationValue> values;
+        final int sequence;
+
+        RuleModel(final TypeElement annotationType, final TypeElement ruleType,
+                final boolean contextual, final Map<ExecutableElement, AnnotationValue> values,
+                final int sequence) {
+            this.annotationType = annotationType;
+            this.ruleType = ruleType;
+            this.contextual = contextual;
+            this.values = values;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final class UnsupportedControllerException extends Exception {
+        UnsupportedControllerException(final String message) {
+            super(message);
+        }
+    }
+}
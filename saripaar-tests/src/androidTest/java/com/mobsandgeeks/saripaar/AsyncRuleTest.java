@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import android.os.SystemClock;
+import android.test.InstrumentationTestCase;
+import android.view.View;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request coalescing and timeouts of {@link AsyncRule}s.
+ */
+public class AsyncRuleTest extends InstrumentationTestCase {
+    private static final long TIMEOUT_MILLIS = 50;
+
+    private UsernameRule mUsernameRule;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        Validator.registerAnnotation(Username.class);
+        mUsernameRule = new UsernameRule(
+                Form.class.getDeclaredField("usernameEditText").getAnnotation(Username.class));
+    }
+
+    public void testRequestsForEqualValuesAreCoalesced() {
+        RecordingCallback firstCallback = new RecordingCallback();
+        RecordingCallback secondCallback = new RecordingCallback();
+        mUsernameRule.request("jane", firstCallback);
+        mUsernameRule.request("jane", secondCallback);
+        mUsernameRule.request("john", new RecordingCallback());
+
+        assertEquals(2, mUsernameRule.mCallbacks.size());
+        assertEquals(2, mUsernameRule.getPendingRequestCount());
+
+        mUsernameRule.mCallbacks.get(0).onResult(true);
+        assertEquals("[true]", firstCallback.mResults.toString());
+        assertEquals("[true]", secondCallback.mResults.toString());
+        assertEquals(1, mUsernameRule.getPendingRequestCount());
+    }
+
+    public void testCancelDropsRequestWithoutCallbacks() {
+        RecordingCallback firstCallback = new RecordingCallback();
+        RecordingCallback secondCallback = new RecordingCallback();
+        mUsernameRule.request("jane", firstCallback);
+        mUsernameRule.request("jane", secondCallback);
+
+        mUsernameRule.cancel("jane", firstCallback);
+        assertEquals(1, mUsernameRule.getPendingRequestCount());
+        mUsernameRule.cancel("jane", secondCallback);
+        assertEquals(0, mUsernameRule.getPendingRequestCount());
+
+        // Late results are ignored.
+        mUsernameRule.mCallbacks.get(0).onResult(true);
+        assertEquals(0, firstCallback.mResults.size());
+        assertEquals(0, secondCallback.mResults.size());
+    }
+
+    public void testBlockingTimeoutDropsRequest() {
+        for (int i = 0; i < 3; i++) {
+            assertFalse(mUsernameRule.isValid("user" + i));
+        }
+        assertEquals(3, mUsernameRule.mCallbacks.size());
+        assertEquals(0, mUsernameRule.getPendingRequestCount());
+    }
+
+    public void testValidatorTimeoutDropsRequest() {
+        final Form form = new Form();
+        final List<Rule> failedRules = new ArrayList<Rule>();
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                form.usernameEditText = new EditText(getInstrumentation().getTargetContext());
+                Validator validator = new Validator(form);
+                validator.setValidationListener(new Validator.ValidationListener() {
+
+                    @Override
+                    public void onValidationSucceeded(final boolean ultimate) {
+                    }
+
+                    @Override
+                    public void onTargetedValidationSucceeded(final View view,
+                            final boolean ultimate) {
+                    }
+
+                    @Override
+                    public void onValidationFailed(final List<ValidationError> errors,
+                            final boolean ultimate) {
+                        failedRules.addAll(errors.get(0).getFailedRules());
+                    }
+                });
+
+                for (int i = 0; i < 3; i++) {
+                    form.usernameEditText.setText("user" + i);
+                    validator.validate(true);
+                }
+            }
+        });
+
+        SystemClock.sleep(TIMEOUT_MILLIS * 2);
+        getInstrumentation().waitForIdleSync();
+
+        // Every pass supersedes the previous one, only the last pass is reported.
+        assertEquals(1, failedRules.size());
+        UsernameRule usernameRule = (UsernameRule) failedRules.get(0);
+        assertEquals(3, usernameRule.mCallbacks.size());
+        assertEquals(0, usernameRule.getPendingRequestCount());
+    }
+
+    @ValidateUsing(UsernameRule.class)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    public @interface Username {
+        int sequence()          default -1;
+        int messageResId()      default -1;
+        String message()        default "Username is taken";
+    }
+
+    public static class UsernameRule extends AsyncRule<Username, String> {
+        final List<Callback> mCallbacks = new ArrayList<Callback>();
+
+        public UsernameRule(final Username username) {
+            super(username);
+        }
+
+        @Override
+        public void isValid(final String username, final Callback callback) {
+            // Never answers on its own, results are delivered by the tests.
+            synchronized (mCallbacks) {
+                mCallbacks.add(callback);
+            }
+        }
+
+        @Override
+        public long getTimeoutMillis() {
+            return TIMEOUT_MILLIS;
+        }
+    }
+
+    static class Form {
+        @Username EditText usernameEditText;
+    }
+
+    static class RecordingCallback implements AsyncRule.Callback {
+        final List<Boolean> mResults = new ArrayList<Boolean>();
+
+        @Override
+        public void onResult(final boolean valid) {
+            mResults.add(valid);
+        }
+    }
+}
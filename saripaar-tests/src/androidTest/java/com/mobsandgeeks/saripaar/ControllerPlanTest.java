@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Covers the process-wide {@link ControllerPlan} cache, {@link Validator#evictPlan(Class)},
+ * {@link Validator#clearPlanCache()} and {@link Validator#prewarm(Executor, Class[])}.
+ */
+public class ControllerPlanTest extends TestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        Validator.clearPlanCache();
+    }
+
+    public void testPlanIsCompiledOnce() {
+        ControllerPlan plan = Validator.getControllerPlan(Form.class);
+        assertEquals(2, plan.fieldPlans.length);
+        assertSame(plan, Validator.getControllerPlan(Form.class));
+    }
+
+    public void testEvictPlan() {
+        ControllerPlan plan = Validator.getControllerPlan(Form.class);
+        assertTrue(Validator.evictPlan(Form.class));
+        assertFalse(Validator.evictPlan(Form.class));
+        assertNotSame(plan, Validator.getControllerPlan(Form.class));
+    }
+
+    public void testClearPlanCache() {
+        ControllerPlan plan = Validator.getControllerPlan(Form.class);
+        Validator.clearPlanCache();
+        assertNotSame(plan, Validator.getControllerPlan(Form.class));
+    }
+
+    public void testRegistrationDiscardsStalePlans() {
+        ControllerPlan plan = Validator.getControllerPlan(Form.class);
+        Validator.registerAnnotation(NotEmpty.class);
+        ControllerPlan recompiledPlan = Validator.getControllerPlan(Form.class);
+        assertNotSame(plan, recompiledPlan);
+        assertTrue(recompiledPlan.registryVersion > plan.registryVersion);
+    }
+
+    public void testPutKeepsPlanOfSameVersion() {
+        ControllerPlan cachedPlan = newPlan(1);
+        assertSame(cachedPlan, ControllerPlan.put(Form.class, cachedPlan));
+        assertSame(cachedPlan, ControllerPlan.put(Form.class, newPlan(1)));
+        assertSame(cachedPlan, ControllerPlan.get(Form.class, 1));
+    }
+
+    public void testPutReplacesOlderPlan() {
+        ControllerPlan.put(Form.class, newPlan(1));
+        ControllerPlan newerPlan = newPlan(2);
+        assertSame(newerPlan, ControllerPlan.put(Form.class, newerPlan));
+        assertSame(newerPlan, ControllerPlan.get(Form.class, 2));
+    }
+
+    public void testPutNeverReplacesNewerPlan() {
+        ControllerPlan newerPlan = newPlan(2);
+        ControllerPlan.put(Form.class, newerPlan);
+        assertSame(newerPlan, ControllerPlan.put(Form.class, newPlan(1)));
+        assertSame(newerPlan, ControllerPlan.get(Form.class, 2));
+    }
+
+    public void testPrewarmCachesPlan() {
+        Validator.prewarm(new Executor() {
+
+            @Override
+            public void execute(final Runnable command) {
+                command.run();
+            }
+        }, Form.class, null);
+        assertTrue(Validator.evictPlan(Form.class));
+    }
+
+    public void testPrewarmRunsOnExecutor() {
+        final List<Runnable> tasks = new ArrayList<Runnable>();
+        Validator.prewarm(new Executor() {
+
+            @Override
+            public void execute(final Runnable command) {
+                tasks.add(command);
+            }
+        }, Form.class);
+        assertEquals(1, tasks.size());
+        assertFalse(Validator.evictPlan(Form.class));
+
+        tasks.get(0).run();
+        assertTrue(Validator.evictPlan(Form.class));
+    }
+
+    private ControllerPlan newPlan(final int registryVersion) {
+        return new ControllerPlan(new ControllerPlan.FieldPlan[0], false, registryVersion);
+    }
+
+    // Private fields, the compiler does not generate a binder and the plan is compiled using reflection.
+    static class Form {
+        @NotEmpty private EditText nameEditText;
+        @Email private EditText emailEditText;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import android.test.InstrumentationTestCase;
+import android.util.Pair;
+import android.view.View;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+import com.mobsandgeeks.saripaar.annotation.ConfirmPassword;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.rule.ConfirmPasswordRule;
+import com.mobsandgeeks.saripaar.rule.EmailRule;
+import com.mobsandgeeks.saripaar.rule.NotEmptyRule;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rule flags of a compiled {@link ExecutionPlan}.
+ */
+public class ExecutionPlanTest extends InstrumentationTestCase {
+
+    public void testRuleFlags() throws Exception {
+        AnnotationRule emailRule = new EmailRule(getAnnotation("emailEditText", Email.class));
+        AnnotationRule confirmPasswordRule = new ConfirmPasswordRule(
+                getAnnotation("confirmPasswordEditText", ConfirmPassword.class),
+                new ValidationContext());
+        AnnotationRule usernameRule = new AsyncRuleTest.UsernameRule(
+                AsyncRuleTest.Form.class.getDeclaredField("usernameEditText")
+                        .getAnnotation(AsyncRuleTest.Username.class));
+        AnnotationRule notEmptyRule = new NotEmptyRule(
+                getAnnotation("nameEditText", NotEmpty.class), new ValidationContext());
+
+        EditText editText = new EditText(getInstrumentation().getTargetContext());
+        Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap =
+                new LinkedHashMap<View, ArrayList<Pair<Rule, ViewDataAdapter>>>();
+        ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs =
+                new ArrayList<Pair<Rule, ViewDataAdapter>>();
+        ruleAdapterPairs.add(new Pair<Rule, ViewDataAdapter>(emailRule, null));
+        ruleAdapterPairs.add(new Pair<Rule, ViewDataAdapter>(confirmPasswordRule, null));
+        ruleAdapterPairs.add(new Pair<Rule, ViewDataAdapter>(usernameRule, null));
+        ruleAdapterPairs.add(new Pair<Rule, ViewDataAdapter>(notEmptyRule, null));
+        viewRulesMap.put(editText, ruleAdapterPairs);
+
+        ExecutionPlan executionPlan = ExecutionPlan.compile(viewRulesMap);
+        assertTrue(executionPlan.hasAsyncRules);
+
+        int emailFlags = executionPlan.flags[0];
+        assertTrue((emailFlags & ExecutionPlan.FLAG_CACHEABLE) != 0);
+        assertEquals(0, emailFlags & ExecutionPlan.FLAG_CONTEXTUAL);
+
+        int confirmPasswordFlags = executionPlan.flags[1];
+        assertTrue((confirmPasswordFlags & ExecutionPlan.FLAG_CONTEXTUAL) != 0);
+        assertEquals(0, confirmPasswordFlags & ExecutionPlan.FLAG_CACHEABLE);
+
+        // Asynchronous rules are neither cacheable nor contextual.
+        int usernameFlags = executionPlan.flags[2];
+        assertTrue((usernameFlags & ExecutionPlan.FLAG_ASYNC_RULE) != 0);
+        assertEquals(0, usernameFlags & ExecutionPlan.FLAG_CONTEXTUAL);
+        assertEquals(0, usernameFlags & ExecutionPlan.FLAG_CACHEABLE);
+
+        // Contextual, but does not read other views
+        int notEmptyFlags = executionPlan.flags[3];
+        assertTrue((notEmptyFlags & ExecutionPlan.FLAG_CACHEABLE) != 0);
+        assertEquals(0, notEmptyFlags & ExecutionPlan.FLAG_CONTEXTUAL);
+    }
+
+    private <T extends Annotation> T getAnnotation(final String fieldName,
+            final Class<T> annotationType) throws NoSuchFieldException {
+        return Form.class.getDeclaredField(fieldName).getAnnotation(annotationType);
+    }
+
+    static class Form {
+        @Email private EditText emailEditText;
+        @NotEmpty private EditText nameEditText;
+        @ConfirmPassword private EditText confirmPasswordEditText;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.content.Context;
+import android.test.InstrumentationTestCase;
+import android.util.Log;
+import android.view.View;
+import android.widget.CheckBox;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.annotation.Checked;
+import com.mobsandgeeks.saripaar.annotation.ConfirmPassword;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.Max;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Password;
+import com.mobsandgeeks.saripaar.annotation.Pattern;
+import com.mobsandgeeks.saripaar.annotation.Size;
+import com.mobsandgeeks.saripaar.annotation.Url;
+
+import java.util.List;
+
+/**
+ * Opens 30 forms in sequence, with and without the {@link Reflector} memos, and logs the
+ * steady-state average cost of opening a form. The rule plan cache is cleared before every form, so that each
+ * form goes through the same introspection as a form class that is opened for the first time.
+ */
+public class ReflectorMemoBenchmark extends InstrumentationTestCase {
+    private static final String TAG = "ReflectorMemoBenchmark";
+    private static final int FORMS = 30;
+    private static final int ROUNDS = 5;
+
+    private Form mForm;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mForm = new Form(getInstrumentation().getTargetContext());
+            }
+        });
+    }
+
+    public void testOpenFormsInSequence() {
+        final long[] elapsedNanos = { Long.MAX_VALUE, Long.MAX_VALUE };
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                // Warm up class loading and the JIT
+                openForms(true);
+                openForms(false);
+
+                for (int i = 0; i < ROUNDS; i++) {
+                    elapsedNanos[0] = Math.min(elapsedNanos[0], openForms(true));
+                    elapsedNanos[1] = Math.min(elapsedNanos[1], openForms(false));
+                }
+            }
+        });
+
+        long coldAverageMicros = elapsedNanos[0] / FORMS / 1000;
+        long memoizedAverageMicros = elapsedNanos[1] / FORMS / 1000;
+        Log.i(TAG, String.format("Average per form: %dus without memos, %dus with memos.",
+                coldAverageMicros, memoizedAverageMicros));
+
+        // Memoized lookups must return what a cold lookup returns
+        Reflector.clearMemos();
+        Class<?> coldDataType = Reflector.getRuleDataType(
+                Reflector.getValidateUsingAnnotation(NotEmpty.class));
+        assertEquals(coldDataType, Reflector.getRuleDataType(
+                Reflector.getValidateUsingAnnotation(NotEmpty.class)));
+        assertEquals(String.class, coldDataType);
+    }
+
+    private long openForms(final boolean clearMemos) {
+        long start = System.nanoTime();
+        for (int i = 0; i < FORMS; i++) {
+            Validator.clearPlanCache();
+            if (clearMemos) {
+                Reflector.clearMemos();
+            }
+
+            Validator validator = new Validator(mForm);
+            validator.setValidationListener(NO_OP_LISTENER);
+            validator.validate(true);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static final Validator.ValidationListener NO_OP_LISTENER =
+            new Validator.ValidationListener() {
+
+                @Override
+                public void onValidationSucceeded(final boolean ultimate) {
+                }
+
+                @Override
+                public void onTargetedValidationSucceeded(final View view,
+                        final boolean ultimate) {
+                }
+
+                @Override
+                public void onValidationFailed(final List<ValidationError> errors,
+                        final boolean ultimate) {
+                }
+            };
+
+    // Private fields, the compiler does not generate a binder and the form goes through reflection.
+    static class Form {
+        @NotEmpty @Size(min = 3) private EditText nameEditText;
+        @NotEmpty @Email private EditText emailEditText;
+        @Password private EditText passwordEditText;
+        @ConfirmPassword private EditText confirmPasswordEditText;
+        @Pattern(regex = "\\d{6}") private EditText zipCodeEditText;
+        @Max(150) private EditText ageEditText;
+        @Url private EditText websiteEditText;
+        @Checked private CheckBox termsCheckBox;
+
+        Form(final Context context) {
+            nameEditText = new EditText(context);
+            emailEditText = new EditText(context);
+            passwordEditText = new EditText(context);
+            confirmPasswordEditText = new EditText(context);
+            zipCodeEditText = new EditText(context);
+            ageEditText = new EditText(context);
+            ageEditText.setText("30");
+            websiteEditText = new EditText(context);
+            termsCheckBox = new CheckBox(context);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import android.test.InstrumentationTestCase;
+import android.util.Pair;
+import android.view.View;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Packing of tokens and results in {@link RuleResultCache} entries.
+ */
+public class RuleResultCacheTest extends InstrumentationTestCase {
+    private RuleResultCache mRuleResultCache;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap =
+                new LinkedHashMap<View, ArrayList<Pair<Rule, ViewDataAdapter>>>();
+        ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs =
+                new ArrayList<Pair<Rule, ViewDataAdapter>>();
+        ruleAdapterPairs.add(new Pair<Rule, ViewDataAdapter>(
+                new RuleSchedulerTest.SequencedRule(-1), null));
+        ruleAdapterPairs.add(new Pair<Rule, ViewDataAdapter>(
+                new RuleSchedulerTest.SequencedRule(-1), null));
+        viewRulesMap.put(new EditText(getInstrumentation().getTargetContext()), ruleAdapterPairs);
+        mRuleResultCache = new RuleResultCache(ExecutionPlan.compile(viewRulesMap));
+    }
+
+    public void testEmptyEntriesAreUnknown() {
+        assertEquals(RuleResultCache.UNKNOWN, mRuleResultCache.get(0, 0));
+        assertEquals(RuleResultCache.UNKNOWN, mRuleResultCache.get(1, 7));
+    }
+
+    public void testResultsArePackedWithTheirToken() {
+        mRuleResultCache.put(0, 0, false);
+        mRuleResultCache.put(1, 7, true);
+
+        // An invalid result for token 0 packs to 0, it must not read as an empty entry.
+        assertEquals(RuleResultCache.INVALID, mRuleResultCache.get(0, 0));
+        assertEquals(RuleResultCache.VALID, mRuleResultCache.get(1, 7));
+        assertEquals(RuleResultCache.UNKNOWN, mRuleResultCache.get(0, 1));
+        assertEquals(RuleResultCache.UNKNOWN, mRuleResultCache.get(1, 6));
+
+        mRuleResultCache.put(1, 8, false);
+        assertEquals(RuleResultCache.INVALID, mRuleResultCache.get(1, 8));
+        assertEquals(RuleResultCache.UNKNOWN, mRuleResultCache.get(1, 7));
+    }
+
+    public void testLargeTokens() {
+        long largeToken = Long.MAX_VALUE >> 1;
+        mRuleResultCache.put(0, largeToken, true);
+        mRuleResultCache.put(1, largeToken - 1, false);
+
+        assertEquals(RuleResultCache.VALID, mRuleResultCache.get(0, largeToken));
+        assertEquals(RuleResultCache.INVALID, mRuleResultCache.get(1, largeToken - 1));
+        assertEquals(RuleResultCache.UNKNOWN, mRuleResultCache.get(0, largeToken - 1));
+    }
+
+    public void testConcurrentWritersNeverMixTokensAndResults() throws InterruptedException {
+        final int nWriters = 4;
+        final int nWrites = 20000;
+        final AtomicInteger mismatches = new AtomicInteger();
+        Thread[] threads = new Thread[nWriters + 1];
+
+        for (int w = 0; w < nWriters; w++) {
+            final int writer = w;
+            threads[w] = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    // Even tokens are valid, odd tokens are invalid.
+                    for (int i = 0; i < nWrites; i++) {
+                        long token = i * nWriters + writer;
+                        mRuleResultCache.put(0, token, token % 2 == 0);
+                    }
+                }
+            });
+        }
+        threads[nWriters] = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                for (long token = 0; token < nWrites * nWriters; token++) {
+                    int result = mRuleResultCache.get(0, token);
+                    int expectedResult = token % 2 == 0
+                            ? RuleResultCache.VALID : RuleResultCache.INVALID;
+                    if (result != RuleResultCache.UNKNOWN && result != expectedResult) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            }
+        });
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, mismatches.get());
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.test.InstrumentationTestCase;
+import android.util.Pair;
+import android.view.View;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+import com.mobsandgeeks.saripaar.annotation.Order;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adaptive rule ordering with {@link RuleScheduler}.
+ */
+public class RuleSchedulerTest extends InstrumentationTestCase {
+    private static final int PASSES_PER_REORDER = 8;
+
+    public void testInitialOrderIsDeclarationOrder() {
+        RuleScheduler ruleScheduler = new RuleScheduler(newExecutionPlan(-1, -1, -1));
+        assertOrder(ruleScheduler, 0, 1, 2);
+    }
+
+    public void testCheapFailingRulesMoveAhead() {
+        RuleScheduler ruleScheduler = new RuleScheduler(newExecutionPlan(-1, -1, -1));
+        recordSamples(ruleScheduler, 0, 10000, false);
+        recordSamples(ruleScheduler, 1, 1000, false);
+        recordSamples(ruleScheduler, 2, 100, true);
+
+        startPasses(ruleScheduler, PASSES_PER_REORDER - 1);
+        assertOrder(ruleScheduler, 0, 1, 2);
+        startPasses(ruleScheduler, 1);
+        assertOrder(ruleScheduler, 2, 1, 0);
+    }
+
+    public void testSequencedRulesNeverMove() {
+        RuleScheduler ruleScheduler = new RuleScheduler(newExecutionPlan(-1, 1, -1, 2));
+        recordSamples(ruleScheduler, 0, 10000, false);
+        recordSamples(ruleScheduler, 1, 1, true);
+        recordSamples(ruleScheduler, 2, 1000, false);
+        recordSamples(ruleScheduler, 3, 1, true);
+
+        startPasses(ruleScheduler, PASSES_PER_REORDER);
+        assertOrder(ruleScheduler, 2, 1, 0, 3);
+    }
+
+    public void testRulesStayWithTheirView() {
+        EditText firstEditText = new EditText(getInstrumentation().getTargetContext());
+        EditText secondEditText = new EditText(getInstrumentation().getTargetContext());
+        Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap =
+                new LinkedHashMap<View, ArrayList<Pair<Rule, ViewDataAdapter>>>();
+        viewRulesMap.put(firstEditText, newRules(-1, -1));
+        viewRulesMap.put(secondEditText, newRules(-1, -1));
+
+        RuleScheduler ruleScheduler = new RuleScheduler(ExecutionPlan.compile(viewRulesMap));
+        recordSamples(ruleScheduler, 0, 1000, false);
+        recordSamples(ruleScheduler, 1, 1000, false);
+        recordSamples(ruleScheduler, 2, 1000, false);
+        recordSamples(ruleScheduler, 3, 1, true);
+
+        startPasses(ruleScheduler, PASSES_PER_REORDER);
+        assertOrder(ruleScheduler, 0, 1, 3, 2);
+    }
+
+    public void testImmediateReportsSameErrorsAsDeclarationOrder() {
+        final List<String> failedRules = new ArrayList<String>();
+        Form form = new Form();
+        form.nameEditText = new EditText(getInstrumentation().getTargetContext());
+        form.codeEditText = new EditText(getInstrumentation().getTargetContext());
+        Validator validator = new Validator(form);
+        validator.setAdaptiveRuleOrdering(true);
+        validator.setValidationMode(Validator.Mode.IMMEDIATE);
+        validator.put(form.nameEditText, new TimedQuickRule("slow", 2, false),
+                new TimedQuickRule("fast", 0, false), new TimedQuickRule("last", 0, true));
+        validator.put(form.codeEditText, new TimedQuickRule("code", 0, false));
+        validator.setValidationListener(new Validator.ValidationListener() {
+
+            @Override
+            public void onValidationSucceeded(final boolean ultimate) {
+                failedRules.add("none");
+            }
+
+            @Override
+            public void onTargetedValidationSucceeded(final View view, final boolean ultimate) {
+                failedRules.add("none");
+            }
+
+            @Override
+            public void onValidationFailed(final List<ValidationError> errors,
+                    final boolean ultimate) {
+                StringBuilder names = new StringBuilder();
+                for (ValidationError error : errors) {
+                    names.append(names.length() == 0 ? "" : "|");
+                    for (Rule rule : error.getFailedRules()) {
+                        names.append(((TimedQuickRule) rule).mName).append(',');
+                    }
+                }
+                failedRules.add(names.toString());
+            }
+        });
+
+        // All the failures of the name view are reported, its last rule passes so the pass
+        // goes on to the code view, as without adaptive ordering.
+        for (int i = 0; i < PASSES_PER_REORDER * 3; i++) {
+            validator.validate(false, true);
+        }
+        for (String failedRule : failedRules) {
+            assertEquals("slow,fast,|code,", failedRule);
+        }
+        assertEquals(PASSES_PER_REORDER * 3, failedRules.size());
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private ExecutionPlan newExecutionPlan(final int... sequences) {
+        Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap =
+                new LinkedHashMap<View, ArrayList<Pair<Rule, ViewDataAdapter>>>();
+        viewRulesMap.put(new EditText(getInstrumentation().getTargetContext()),
+                newRules(sequences));
+        return ExecutionPlan.compile(viewRulesMap);
+    }
+
+    private ArrayList<Pair<Rule, ViewDataAdapter>> newRules(final int... sequences) {
+        ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs =
+                new ArrayList<Pair<Rule, ViewDataAdapter>>();
+        for (int sequence : sequences) {
+            ruleAdapterPairs.add(new Pair<Rule, ViewDataAdapter>(new SequencedRule(sequence),
+                    null));
+        }
+        return ruleAdapterPairs;
+    }
+
+    private void recordSamples(final RuleScheduler ruleScheduler, final int ruleIndex,
+            final long costNanos, final boolean failed) {
+        for (int i = 0; i < 100; i++) {
+            ruleScheduler.record(ruleIndex, costNanos, failed);
+        }
+    }
+
+    private void startPasses(final RuleScheduler ruleScheduler, final int nPasses) {
+        for (int i = 0; i < nPasses; i++) {
+            ruleScheduler.onPassStarted();
+        }
+    }
+
+    private void assertOrder(final RuleScheduler ruleScheduler, final int... expectedOrder) {
+        int[] order = ruleScheduler.getOrder();
+        assertEquals(expectedOrder.length, order.length);
+        for (int i = 0; i < order.length; i++) {
+            assertEquals("order[" + i + "]", expectedOrder[i], order[i]);
+        }
+    }
+
+    static class Form {
+        @Order(1) EditText nameEditText;
+        @Order(2) EditText codeEditText;
+    }
+
+    static class SequencedRule extends Rule<Object> {
+
+        SequencedRule(final int sequence) {
+            super(sequence);
+        }
+
+        @Override
+        public boolean isValid(final Object object) {
+            return true;
+        }
+
+        @Override
+        public String getMessage(final Context context) {
+            return null;
+        }
+
+        @Override
+        public int getErrorCode() {
+            return -1;
+        }
+    }
+
+    static class TimedQuickRule extends QuickRule<EditText> {
+        final String mName;
+        private final long mCostMillis;
+        private final boolean mValid;
+
+        TimedQuickRule(final String name, final long costMillis, final boolean valid) {
+            mName = name;
+            mCostMillis = costMillis;
+            mValid = valid;
+        }
+
+        @Override
+        public boolean isValid(final EditText editText) {
+            if (mCostMillis > 0) {
+                SystemClock.sleep(mCostMillis);
+            }
+            return mValid;
+        }
+
+        @Override
+        public String getMessage(final Context context) {
+            return mName;
+        }
+
+        @Override
+        public int getErrorCode() {
+            return -1;
+        }
+    }
+}
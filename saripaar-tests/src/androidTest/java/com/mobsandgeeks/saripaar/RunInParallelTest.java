@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import junit.framework.TestCase;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Validator#runInParallel(Runnable, int)} while the shared pool is busy with other work.
+ */
+public class RunInParallelTest extends TestCase {
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private CountDownLatch mBlockersStarted;
+    private CountDownLatch mBlockersReleased;
+    private AtomicInteger mRuns;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mBlockersReleased = new CountDownLatch(1);
+        mRuns = new AtomicInteger();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mBlockersReleased.countDown();
+        super.tearDown();
+    }
+
+    public void testCallerDoesNotWaitForQueuedCopies() throws Exception {
+        blockPoolThreads(Validator.ParallelHolder.PARALLELISM);
+
+        // Every pool thread is busy, the caller does all the work and returns
+        Thread caller = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                Validator.runInParallel(new CountingTask(),
+                        Math.max(Validator.ParallelHolder.PARALLELISM - 1, 1));
+            }
+        });
+        caller.start();
+        caller.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        assertFalse(caller.isAlive());
+        assertEquals(1, mRuns.get());
+    }
+
+    public void testRunFromPoolThreadDoesNotDeadlock() throws Exception {
+        blockPoolThreads(Validator.ParallelHolder.PARALLELISM - 1);
+
+        // The copies are queued behind the pool thread that waits for them
+        Future<Void> future = Validator.ParallelHolder.EXECUTOR.submit(new Callable<Void>() {
+
+            @Override
+            public Void call() {
+                Validator.runInParallel(new CountingTask(), Validator.ParallelHolder.PARALLELISM);
+                return null;
+            }
+        });
+        future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(1, mRuns.get());
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private void blockPoolThreads(final int nThreads) throws InterruptedException {
+        mBlockersStarted = new CountDownLatch(nThreads);
+        for (int i = 0; i < nThreads; i++) {
+            Validator.ParallelHolder.EXECUTOR.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    mBlockersStarted.countDown();
+                    try {
+                        mBlockersReleased.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+        }
+        assertTrue(mBlockersStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    class CountingTask implements Runnable {
+
+        @Override
+        public void run() {
+            mRuns.incrementAndGet();
+        }
+    }
+}
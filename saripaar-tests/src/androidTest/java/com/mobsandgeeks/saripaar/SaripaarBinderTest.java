@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import android.test.InstrumentationTestCase;
+import android.view.View;
+import android.widget.CheckBox;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+import com.mobsandgeeks.saripaar.annotation.Checked;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Pattern;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validates a controller through the {@link SaripaarBinder} generated by the
+ * {@code saripaar-compiler} annotation processor.
+ */
+public class SaripaarBinderTest extends InstrumentationTestCase {
+    private Form mForm;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        Validator.clearPlanCache();
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mForm = new Form();
+                mForm.emailEditText = new EditText(getInstrumentation().getTargetContext());
+                mForm.nameEditText = new EditText(getInstrumentation().getTargetContext());
+                mForm.termsCheckBox = new CheckBox(getInstrumentation().getTargetContext());
+            }
+        });
+    }
+
+    public void testBinderIsGenerated() throws ClassNotFoundException {
+        Class.forName(Form.class.getName() + SaripaarBinder.SUFFIX);
+        assertNotNull(Validator.getControllerPlan(Form.class).binder);
+    }
+
+    public void testValidatesThroughBinder() {
+        final List<String> results = new ArrayList<String>();
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mForm.emailEditText.setText("john@");
+                mForm.nameEditText.setText("John1");
+                results.add(validate());
+
+                mForm.emailEditText.setText("john@example.com");
+                mForm.nameEditText.setText("John");
+                mForm.termsCheckBox.setChecked(true);
+                results.add(validate());
+            }
+        });
+
+        assertEquals("EmailRule,PatternRule,CheckedRule", results.get(0));
+        assertEquals("", results.get(1));
+    }
+
+    public void testGeneratedAnnotationsMatchReflection() throws Exception {
+        final List<AnnotationRule> rules = new ArrayList<AnnotationRule>();
+        final List<View> views = new ArrayList<View>();
+        newBinder().bind(mForm, new ValidationContext(), new SaripaarBinder.Bindings() {
+
+            @Override
+            public void addView(final View view) {
+            }
+
+            @Override
+            public void addRule(final View view, final Class<? extends View> viewType,
+                    final AnnotationRule rule, final ViewDataAdapter dataAdapter) {
+                views.add(view);
+                rules.add(rule);
+            }
+        });
+
+        assertEquals(4, rules.size());
+        for (int i = 0, n = rules.size(); i < n; i++) {
+            Annotation generatedAnnotation = rules.get(i).mRuleAnnotation;
+            Annotation reflectedAnnotation = getField(views.get(i))
+                    .getAnnotation(generatedAnnotation.annotationType());
+
+            assertNotSame(reflectedAnnotation, generatedAnnotation);
+            assertEquals(reflectedAnnotation, generatedAnnotation);
+            assertEquals(generatedAnnotation, reflectedAnnotation);
+            assertEquals(reflectedAnnotation.hashCode(), generatedAnnotation.hashCode());
+            assertTrue(generatedAnnotation.toString().startsWith(
+                    "@" + generatedAnnotation.annotationType().getName() + "("));
+        }
+        assertFalse(rules.get(0).mRuleAnnotation.equals(rules.get(1).mRuleAnnotation));
+    }
+
+    public void testBinderLeavesAdaptersToRegistry() throws Exception {
+        newBinder().bind(mForm, new ValidationContext(), new SaripaarBinder.Bindings() {
+
+            @Override
+            public void addView(final View view) {
+            }
+
+            @Override
+            public void addRule(final View view, final Class<? extends View> viewType,
+                    final AnnotationRule rule, final ViewDataAdapter dataAdapter) {
+                assertNull(dataAdapter);
+            }
+        });
+
+        // Behaves like the stock adapter, so that other tests are not affected by it.
+        final CountingStringAdapter countingAdapter = new CountingStringAdapter();
+        Validator.registerAdapter(EditText.class, countingAdapter);
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                validate();
+            }
+        });
+        assertTrue(countingAdapter.mCount > 0);
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private String validate() {
+        final StringBuilder failedRules = new StringBuilder();
+        Validator validator = new Validator(mForm);
+        validator.setValidationListener(new Validator.ValidationListener() {
+
+            @Override
+            public void onValidationSucceeded(final boolean ultimate) {
+            }
+
+            @Override
+            public void onTargetedValidationSucceeded(final View view, final boolean ultimate) {
+            }
+
+            @Override
+            public void onValidationFailed(final List<ValidationError> errors,
+                    final boolean ultimate) {
+                for (ValidationError error : errors) {
+                    for (Rule rule : error.getFailedRules()) {
+                        failedRules.append(failedRules.length() == 0 ? "" : ",")
+                                .append(rule.getClass().getSimpleName());
+                    }
+                }
+            }
+        });
+        validator.validate(true);
+        return failedRules.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private SaripaarBinder<Form> newBinder() throws Exception {
+        return (SaripaarBinder<Form>) Class.forName(Form.class.getName() + SaripaarBinder.SUFFIX)
+                .newInstance();
+    }
+
+    private Field getField(final View view) throws IllegalAccessException {
+        for (Field field : Form.class.getDeclaredFields()) {
+            if (field.get(mForm) == view) {
+                return field;
+            }
+        }
+        throw new AssertionError("No field for " + view);
+    }
+
+    static class Form {
+        @NotEmpty @Email EditText emailEditText;
+        @Pattern(regex = "[a-z]+", caseSensitive = false) EditText nameEditText;
+        @Checked CheckBox termsCheckBox;
+    }
+
+    static class CountingStringAdapter implements ViewDataAdapter<EditText, String> {
+        int mCount;
+
+        @Override
+        public String getData(final EditText editText) {
+            mCount++;
+            return editText.getText().toString();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import com.mobsandgeeks.saripaar.annotation.Min;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The default pool of the {@link StreamingValidator} and the pool of
+ * {@link Validator#setParallelEvaluation(boolean)} do not block each other.
+ */
+public class StreamingExecutorTest extends TestCase {
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final int N_RECORDS = 1000;
+
+    private CountDownLatch mBlockersReleased;
+    private volatile long mFailedRecords = -1;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mBlockersReleased = new CountDownLatch(1);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mBlockersReleased.countDown();
+        super.tearDown();
+    }
+
+    public void testDefaultPoolIsNotTheParallelPool() {
+        assertNotSame(Validator.ParallelHolder.EXECUTOR, StreamingValidator.ExecutorHolder.EXECUTOR);
+    }
+
+    public void testImportCompletesWhileParallelPoolIsBusy() throws Exception {
+        final CountDownLatch blockersStarted =
+                new CountDownLatch(Validator.ParallelHolder.PARALLELISM);
+        for (int i = 0; i < Validator.ParallelHolder.PARALLELISM; i++) {
+            Validator.ParallelHolder.EXECUTOR.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    blockersStarted.countDown();
+                    try {
+                        mBlockersReleased.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+        }
+        assertTrue(blockersStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        final List<Entry> entries = new ArrayList<Entry>();
+        for (int i = 0; i < N_RECORDS; i++) {
+            entries.add(new Entry(i % 2));
+        }
+        Thread importer = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                StreamingValidator streamingValidator = new StreamingValidator(Entry.class);
+                streamingValidator.setBatchSize(16);
+                mFailedRecords = streamingValidator.validate(entries.iterator(),
+                        new StreamingValidator.FailureListener() {
+
+                            @Override
+                            public void onRecordFailed(final long index, final Object record,
+                                    final List<PropertyError> errors) {
+                                // Counted by validate()
+                            }
+                        });
+            }
+        });
+        importer.setDaemon(true);
+        importer.start();
+        importer.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        assertFalse(importer.isAlive());
+        assertEquals(N_RECORDS / 2, mFailedRecords);
+    }
+
+    static class Entry {
+        @Min(1) final int value;
+
+        Entry(final int value) {
+            this.value = value;
+        }
+    }
+}
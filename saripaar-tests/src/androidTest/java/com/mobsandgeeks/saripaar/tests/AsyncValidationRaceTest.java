@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.test.InstrumentationTestCase;
+import android.view.View;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Races synchronous passes, cancellations and newer asynchronous passes against a slow
+ * asynchronous pass. Only the latest pass may report its result.
+ */
+public class AsyncValidationRaceTest extends InstrumentationTestCase {
+    private static final long TIMEOUT_SECONDS = 5;
+
+    static CountDownLatch sSlowRuleStarted;
+    static CountDownLatch sSlowRuleReleased;
+
+    private Form mForm;
+    private Validator mValidator;
+    private ExecutorService mExecutor;
+    private List<String> mResults;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        sSlowRuleStarted = new CountDownLatch(1);
+        sSlowRuleReleased = new CountDownLatch(1);
+        mResults = new CopyOnWriteArrayList<String>();
+        mExecutor = Executors.newFixedThreadPool(2);
+
+        Validator.registerAnnotation(Slow.class);
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mForm = new Form();
+                mForm.nameEditText = new EditText(getInstrumentation().getTargetContext());
+                mValidator = new Validator(mForm);
+                mValidator.setExecutor(mExecutor);
+                mValidator.setValidationListener(new ResultListener());
+            }
+        });
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        sSlowRuleReleased.countDown();
+        mExecutor.shutdownNow();
+        super.tearDown();
+    }
+
+    public void testSyncPassSupersedesSlowAsyncPass() throws InterruptedException {
+        startSlowAsyncPass();
+
+        final long[] elapsedMillis = new long[1];
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                long startMillis = System.currentTimeMillis();
+                mForm.nameEditText.setText("");
+                mValidator.validate(true);
+                elapsedMillis[0] = System.currentTimeMillis() - startMillis;
+            }
+        });
+
+        // The sync pass does not wait for the slow pass, and reports right away.
+        assertTrue(elapsedMillis[0] < TimeUnit.SECONDS.toMillis(1));
+        assertEquals("[failed]", mResults.toString());
+        assertFalse(mValidator.isValidating());
+
+        finishAsyncPasses();
+        assertEquals("[failed]", mResults.toString());
+    }
+
+    public void testCancelAsyncDropsSlowAsyncPass() throws InterruptedException {
+        startSlowAsyncPass();
+        assertTrue(mValidator.isValidating());
+
+        assertTrue(mValidator.cancelAsync());
+        assertFalse(mValidator.isValidating());
+        assertFalse(mValidator.cancelAsync());
+
+        finishAsyncPasses();
+        assertEquals(0, mResults.size());
+    }
+
+    public void testNewerAsyncPassSupersedesSlowAsyncPass() throws InterruptedException {
+        startSlowAsyncPass();
+
+        final CountDownLatch newerPassReported = new CountDownLatch(1);
+        mValidator.setValidationListener(new ResultListener() {
+
+            @Override
+            public void onValidationSucceeded(final boolean ultimate) {
+                super.onValidationSucceeded(ultimate);
+                newerPassReported.countDown();
+            }
+        });
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mForm.nameEditText.setText("fast");
+                mValidator.validate(true, true);
+            }
+        });
+        assertTrue(newerPassReported.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        getInstrumentation().waitForIdleSync();
+        assertEquals("[succeeded]", mResults.toString());
+        assertFalse(mValidator.isValidating());
+
+        // The slow pass would report a success too, it must not be reported at all.
+        finishAsyncPasses();
+        assertEquals("[succeeded]", mResults.toString());
+    }
+
+    public void testIsValidatingUntilAsyncPassIsReported() throws InterruptedException {
+        startSlowAsyncPass();
+        assertTrue(mValidator.isValidating());
+
+        finishAsyncPasses();
+        assertEquals("[succeeded]", mResults.toString());
+        assertFalse(mValidator.isValidating());
+        assertFalse(mValidator.cancelAsync());
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private void startSlowAsyncPass() throws InterruptedException {
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mForm.nameEditText.setText(SlowRule.SLOW);
+                mValidator.validate(true, true);
+            }
+        });
+        assertTrue(sSlowRuleStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private void finishAsyncPasses() throws InterruptedException {
+        sSlowRuleReleased.countDown();
+        mExecutor.shutdown();
+        assertTrue(mExecutor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        getInstrumentation().waitForIdleSync();
+    }
+
+    @ValidateUsing(SlowRule.class)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    public @interface Slow {
+        int sequence()          default -1;
+        int messageResId()      default -1;
+        String message()        default "Should not be empty";
+    }
+
+    /**
+     * Blocks on {@link #SLOW} until the test releases it, fails on empty text.
+     */
+    public static class SlowRule extends AnnotationRule<Slow, String> {
+        static final String SLOW = "slow";
+
+        public SlowRule(final Slow slow) {
+            super(slow);
+        }
+
+        @Override
+        public boolean isValid(final String text) {
+            if (SLOW.equals(text)) {
+                sSlowRuleStarted.countDown();
+                try {
+                    sSlowRuleReleased.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return text.length() != 0;
+        }
+    }
+
+    static class Form {
+        @Slow EditText nameEditText;
+    }
+
+    class ResultListener implements Validator.ValidationListener {
+
+        @Override
+        public void onValidationSucceeded(final boolean ultimate) {
+            mResults.add("succeeded");
+        }
+
+        @Override
+        public void onTargetedValidationSucceeded(final View view, final boolean ultimate) {
+            mResults.add("succeeded");
+        }
+
+        @Override
+        public void onValidationFailed(final List<ValidationError> errors,
+                final boolean ultimate) {
+            mResults.add("failed");
+        }
+    }
+}
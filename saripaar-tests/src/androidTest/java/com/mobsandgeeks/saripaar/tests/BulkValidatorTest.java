@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.content.Context;
+import android.test.InstrumentationTestCase;
+import android.view.View;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.BulkValidationResult;
+import com.mobsandgeeks.saripaar.BulkValidator;
+import com.mobsandgeeks.saripaar.Rule;
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.annotation.ConfirmPassword;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Password;
+import com.mobsandgeeks.saripaar.annotation.Pattern;
+import com.mobsandgeeks.saripaar.rule.ConfirmPasswordRule;
+import com.mobsandgeeks.saripaar.rule.PatternRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Validates the rows of a repeating form section with {@link BulkValidator}.
+ */
+public class BulkValidatorTest extends InstrumentationTestCase {
+    private static final int ROWS = 200;
+
+    private List<Row> mRows;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mRows = new ArrayList<Row>();
+                for (int i = 0; i < ROWS; i++) {
+                    Row row = new Row(getInstrumentation().getTargetContext());
+                    row.nameEditText.setText(i % 7 == 0 ? "Jane" : "jane");
+                    row.passwordEditText.setText("secret");
+                    row.confirmPasswordEditText.setText(i % 11 == 0 ? "secrets" : "secret");
+                    mRows.add(row);
+                }
+            }
+        });
+    }
+
+    public void testErrorsAreIndexedByRow() {
+        BulkValidationResult result = validate(mRows.subList(0, 14), false);
+
+        assertEquals(14, result.getRowCount());
+        assertFalse(result.isValid());
+        assertEquals(3, result.getInvalidRowCount());
+        assertEquals("[0, 7, 11]", Arrays.toString(result.getInvalidRows()));
+
+        assertTrue(result.isValid(1));
+        assertEquals(0, result.getErrors(1).size());
+
+        assertEquals("confirmPassword:ConfirmPasswordRule,name:PatternRule",
+                getFailures(mRows.get(0), result.getErrors(0)));
+        assertEquals("name:PatternRule", getFailures(mRows.get(7), result.getErrors(7)));
+        assertEquals("confirmPassword:ConfirmPasswordRule",
+                getFailures(mRows.get(11), result.getErrors(11)));
+    }
+
+    public void testValidRows() {
+        BulkValidationResult result = validate(mRows.subList(1, 7), false);
+
+        assertTrue(result.isValid());
+        assertEquals(6, result.getRowCount());
+        assertEquals(0, result.getInvalidRows().length);
+    }
+
+    public void testRulesAreSharedAcrossRows() {
+        BulkValidationResult result = validate(mRows, false);
+
+        // Row 0 and row 77 fail both rules.
+        Rule firstPatternRule = getFailedRule(result.getErrors(0), PatternRule.class);
+        Rule secondPatternRule = getFailedRule(result.getErrors(77), PatternRule.class);
+        assertSame(firstPatternRule, secondPatternRule);
+
+        // Rules that read other views are created for each row.
+        Rule firstConfirmRule = getFailedRule(result.getErrors(0), ConfirmPasswordRule.class);
+        Rule secondConfirmRule = getFailedRule(result.getErrors(77), ConfirmPasswordRule.class);
+        assertNotSame(firstConfirmRule, secondConfirmRule);
+    }
+
+    public void testRulesAreSharedAcrossBoundRows() {
+        final List<BoundRow> boundRows = new ArrayList<BoundRow>();
+        final BulkValidationResult[] result = new BulkValidationResult[1];
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                for (int i = 0; i < 2; i++) {
+                    BoundRow boundRow = new BoundRow(getInstrumentation().getTargetContext());
+                    boundRow.nameEditText.setText("Jane");
+                    boundRow.passwordEditText.setText("secret");
+                    boundRow.confirmPasswordEditText.setText("secrets");
+                    boundRows.add(boundRow);
+                }
+                result[0] = new BulkValidator(BoundRow.class).validate(boundRows);
+            }
+        });
+
+        Rule firstPatternRule = getFailedRule(result[0].getErrors(0), PatternRule.class);
+        Rule secondPatternRule = getFailedRule(result[0].getErrors(1), PatternRule.class);
+        assertSame(firstPatternRule, secondPatternRule);
+
+        Rule firstConfirmRule = getFailedRule(result[0].getErrors(0), ConfirmPasswordRule.class);
+        Rule secondConfirmRule = getFailedRule(result[0].getErrors(1), ConfirmPasswordRule.class);
+        assertNotSame(firstConfirmRule, secondConfirmRule);
+    }
+
+    public void testSequentialAndParallelResultsMatch() {
+        BulkValidationResult sequentialResult = validate(mRows, false);
+        BulkValidationResult parallelResult = validate(mRows, true);
+
+        assertEquals(Arrays.toString(sequentialResult.getInvalidRows()),
+                Arrays.toString(parallelResult.getInvalidRows()));
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals("row " + i,
+                    getFailures(mRows.get(i), sequentialResult.getErrors(i)),
+                    getFailures(mRows.get(i), parallelResult.getErrors(i)));
+        }
+    }
+
+    public void testRejectsControllersOfAnotherClass() {
+        try {
+            new BulkValidator(Row.class).validate(Arrays.asList(mRows.get(0), new Object()));
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException expected) {
+            // Expected
+        }
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private BulkValidationResult validate(final List<Row> rows, final boolean parallelEvaluation) {
+        final BulkValidationResult[] result = new BulkValidationResult[1];
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                BulkValidator bulkValidator = new BulkValidator(Row.class);
+                bulkValidator.setParallelEvaluation(parallelEvaluation);
+                result[0] = bulkValidator.validate(rows);
+            }
+        });
+        return result[0];
+    }
+
+    // Sorted by view, the order of unordered fields depends on the runtime.
+    private String getFailures(final Row row, final List<ValidationError> errors) {
+        List<String> failures = new ArrayList<String>();
+        for (ValidationError error : errors) {
+            View view = error.getView();
+            String viewName = view == row.nameEditText ? "name"
+                    : view == row.passwordEditText ? "password" : "confirmPassword";
+            for (Rule rule : error.getFailedRules()) {
+                failures.add(viewName + ":" + rule.getClass().getSimpleName());
+            }
+        }
+        Collections.sort(failures);
+
+        StringBuilder failuresBuilder = new StringBuilder();
+        for (String failure : failures) {
+            failuresBuilder.append(failuresBuilder.length() == 0 ? "" : ",").append(failure);
+        }
+        return failuresBuilder.toString();
+    }
+
+    private Rule getFailedRule(final List<ValidationError> errors,
+            final Class<? extends Rule> ruleClass) {
+        for (ValidationError error : errors) {
+            for (Rule rule : error.getFailedRules()) {
+                if (ruleClass.isInstance(rule)) {
+                    return rule;
+                }
+            }
+        }
+        throw new AssertionError("No " + ruleClass.getSimpleName() + " failure.");
+    }
+
+    // Private fields, the compiler does not generate a binder and rules are shared across rows.
+    static class Row {
+        @NotEmpty @Pattern(regex = "[a-z]+") private EditText nameEditText;
+        @Password(min = 6) private EditText passwordEditText;
+        @ConfirmPassword private EditText confirmPasswordEditText;
+
+        Row(final Context context) {
+            nameEditText = new EditText(context);
+            passwordEditText = new EditText(context);
+            confirmPasswordEditText = new EditText(context);
+        }
+    }
+
+    // Package-private fields, the rules are created by a generated binder.
+    static class BoundRow {
+        @NotEmpty @Pattern(regex = "[a-z]+") EditText nameEditText;
+        @Password(min = 6) EditText passwordEditText;
+        @ConfirmPassword EditText confirmPasswordEditText;
+
+        BoundRow(final Context context) {
+            nameEditText = new EditText(context);
+            passwordEditText = new EditText(context);
+            confirmPasswordEditText = new EditText(context);
+        }
+    }
+}
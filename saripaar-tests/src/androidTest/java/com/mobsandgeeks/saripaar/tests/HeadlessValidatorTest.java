@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import com.mobsandgeeks.saripaar.ContextualAnnotationRule;
+import com.mobsandgeeks.saripaar.HeadlessValidator;
+import com.mobsandgeeks.saripaar.PropertyError;
+import com.mobsandgeeks.saripaar.ValidationContext;
+import com.mobsandgeeks.saripaar.annotation.Checked;
+import com.mobsandgeeks.saripaar.annotation.ConfirmPassword;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.Length;
+import com.mobsandgeeks.saripaar.annotation.Min;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Password;
+import com.mobsandgeeks.saripaar.annotation.Pattern;
+import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
+import com.mobsandgeeks.saripaar.rule.EmailRule;
+import com.mobsandgeeks.saripaar.rule.MinRule;
+import com.mobsandgeeks.saripaar.rule.NotEmptyRule;
+
+import junit.framework.TestCase;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates model objects and records with the {@link HeadlessValidator}, no views involved.
+ */
+public class HeadlessValidatorTest extends TestCase {
+
+    public void testValidModelHasNoErrors() {
+        assertTrue(HeadlessValidator.validate(newValidUser()).isEmpty());
+    }
+
+    public void testInvalidModelReportsFailedProperties() {
+        User user = newValidUser();
+        user.name = null;
+        user.email = "saripaar";
+        user.age = 17;
+        user.terms = false;
+        user.nickname = "Saripaar";
+
+        List<PropertyError> errors = HeadlessValidator.validate(user);
+        assertEquals(5, errors.size());
+        assertEquals("age", errors.get(0).getName());
+        assertEquals("email", errors.get(1).getName());
+        assertEquals("saripaar", errors.get(1).getValue());
+        assertEquals(EmailRule.class, errors.get(1).getFailedRules().get(0).getClass());
+        assertEquals("name", errors.get(2).getName());
+        assertEquals(NotEmptyRule.class, errors.get(2).getFailedRules().get(0).getClass());
+        assertEquals("nickname", errors.get(3).getName());
+        assertEquals("terms", errors.get(4).getName());
+    }
+
+    public void testRecordValuesAreConverted() {
+        Map<String, Object> record = new HashMap<String, Object>();
+        record.put("name", "Saripaar");
+        record.put("email", "saripaar@example.com");
+        record.put("age", "21");
+        record.put("terms", true);
+        record.put("nickname", "saripaar");
+        assertTrue(HeadlessValidator.validate(record, User.class).isEmpty());
+
+        record.put("age", "twenty one");
+        record.remove("email");
+        List<PropertyError> errors = HeadlessValidator.validate(record, User.class);
+        assertEquals(2, errors.size());
+        assertEquals("age", errors.get(0).getName());
+        assertEquals(MinRule.class, errors.get(0).getFailedRules().get(0).getClass());
+        assertEquals("email", errors.get(1).getName());
+    }
+
+    public void testRulesThatCompareViewsAreRejected() {
+        SignUp signUp = new SignUp();
+        signUp.password = "saripaar";
+        signUp.confirmPassword = "saripaar";
+
+        try {
+            HeadlessValidator.validate(signUp);
+            fail("IllegalStateException expected.");
+        } catch (IllegalStateException expected) {
+            assertTrue(expected.getMessage().contains(ConfirmPassword.class.getName()));
+        }
+    }
+
+    public void testCustomRulesThatReadViewsAreRejected() {
+        try {
+            HeadlessValidator.validate(new Nickname());
+            fail("IllegalStateException expected.");
+        } catch (IllegalStateException expected) {
+            assertTrue(expected.getMessage().contains(Unique.class.getName()));
+        }
+    }
+
+    private User newValidUser() {
+        User user = new User();
+        user.name = "Saripaar";
+        user.email = "saripaar@example.com";
+        user.age = 21;
+        user.terms = true;
+        user.nickname = "saripaar";
+        return user;
+    }
+
+    static class Person {
+        @NotEmpty String name;
+    }
+
+    static class User extends Person {
+        @Email String email;
+        @Min(18) int age;
+        @Checked boolean terms;
+        String nickname;
+
+        @Length(min = 3) @Pattern(regex = "[a-z]+")
+        public String getNickname() {
+            return nickname;
+        }
+    }
+
+    static class SignUp {
+        @Password String password;
+        @ConfirmPassword String confirmPassword;
+    }
+
+    static class Nickname {
+        @Unique String nickname;
+    }
+
+    @ValidateUsing(UniqueRule.class)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    public @interface Unique {
+        int sequence()                  default -1;
+        int messageResId()              default -1;
+        String message()                default "Must be unique";
+    }
+
+    /**
+     * A custom cross-field rule, it does not override {@code readsOtherViews()}.
+     */
+    public static class UniqueRule extends ContextualAnnotationRule<Unique, String> {
+
+        public UniqueRule(final Unique unique, final ValidationContext validationContext) {
+            super(unique, validationContext);
+        }
+
+        @Override
+        public boolean isValid(final String data) {
+            return mValidationContext.getAnnotatedViews(Unique.class).size() == 1;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.content.Context;
+import android.test.InstrumentationTestCase;
+import android.view.View;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.annotation.ConfirmPassword;
+import com.mobsandgeeks.saripaar.annotation.Password;
+import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rules created by {@link Validator#setLazyRules(boolean)}. The fields of the form are private,
+ * so that its rules are created by reflection rather than by a generated binder.
+ */
+public class LazyRulesTest extends InstrumentationTestCase {
+    private static final AtomicInteger sCountedRules = new AtomicInteger();
+
+    private Form mForm;
+    private Validator mValidator;
+    private List<View> mFailedViews;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        Validator.registerAnnotation(Counted.class);
+        sCountedRules.set(0);
+        mFailedViews = new ArrayList<View>();
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                Context context = getInstrumentation().getTargetContext();
+                mForm = new Form(context);
+                mForm.hiddenEditText.setVisibility(View.GONE);
+                mForm.passwordEditText.setVisibility(View.GONE);
+                mValidator = new Validator(mForm);
+                mValidator.setLazyRules(true);
+                mValidator.setValidationListener(new FailedViewsListener());
+            }
+        });
+    }
+
+    public void testRulesAreCreatedForValidatedViewsOnly() {
+        setText("saripaar", "saripaar");
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                // Only the targeted view has its rule created
+                mValidator.validateOnly(mForm.nameEditText, true);
+                assertEquals(1, sCountedRules.get());
+
+                // The hidden view is still skipped
+                mValidator.validate(true);
+                assertEquals(2, sCountedRules.get());
+                mValidator.validate(true);
+                assertEquals(2, sCountedRules.get());
+
+                mForm.hiddenEditText.setVisibility(View.VISIBLE);
+                mValidator.validate(true);
+                assertEquals(3, sCountedRules.get());
+            }
+        });
+    }
+
+    public void testConfirmPasswordFindsPendingPasswordView() {
+        // The password view is hidden, its rule is never created
+        setText("saripaar", "saripaar");
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mValidator.validate(true);
+            }
+        });
+        assertTrue(mFailedViews.isEmpty());
+
+        setText("saripaar", "mobsandgeeks");
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mValidator.validate(true);
+            }
+        });
+        assertEquals(1, mFailedViews.size());
+        assertSame(mForm.confirmPasswordEditText, mFailedViews.get(0));
+    }
+
+    public void testSetLazyRulesAfterRulesAreCreatedThrows() {
+        setText("saripaar", "saripaar");
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mValidator.validate(true);
+                try {
+                    mValidator.setLazyRules(false);
+                    fail("IllegalStateException expected.");
+                } catch (IllegalStateException expected) {
+                    // Expected
+                }
+            }
+        });
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private void setText(final String password, final String confirmPassword) {
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mForm.nameEditText.setText("Saripaar");
+                mForm.cityEditText.setText("Chennai");
+                mForm.hiddenEditText.setText("Hidden");
+                mForm.passwordEditText.setText(password);
+                mForm.confirmPasswordEditText.setText(confirmPassword);
+            }
+        });
+    }
+
+    private void runOnMainSync(final Runnable runnable) {
+        getInstrumentation().runOnMainSync(runnable);
+    }
+
+    @ValidateUsing(CountedRule.class)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    public @interface Counted {
+        int sequence()          default -1;
+        int messageResId()      default -1;
+        String message()        default "Should not be empty";
+    }
+
+    /**
+     * Counts its instances, fails on empty text.
+     */
+    public static class CountedRule extends AnnotationRule<Counted, String> {
+
+        public CountedRule(final Counted counted) {
+            super(counted);
+            sCountedRules.incrementAndGet();
+        }
+
+        @Override
+        public boolean isValid(final String text) {
+            return text.length() != 0;
+        }
+    }
+
+    static class Form {
+        @Counted private final EditText nameEditText;
+        @Counted private final EditText cityEditText;
+        @Counted private final EditText hiddenEditText;
+        @Password private final EditText passwordEditText;
+        @ConfirmPassword private final EditText confirmPasswordEditText;
+
+        Form(final Context context) {
+            nameEditText = new EditText(context);
+            cityEditText = new EditText(context);
+            hiddenEditText = new EditText(context);
+            passwordEditText = new EditText(context);
+            confirmPasswordEditText = new EditText(context);
+        }
+    }
+
+    class FailedViewsListener implements Validator.ValidationListener {
+
+        @Override
+        public void onValidationSucceeded(final boolean ultimate) {
+            mFailedViews.clear();
+        }
+
+        @Override
+        public void onTargetedValidationSucceeded(final View view, final boolean ultimate) {
+            mFailedViews.clear();
+        }
+
+        @Override
+        public void onValidationFailed(final List<ValidationError> errors,
+                final boolean ultimate) {
+            mFailedViews.clear();
+            for (ValidationError error : errors) {
+                mFailedViews.add(error.getView());
+            }
+        }
+    }
+}
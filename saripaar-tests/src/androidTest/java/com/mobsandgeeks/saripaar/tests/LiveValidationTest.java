@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.content.Context;
+import android.test.InstrumentationTestCase;
+import android.view.View;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.QuickRule;
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link Validator.Mode#LIVE} on a controller that only uses {@link QuickRule}s.
+ */
+public class LiveValidationTest extends InstrumentationTestCase {
+    private EditText mNameEditText;
+    private EditText mCodeEditText;
+    private Validator mValidator;
+    private List<String> mResults;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mResults = new ArrayList<String>();
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mNameEditText = new EditText(getInstrumentation().getTargetContext());
+                mCodeEditText = new EditText(getInstrumentation().getTargetContext());
+                mValidator = new Validator(new QuickRuleController());
+                mValidator.setValidationListener(new ResultListener());
+                mValidator.setLiveValidationDelay(0);
+            }
+        });
+    }
+
+    public void testLiveModeBeforeQuickRules() {
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mValidator.setValidationMode(Validator.Mode.LIVE);
+                mValidator.put(mNameEditText, new NotBlankQuickRule());
+                mNameEditText.setText(" ");
+            }
+        });
+        getInstrumentation().waitForIdleSync();
+
+        assertEquals(Validator.Mode.LIVE, mValidator.getValidationMode());
+        assertEquals(1, mResults.size());
+        assertEquals("failed", mResults.get(0));
+    }
+
+    public void testRemoveRulesDetachesLiveWatcher() {
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mValidator.put(mCodeEditText, new NotBlankQuickRule());
+                mValidator.setValidationMode(Validator.Mode.LIVE);
+                mValidator.removeRules(mCodeEditText);
+
+                // A live pass would fail, there are no rules left.
+                mCodeEditText.setText(" ");
+            }
+        });
+        getInstrumentation().waitForIdleSync();
+        assertEquals(0, mResults.size());
+
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mValidator.put(mNameEditText, new NotBlankQuickRule());
+                mNameEditText.setText("Jane");
+                mCodeEditText.setText("");
+            }
+        });
+        getInstrumentation().waitForIdleSync();
+        assertEquals(1, mResults.size());
+        assertEquals("succeeded", mResults.get(0));
+    }
+
+    static class QuickRuleController {
+    }
+
+    class ResultListener implements Validator.ValidationListener {
+
+        @Override
+        public void onValidationSucceeded(final boolean ultimate) {
+            mResults.add("succeeded");
+        }
+
+        @Override
+        public void onTargetedValidationSucceeded(final View view, final boolean ultimate) {
+            mResults.add("succeeded");
+        }
+
+        @Override
+        public void onValidationFailed(final List<ValidationError> errors,
+                final boolean ultimate) {
+            mResults.add("failed");
+        }
+    }
+
+    static class NotBlankQuickRule extends QuickRule<EditText> {
+
+        @Override
+        public boolean isValid(final EditText editText) {
+            return editText.getText().toString().trim().length() != 0;
+        }
+
+        @Override
+        public String getMessage(final Context context) {
+            return "Should not be blank";
+        }
+
+        @Override
+        public int getErrorCode() {
+            return -1;
+        }
+    }
+}
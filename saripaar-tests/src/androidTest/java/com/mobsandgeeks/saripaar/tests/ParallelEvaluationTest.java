@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.content.Context;
+import android.test.InstrumentationTestCase;
+import android.view.View;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.Rule;
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Order;
+import com.mobsandgeeks.saripaar.annotation.Pattern;
+
+import java.util.List;
+
+/**
+ * Parallel evaluation must report exactly what sequential evaluation reports, including where
+ * {@link Validator.Mode#IMMEDIATE} stops.
+ */
+public class ParallelEvaluationTest extends InstrumentationTestCase {
+    private static final String[] VALID = {
+        "saripaar@example.com", "abc", "x", "saripaar@example.com", "abc", "x"
+    };
+    private static final String[] LAST_RULE_FAILS = {
+        "saripaar@example.com", "", "", "saripaar", "X", ""
+    };
+    private static final String[] EARLIER_RULE_FAILS = {
+        "saripaar@example.com", "ABC", "", "saripaar", "X", ""
+    };
+
+    private Form mForm;
+    private Validator mSequentialValidator;
+    private Validator mParallelValidator;
+    private String mReport;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                Context context = getInstrumentation().getTargetContext();
+                mForm = new Form();
+                mForm.emailEditText = new EditText(context);
+                mForm.codeEditText = new EditText(context);
+                mForm.nameEditText = new EditText(context);
+                mForm.backupEmailEditText = new EditText(context);
+                mForm.cityEditText = new EditText(context);
+                mForm.countryEditText = new EditText(context);
+
+                mSequentialValidator = new Validator(mForm);
+                mSequentialValidator.setValidationListener(new ReportListener());
+                mParallelValidator = new Validator(mForm);
+                mParallelValidator.setParallelEvaluation(true);
+                mParallelValidator.setValidationListener(new ReportListener());
+            }
+        });
+    }
+
+    public void testBurstReportsAreEquivalent() {
+        assertEquivalent(Validator.Mode.BURST, VALID);
+        assertEquivalent(Validator.Mode.BURST, LAST_RULE_FAILS);
+        assertEquivalent(Validator.Mode.BURST, EARLIER_RULE_FAILS);
+    }
+
+    public void testImmediateStopsAtTheSameView() {
+        assertEquivalent(Validator.Mode.IMMEDIATE, VALID);
+
+        // The last rule of the code view fails, views after it are not reported
+        assertEquals("codeEditText:PatternRule,NotEmptyRule,",
+                assertEquivalent(Validator.Mode.IMMEDIATE, LAST_RULE_FAILS));
+
+        // Only the pattern rule of the code view fails, the pass goes on to the name view
+        assertEquals("codeEditText:PatternRule,|nameEditText:NotEmptyRule,",
+                assertEquivalent(Validator.Mode.IMMEDIATE, EARLIER_RULE_FAILS));
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private String assertEquivalent(final Validator.Mode mode, final String[] texts) {
+        final String[] reports = new String[2];
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                EditText[] editTexts = mForm.getEditTexts();
+                for (int i = 0; i < editTexts.length; i++) {
+                    editTexts[i].setText(texts[i]);
+                }
+
+                mSequentialValidator.setValidationMode(mode);
+                mSequentialValidator.validate(false, true);
+                reports[0] = mReport;
+
+                mParallelValidator.setValidationMode(mode);
+                mParallelValidator.validate(false, true);
+                reports[1] = mReport;
+            }
+        });
+
+        assertEquals(reports[0], reports[1]);
+        return reports[0];
+    }
+
+    private String getName(final View view) {
+        EditText[] editTexts = mForm.getEditTexts();
+        for (int i = 0; i < editTexts.length; i++) {
+            if (editTexts[i] == view) {
+                return Form.NAMES[i];
+            }
+        }
+        return null;
+    }
+
+    static class Form {
+        static final String[] NAMES = {
+            "emailEditText", "codeEditText", "nameEditText", "backupEmailEditText",
+            "cityEditText", "countryEditText"
+        };
+
+        @Order(1) @NotEmpty @Email
+        EditText emailEditText;
+
+        @Order(2) @Pattern(regex = "[a-z]+") @NotEmpty
+        EditText codeEditText;
+
+        @Order(3) @NotEmpty
+        EditText nameEditText;
+
+        @Order(4) @Email
+        EditText backupEmailEditText;
+
+        @Order(5) @Pattern(regex = "[a-z]+")
+        EditText cityEditText;
+
+        @Order(6) @NotEmpty
+        EditText countryEditText;
+
+        EditText[] getEditTexts() {
+            return new EditText[] {
+                emailEditText, codeEditText, nameEditText, backupEmailEditText, cityEditText,
+                countryEditText
+            };
+        }
+    }
+
+    class ReportListener implements Validator.ValidationListener {
+
+        @Override
+        public void onValidationSucceeded(final boolean ultimate) {
+            mReport = "";
+        }
+
+        @Override
+        public void onTargetedValidationSucceeded(final View view, final boolean ultimate) {
+            mReport = "";
+        }
+
+        @Override
+        public void onValidationFailed(final List<ValidationError> errors,
+                final boolean ultimate) {
+            StringBuilder report = new StringBuilder();
+            for (ValidationError error : errors) {
+                report.append(report.length() == 0 ? "" : "|")
+                        .append(getName(error.getView())).append(':');
+                for (Rule rule : error.getFailedRules()) {
+                    report.append(rule.getClass().getSimpleName()).append(',');
+                }
+            }
+            mReport = report.toString();
+        }
+    }
+}
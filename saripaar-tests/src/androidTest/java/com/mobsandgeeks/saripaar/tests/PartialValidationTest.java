@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.content.Context;
+import android.test.InstrumentationTestCase;
+import android.view.View;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Order;
+import com.mobsandgeeks.saripaar.annotation.Pattern;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Validates within a time budget of 0, which evaluates exactly one rule before the pass is
+ * suspended, and resumes the pass one rule at a time.
+ * <p>
+ * Passes that are not ultimate only validate focused views, all the views of the form report
+ * themselves as focused so that {@link Validator.Mode#IMMEDIATE} passes validate them too.
+ */
+public class PartialValidationTest extends InstrumentationTestCase {
+    private Form mForm;
+    private Validator mValidator;
+    private List<ValidationError> mFailedErrors;
+    private int mFailedCount;
+    private int mSucceededCount;
+    private List<List<ValidationError>> mSuspendedErrors;
+    private List<List<View>> mSuspendedViews;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mSuspendedErrors = new ArrayList<List<ValidationError>>();
+        mSuspendedViews = new ArrayList<List<View>>();
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mForm = new Form();
+                Context context = getInstrumentation().getTargetContext();
+                mForm.nameEditText = new FocusedEditText(context);
+                mForm.emailEditText = new FocusedEditText(context);
+                mForm.cityEditText = new FocusedEditText(context);
+                mValidator = new Validator(mForm);
+                mValidator.setValidationListener(new ResultListener());
+                mValidator.setValidationSuspendedListener(new SuspendedListener());
+            }
+        });
+    }
+
+    public void testResumesMidViewAtNextRule() {
+        setText("", "saripaar", "Chennai");
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                // Suspended between the two rules of the name view
+                assertFalse(mValidator.validate(true, 0));
+                assertTrue(mValidator.isSuspended());
+                assertFalse(mValidator.resume(0));
+                assertFalse(mValidator.resume(0));
+                assertTrue(mValidator.resume(0));
+                assertFalse(mValidator.isSuspended());
+            }
+        });
+
+        assertEquals(3, mSuspendedErrors.size());
+        assertEquals(1, mSuspendedErrors.get(0).size());
+        assertSame(mForm.nameEditText, mSuspendedErrors.get(0).get(0).getView());
+        assertEquals(2, mSuspendedErrors.get(1).get(0).getFailedRules().size());
+
+        // Errors reported on suspension are copies, later rules must not show up in them
+        assertEquals(1, mSuspendedErrors.get(0).get(0).getFailedRules().size());
+
+        assertEquals(1, mFailedCount);
+        assertEquals(2, mFailedErrors.size());
+        assertSame(mForm.nameEditText, mFailedErrors.get(0).getView());
+        assertEquals(2, mFailedErrors.get(0).getFailedRules().size());
+        assertSame(mForm.emailEditText, mFailedErrors.get(1).getView());
+    }
+
+    public void testUnvalidatedViews() {
+        setText("", "saripaar", "Chennai");
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                boolean completed = mValidator.validate(true, 0);
+                while (!completed) {
+                    completed = mValidator.resume(0);
+                }
+            }
+        });
+
+        assertEquals(3, mSuspendedViews.size());
+        assertEquals(Arrays.<View>asList(mForm.nameEditText, mForm.emailEditText,
+                mForm.cityEditText), mSuspendedViews.get(0));
+        assertEquals(Arrays.<View>asList(mForm.emailEditText, mForm.cityEditText),
+                mSuspendedViews.get(1));
+        assertEquals(Arrays.<View>asList(mForm.cityEditText), mSuspendedViews.get(2));
+    }
+
+    public void testNewPassDiscardsSuspendedPass() {
+        setText("", "saripaar", "Chennai");
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                assertFalse(mValidator.validate(true, 0));
+                assertTrue(mValidator.isSuspended());
+
+                mValidator.validate(true);
+                assertFalse(mValidator.isSuspended());
+                assertTrue(mValidator.resume(0));
+            }
+        });
+
+        assertEquals(1, mSuspendedErrors.size());
+        assertEquals(1, mFailedCount);
+        assertEquals(2, mFailedErrors.size());
+    }
+
+    public void testImmediateModeStopsAtFirstInvalidViewAcrossResume() {
+        setText("saripaar", "saripaar", "");
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                assertFalse(mValidator.validate(false, 0));
+                assertFalse(mValidator.resume(0));
+
+                // The email rule fails, the city view is never validated
+                assertTrue(mValidator.resume(0));
+                assertFalse(mValidator.isSuspended());
+            }
+        });
+
+        assertEquals(2, mSuspendedErrors.size());
+        assertEquals(1, mFailedCount);
+        assertEquals(1, mFailedErrors.size());
+        assertSame(mForm.emailEditText, mFailedErrors.get(0).getView());
+        assertEquals(0, mSucceededCount);
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private void setText(final String name, final String email, final String city) {
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mForm.nameEditText.setText(name);
+                mForm.emailEditText.setText(email);
+                mForm.cityEditText.setText(city);
+            }
+        });
+    }
+
+    private void runOnMainSync(final Runnable runnable) {
+        getInstrumentation().runOnMainSync(runnable);
+    }
+
+    static class Form {
+        @Order(1) @NotEmpty @Pattern(regex = "[a-z]+") EditText nameEditText;
+        @Order(2) @Email EditText emailEditText;
+        @Order(3) @NotEmpty EditText cityEditText;
+    }
+
+    static class FocusedEditText extends EditText {
+
+        FocusedEditText(final Context context) {
+            super(context);
+        }
+
+        @Override
+        public boolean isFocused() {
+            return true;
+        }
+    }
+
+    class ResultListener implements Validator.ValidationListener {
+
+        @Override
+        public void onValidationSucceeded(final boolean ultimate) {
+            mSucceededCount++;
+        }
+
+        @Override
+        public void onTargetedValidationSucceeded(final View view, final boolean ultimate) {
+            mSucceededCount++;
+        }
+
+        @Override
+        public void onValidationFailed(final List<ValidationError> errors,
+                final boolean ultimate) {
+            mFailedCount++;
+            mFailedErrors = errors;
+        }
+    }
+
+    class SuspendedListener implements Validator.ValidationSuspendedListener {
+
+        @Override
+        public void onValidationSuspended(final List<ValidationError> errors,
+                final List<View> unvalidatedViews) {
+            mSuspendedErrors.add(errors);
+            mSuspendedViews.add(unvalidatedViews);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import com.mobsandgeeks.saripaar.PositionalValidator;
+import com.mobsandgeeks.saripaar.PropertyError;
+import com.mobsandgeeks.saripaar.annotation.Min;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validates the rows of a list with the {@link PositionalValidator} and checks that errors are
+ * rendered on bound view holders only.
+ */
+public class PositionalValidatorTest extends TestCase {
+    private static final int N_ROWS = 50;
+    private static final int INVALID_POSITION = 7;
+
+    private List<Line> mLines;
+    private List<String> mRenderedErrors;
+    private PositionalValidator<String> mPositionalValidator;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mLines = new ArrayList<Line>();
+        for (int i = 0; i < N_ROWS; i++) {
+            mLines.add(new Line("sku" + i, i == INVALID_POSITION ? 0 : 1));
+        }
+        mRenderedErrors = new ArrayList<String>();
+        mPositionalValidator = new PositionalValidator<String>(Line.class,
+                new PositionalValidator.RowSource() {
+
+                    @Override
+                    public int getRowCount() {
+                        return mLines.size();
+                    }
+
+                    @Override
+                    public Object getRow(final int position) {
+                        return mLines.get(position);
+                    }
+                },
+                new PositionalValidator.RowErrorRenderer<String>() {
+
+                    @Override
+                    public void renderErrors(final String holder, final int position,
+                            final List<PropertyError> errors) {
+                        mRenderedErrors.add(holder + "@" + position + "=" + errors.size());
+                    }
+                });
+    }
+
+    public void testErrorsAreRenderedOnBoundHoldersOnly() {
+        mPositionalValidator.onBind("A", INVALID_POSITION - 1);
+        mPositionalValidator.onBind("B", INVALID_POSITION);
+        mRenderedErrors.clear();
+
+        assertFalse(mPositionalValidator.validate());
+        assertEquals(2, mRenderedErrors.size());
+        assertTrue(mRenderedErrors.contains("A@6=0"));
+        assertTrue(mRenderedErrors.contains("B@7=1"));
+
+        int[] invalidPositions = mPositionalValidator.getInvalidPositions();
+        assertEquals(1, invalidPositions.length);
+        assertEquals(INVALID_POSITION, invalidPositions[0]);
+    }
+
+    public void testUnboundRowsPickUpErrorsWhenBound() {
+        mPositionalValidator.onBind("A", 0);
+        assertFalse(mPositionalValidator.validate());
+        mRenderedErrors.clear();
+
+        // "A" is recycled and bound to the invalid row, that was off screen
+        mPositionalValidator.onUnbind("A");
+        mPositionalValidator.onBind("A", INVALID_POSITION);
+        assertEquals(1, mRenderedErrors.size());
+        assertEquals("A@7=1", mRenderedErrors.get(0));
+        assertEquals("qty", mPositionalValidator.getErrors(INVALID_POSITION).get(0).getName());
+    }
+
+    public void testValidatePositionRendersBoundHolderOnly() {
+        mPositionalValidator.onBind("A", INVALID_POSITION);
+        mPositionalValidator.onBind("B", 0);
+        assertFalse(mPositionalValidator.validate());
+        mRenderedErrors.clear();
+
+        mLines.get(INVALID_POSITION).qty = 3;
+        assertTrue(mPositionalValidator.validate(INVALID_POSITION));
+        assertEquals(1, mRenderedErrors.size());
+        assertEquals("A@7=0", mRenderedErrors.get(0));
+
+        // Unbound rows are validated, but not rendered
+        mRenderedErrors.clear();
+        mLines.get(1).sku = "";
+        assertFalse(mPositionalValidator.validate(1));
+        assertTrue(mRenderedErrors.isEmpty());
+        assertFalse(mPositionalValidator.isValid(1));
+    }
+
+    public void testValidateNegativePositionThrows() {
+        try {
+            mPositionalValidator.validate(-1);
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException expected) {
+            // Expected
+        }
+    }
+
+    public void testValidatePositionPastRowCountThrows() {
+        try {
+            mPositionalValidator.validate(N_ROWS);
+            fail("IndexOutOfBoundsException expected.");
+        } catch (IndexOutOfBoundsException expected) {
+            // Expected
+        }
+    }
+
+    public void testValidateStalePositionAfterRowsAreRemovedThrows() {
+        assertFalse(mPositionalValidator.validate());
+        mLines.subList(INVALID_POSITION, N_ROWS).clear();
+
+        try {
+            mPositionalValidator.validate(INVALID_POSITION);
+            fail("IndexOutOfBoundsException expected.");
+        } catch (IndexOutOfBoundsException expected) {
+            // Expected
+        }
+
+        // The row count changed, all the rows are validated again
+        assertTrue(mPositionalValidator.validate(0));
+        assertEquals(0, mPositionalValidator.getInvalidPositions().length);
+    }
+
+    static class Line {
+        @NotEmpty String sku;
+        @Min(1) int qty;
+
+        Line(final String sku, final int qty) {
+            this.sku = sku;
+            this.qty = qty;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.content.Context;
+import android.test.InstrumentationTestCase;
+import android.view.View;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.annotation.ConfirmPassword;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Password;
+
+import java.util.List;
+
+/**
+ * Results of rules that declare {@link com.mobsandgeeks.saripaar.Rule#FLAG_PURE} are remembered
+ * by {@link Validator#setRuleMemoSize(int)}. Of the rules of the form, only the email rule is
+ * pure, the not empty rule is not pure and the password rules are contextual.
+ */
+public class RuleMemoTest extends InstrumentationTestCase {
+    private Form mForm;
+    private Validator mValidator;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                Context context = getInstrumentation().getTargetContext();
+                mForm = new Form();
+                mForm.emailEditText = new EditText(context);
+                mForm.nameEditText = new EditText(context);
+                mForm.passwordEditText = new EditText(context);
+                mForm.confirmPasswordEditText = new EditText(context);
+                mValidator = new Validator(mForm);
+                mValidator.setValidationListener(new NoOpListener());
+            }
+        });
+        setText("saripaar@example.com", "Saripaar", "saripaar", "saripaar");
+    }
+
+    public void testMemoIsDisabledByDefault() {
+        validate();
+        validate();
+
+        assertEquals(0, mValidator.getRuleMemoHitCount());
+        assertEquals(0, mValidator.getRuleMemoMissCount());
+    }
+
+    public void testOnlyPureRulesAreMemoized() {
+        mValidator.setRuleMemoSize(8);
+        validate();
+        assertEquals(0, mValidator.getRuleMemoHitCount());
+        assertEquals(1, mValidator.getRuleMemoMissCount());
+
+        validate();
+        assertEquals(1, mValidator.getRuleMemoHitCount());
+        assertEquals(1, mValidator.getRuleMemoMissCount());
+
+        // New input for the rules that are not memoized does not touch the memo
+        setText("saripaar@example.com", "Mobs", "mobsandgeeks", "mobsandgeeks");
+        validate();
+        assertEquals(2, mValidator.getRuleMemoHitCount());
+        assertEquals(1, mValidator.getRuleMemoMissCount());
+
+        setText("mobs@example.com", "Mobs", "mobsandgeeks", "mobsandgeeks");
+        validate();
+        assertEquals(2, mValidator.getRuleMemoHitCount());
+        assertEquals(2, mValidator.getRuleMemoMissCount());
+
+        // Values seen before are served from the memo
+        setText("saripaar@example.com", "Mobs", "mobsandgeeks", "mobsandgeeks");
+        validate();
+        assertEquals(3, mValidator.getRuleMemoHitCount());
+        assertEquals(2, mValidator.getRuleMemoMissCount());
+    }
+
+    public void testContextualRulesAreNeverMemoized() {
+        mValidator.setRuleMemoSize(8);
+        for (int i = 0; i < 3; i++) {
+            validate();
+        }
+
+        // Each pass runs the password rules, only the email rule counts
+        assertEquals(2, mValidator.getRuleMemoHitCount());
+        assertEquals(1, mValidator.getRuleMemoMissCount());
+    }
+
+    public void testResizeResetsTheMemo() {
+        mValidator.setRuleMemoSize(8);
+        validate();
+        validate();
+        assertEquals(1, mValidator.getRuleMemoHitCount());
+
+        mValidator.setRuleMemoSize(16);
+        assertEquals(0, mValidator.getRuleMemoHitCount());
+        assertEquals(0, mValidator.getRuleMemoMissCount());
+
+        validate();
+        assertEquals(0, mValidator.getRuleMemoHitCount());
+        assertEquals(1, mValidator.getRuleMemoMissCount());
+
+        mValidator.setRuleMemoSize(0);
+        validate();
+        assertEquals(0, mValidator.getRuleMemoHitCount());
+        assertEquals(0, mValidator.getRuleMemoMissCount());
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private void setText(final String email, final String name, final String password,
+            final String confirmPassword) {
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mForm.emailEditText.setText(email);
+                mForm.nameEditText.setText(name);
+                mForm.passwordEditText.setText(password);
+                mForm.confirmPasswordEditText.setText(confirmPassword);
+            }
+        });
+    }
+
+    private void validate() {
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mValidator.validate(true);
+            }
+        });
+    }
+
+    static class Form {
+        @Email EditText emailEditText;
+        @NotEmpty EditText nameEditText;
+        @Password EditText passwordEditText;
+        @ConfirmPassword EditText confirmPasswordEditText;
+    }
+
+    static class NoOpListener implements Validator.ValidationListener {
+
+        @Override
+        public void onValidationSucceeded(final boolean ultimate) {
+            // Not checked
+        }
+
+        @Override
+        public void onTargetedValidationSucceeded(final View view, final boolean ultimate) {
+            // Not checked
+        }
+
+        @Override
+        public void onValidationFailed(final List<ValidationError> errors,
+                final boolean ultimate) {
+            // Not checked
+        }
+    }
+}
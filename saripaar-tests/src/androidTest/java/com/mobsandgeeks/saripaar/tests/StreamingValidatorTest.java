@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import com.mobsandgeeks.saripaar.PropertyError;
+import com.mobsandgeeks.saripaar.StreamingValidator;
+import com.mobsandgeeks.saripaar.annotation.Min;
+
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * Drives a {@link StreamingValidator} with an executor that runs batches only when the test
+ * says so, to check backpressure, the order in which failures are emitted and cancellation.
+ */
+public class StreamingValidatorTest extends TestCase {
+    private static final long TIMEOUT_MILLIS = 5000;
+    private static final int BATCH_SIZE = 4;
+    private static final int MAX_PENDING_BATCHES = 3;
+    private static final int N_RECORDS = 10 * BATCH_SIZE + 1;
+
+    private StreamingValidator mStreamingValidator;
+    private DeferredExecutor mExecutor;
+    private EntryReader mReader;
+    private FailureRecorder mFailureRecorder;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mExecutor = new DeferredExecutor();
+        mReader = new EntryReader(N_RECORDS);
+        mFailureRecorder = new FailureRecorder();
+        mStreamingValidator = new StreamingValidator(Entry.class);
+        mStreamingValidator.setBatchSize(BATCH_SIZE);
+        mStreamingValidator.setMaxPendingBatches(MAX_PENDING_BATCHES);
+        mStreamingValidator.setExecutor(mExecutor);
+    }
+
+    public void testPendingBatchesAreBounded() throws Exception {
+        ValidationThread validationThread = new ValidationThread();
+        validationThread.start();
+        drive(validationThread, false);
+
+        assertEquals(MAX_PENDING_BATCHES, mExecutor.getMaxPendingBatches());
+        assertTrue(mExecutor.getMaxReadAhead() <= MAX_PENDING_BATCHES * BATCH_SIZE + 1);
+        assertEquals(N_RECORDS, mReader.getReadCount());
+        assertEquals(getExpectedFailures(), mFailureRecorder.indices);
+        assertEquals(getExpectedFailures().size(), validationThread.nFailedRecords);
+    }
+
+    public void testFailuresAreEmittedInInputOrder() throws Exception {
+        ValidationThread validationThread = new ValidationThread();
+        validationThread.start();
+
+        // Newer batches complete first, failures must still come out in input order
+        drive(validationThread, true);
+
+        assertEquals(getExpectedFailures(), mFailureRecorder.indices);
+        assertEquals(getExpectedFailures().size(), validationThread.nFailedRecords);
+        for (int i = 0; i < mFailureRecorder.indices.size(); i++) {
+            Entry entry = (Entry) mFailureRecorder.records.get(i);
+            assertEquals(mFailureRecorder.indices.get(i).longValue(), entry.index);
+        }
+        assertSame(validationThread, mFailureRecorder.thread);
+    }
+
+    public void testPendingBatchesAreCancelledWhenReaderFails() {
+        mReader.failAt(2 * BATCH_SIZE + 1);
+        try {
+            mStreamingValidator.validate(mReader, mFailureRecorder);
+            fail("IOException expected.");
+        } catch (IOException expected) {
+            // Expected
+        }
+
+        List<Runnable> tasks = mExecutor.getSubmittedTasks();
+        assertEquals(2, tasks.size());
+        for (Runnable task : tasks) {
+            assertTrue(((Future<?>) task).isCancelled());
+        }
+        assertTrue(mFailureRecorder.indices.isEmpty());
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private void drive(final ValidationThread validationThread, final boolean newestFirst)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (validationThread.isAlive()) {
+            assertTrue("Timed out.", System.currentTimeMillis() < deadline);
+
+            // Batches run only while the validating thread waits for the oldest one
+            if (validationThread.getState() == Thread.State.WAITING) {
+                mExecutor.runNext(newestFirst);
+            } else {
+                Thread.sleep(1);
+            }
+        }
+
+        if (validationThread.throwable != null) {
+            throw new AssertionError((Object) validationThread.throwable);
+        }
+    }
+
+    private static List<Long> getExpectedFailures() {
+        List<Long> indices = new ArrayList<Long>();
+        for (long i = 0; i < N_RECORDS; i++) {
+            if (isInvalid(i)) {
+                indices.add(i);
+            }
+        }
+        return indices;
+    }
+
+    private static boolean isInvalid(final long index) {
+        return index % 5 == 0;
+    }
+
+    static class Entry {
+        final long index;
+        @Min(1) final int value;
+
+        Entry(final long index) {
+            this.index = index;
+            this.value = isInvalid(index) ? 0 : 1;
+        }
+    }
+
+    static class EntryReader implements StreamingValidator.RecordReader {
+        private final int mRecordCount;
+        private volatile int mReadCount;
+        private volatile int mFailAt = -1;
+
+        EntryReader(final int recordCount) {
+            mRecordCount = recordCount;
+        }
+
+        void failAt(final int readCount) {
+            mFailAt = readCount;
+        }
+
+        @Override
+        public Object read() throws IOException {
+            if (mReadCount == mFailAt) {
+                throw new IOException("Broken stream.");
+            }
+            if (mReadCount == mRecordCount) {
+                return null;
+            }
+            return new Entry(mReadCount++);
+        }
+
+        int getReadCount() {
+            return mReadCount;
+        }
+    }
+
+    static class FailureRecorder implements StreamingValidator.FailureListener {
+        final List<Long> indices = new ArrayList<Long>();
+        final List<Object> records = new ArrayList<Object>();
+        Thread thread;
+
+        @Override
+        public void onRecordFailed(final long index, final Object record,
+                final List<PropertyError> errors) {
+            indices.add(index);
+            records.add(record);
+            thread = Thread.currentThread();
+        }
+    }
+
+    /**
+     * Queues batches until the test runs them and keeps track of the batches in flight.
+     */
+    class DeferredExecutor implements Executor {
+        private final LinkedBlockingDeque<Runnable> mQueuedTasks =
+                new LinkedBlockingDeque<Runnable>();
+        private final List<Runnable> mSubmittedTasks = new ArrayList<Runnable>();
+        private int mMaxPendingBatches;
+        private int mCompletedBatches;
+        private int mMaxReadAhead;
+
+        @Override
+        public synchronized void execute(final Runnable task) {
+            mSubmittedTasks.add(task);
+            mQueuedTasks.add(task);
+
+            int nPendingBatches = 0;
+            for (Runnable submittedTask : mSubmittedTasks) {
+                if (!((Future<?>) submittedTask).isDone()) {
+                    nPendingBatches++;
+                }
+            }
+            mMaxPendingBatches = Math.max(mMaxPendingBatches, nPendingBatches);
+        }
+
+        void runNext(final boolean newestFirst) {
+            Runnable task = newestFirst ? mQueuedTasks.pollLast() : mQueuedTasks.pollFirst();
+            if (task != null) {
+                synchronized (this) {
+                    int readAhead = mReader.getReadCount() - mCompletedBatches * BATCH_SIZE;
+                    mMaxReadAhead = Math.max(mMaxReadAhead, readAhead);
+                    mCompletedBatches++;
+                }
+                task.run();
+            }
+        }
+
+        synchronized int getMaxPendingBatches() {
+            return mMaxPendingBatches;
+        }
+
+        synchronized int getMaxReadAhead() {
+            return mMaxReadAhead;
+        }
+
+        synchronized List<Runnable> getSubmittedTasks() {
+            return new ArrayList<Runnable>(mSubmittedTasks);
+        }
+    }
+
+    class ValidationThread extends Thread {
+        volatile long nFailedRecords;
+        volatile Throwable throwable;
+
+        @Override
+        public void run() {
+            try {
+                nFailedRecords = mStreamingValidator.validate(mReader, mFailureRecorder);
+            } catch (Throwable t) {
+                throwable = t;
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.app.Activity;
+import android.os.Debug;
+import android.test.ActivityInstrumentationTestCase2;
+import android.view.View;
+import android.widget.EditText;
+import android.widget.RadioButton;
+
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.annotation.AssertFalse;
+import com.mobsandgeeks.saripaar.annotation.Checked;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Pattern;
+import com.mobsandgeeks.saripaar.tests.ui.OrderedValidateActivity;
+
+import java.util.List;
+
+/**
+ * Counts the objects allocated on the main thread by validation passes that succeed, once the
+ * {@link Validator} has been warmed up. Such passes must not allocate at all.
+ */
+@SuppressWarnings("deprecation")
+public class ValidationAllocationTest
+        extends ActivityInstrumentationTestCase2<OrderedValidateActivity> {
+    private static final int WARM_UP_PASSES = 100;
+    private static final int PASSES = 1000;
+
+    private int mSucceeded;
+    private int mFailed;
+
+    public ValidationAllocationTest() {
+        super(OrderedValidateActivity.class);
+    }
+
+    public void testUnchangedTextViewsDoNotAllocate() {
+        final Activity activity = getActivity();
+        final int[] allocations = new int[2];
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                TextForm form = new TextForm(activity);
+                Validator validator = new Validator(form);
+                validator.setValidationListener(mListener);
+                validator.setIncrementalValidation(true);
+
+                allocations[0] = countAllocations(validator, null);
+                allocations[1] = countAllocations(validator, form.emailEditText);
+
+                // The views must really be validated
+                form.nameEditText.setText("");
+                validator.validate(true);
+            }
+        });
+
+        assertEquals(0, allocations[0]);
+        assertEquals(0, allocations[1]);
+        assertEquals(2 * (WARM_UP_PASSES + PASSES), mSucceeded);
+        assertEquals(1, mFailed);
+    }
+
+    public void testCompoundButtonsDoNotAllocate() {
+        final Activity activity = getActivity();
+        final int[] allocations = new int[1];
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                CompoundButtonForm form = new CompoundButtonForm(activity);
+                Validator validator = new Validator(form);
+                validator.setValidationListener(mListener);
+
+                allocations[0] = countAllocations(validator, null);
+
+                // The views must really be validated
+                form.immediateRadioButton.setChecked(true);
+                validator.validate(true);
+            }
+        });
+
+        assertEquals(0, allocations[0]);
+        assertEquals(WARM_UP_PASSES + PASSES, mSucceeded);
+        assertEquals(1, mFailed);
+    }
+
+    private int countAllocations(final Validator validator, final View targetView) {
+        for (int i = 0; i < WARM_UP_PASSES; i++) {
+            validate(validator, targetView);
+        }
+
+        Debug.resetThreadAllocCount();
+        Debug.startAllocCounting();
+        try {
+            for (int i = 0; i < PASSES; i++) {
+                validate(validator, targetView);
+            }
+        } finally {
+            Debug.stopAllocCounting();
+        }
+        return Debug.getThreadAllocCount();
+    }
+
+    private void validate(final Validator validator, final View targetView) {
+        if (targetView != null) {
+            validator.validateOnly(targetView, true);
+        } else {
+            validator.validate(true);
+        }
+    }
+
+    private final Validator.ValidationListener mListener = new Validator.ValidationListener() {
+
+        @Override
+        public void onValidationSucceeded(final boolean ultimate) {
+            mSucceeded++;
+        }
+
+        @Override
+        public void onTargetedValidationSucceeded(final View view, final boolean ultimate) {
+            mSucceeded++;
+        }
+
+        @Override
+        public void onValidationFailed(final List<ValidationError> errors,
+                final boolean ultimate) {
+            mFailed++;
+        }
+    };
+
+    static class TextForm {
+        @NotEmpty @Pattern(regex = "[a-z]+") EditText nameEditText;
+        @NotEmpty @Email EditText emailEditText;
+        @Checked RadioButton burstRadioButton;
+
+        TextForm(final Activity activity) {
+            nameEditText = (EditText) activity.findViewById(R.id.nameEditText);
+            nameEditText.setText("saripaar");
+            emailEditText = (EditText) activity.findViewById(R.id.emailEditText);
+            emailEditText.setText("saripaar@example.com");
+            burstRadioButton = (RadioButton) activity.findViewById(R.id.burstRadioButton);
+            burstRadioButton.setChecked(true);
+        }
+    }
+
+    static class CompoundButtonForm {
+        @Checked RadioButton burstRadioButton;
+        @AssertFalse RadioButton immediateRadioButton;
+
+        CompoundButtonForm(final Activity activity) {
+            burstRadioButton = (RadioButton) activity.findViewById(R.id.burstRadioButton);
+            burstRadioButton.setChecked(true);
+            immediateRadioButton = (RadioButton) activity.findViewById(R.id.immediateRadioButton);
+        }
+    }
+}
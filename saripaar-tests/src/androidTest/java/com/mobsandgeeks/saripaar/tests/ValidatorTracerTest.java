@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.content.Context;
+import android.test.InstrumentationTestCase;
+import android.view.View;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.ValidatorTracer;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sections reported to a {@link ValidatorTracer} are balanced and properly nested on every
+ * thread, across plan compilation, snapshots and validation passes. The fields of the form are
+ * private, so that its plan is compiled using reflection.
+ */
+public class ValidatorTracerTest extends InstrumentationTestCase {
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private RecordingTracer mTracer;
+    private Form mForm;
+    private Validator mValidator;
+    private CountDownLatch mPassReported;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        Validator.clearPlanCache();
+        mTracer = new RecordingTracer();
+        Validator.setTracer(mTracer);
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mForm = new Form(getInstrumentation().getTargetContext());
+                mValidator = new Validator(mForm);
+                mValidator.setParallelEvaluation(true);
+                mValidator.setValidationListener(new ReportedListener());
+            }
+        });
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        Validator.setTracer(null);
+        super.tearDown();
+    }
+
+    public void testSectionsAreBalanced() throws InterruptedException {
+        validate(false);
+        validate(true);
+        validate(true);
+
+        assertEquals(Collections.<String>emptyList(), mTracer.getErrors());
+        assertTrue(mTracer.isBalanced());
+
+        Set<String> sections = mTracer.getBegunSections();
+        assertTrue(sections.contains(ValidatorTracer.SECTION_COMPILE_PLAN));
+        assertTrue(sections.contains(ValidatorTracer.SECTION_SCAN_FIELDS));
+        assertTrue(sections.contains(ValidatorTracer.SECTION_CREATE_RULES));
+        assertTrue(sections.contains(ValidatorTracer.SECTION_INSTANTIATE_RULES));
+        assertTrue(sections.contains(ValidatorTracer.SECTION_COMPILE_EXECUTION_PLAN));
+        assertTrue(sections.contains(ValidatorTracer.SECTION_SNAPSHOT));
+        assertTrue(sections.contains(ValidatorTracer.SECTION_VALIDATE));
+    }
+
+    public void testNoEventsAfterTracerIsRemoved() throws InterruptedException {
+        Validator.setTracer(null);
+        validate(false);
+        validate(true);
+
+        assertTrue(mTracer.getBegunSections().isEmpty());
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private void validate(final boolean async) throws InterruptedException {
+        mPassReported = new CountDownLatch(1);
+        getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                mValidator.validate(async, true);
+            }
+        });
+        assertTrue(mPassReported.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        getInstrumentation().waitForIdleSync();
+    }
+
+    static class Form {
+        @NotEmpty private final EditText nameEditText;
+        @Email private final EditText emailEditText;
+
+        Form(final Context context) {
+            nameEditText = new EditText(context);
+            emailEditText = new EditText(context);
+            emailEditText.setText("saripaar@example.com");
+        }
+    }
+
+    /**
+     * Keeps a stack of open sections for each thread.
+     */
+    static class RecordingTracer implements ValidatorTracer {
+        private final Map<Thread, ArrayDeque<String>> mOpenSections =
+                new HashMap<Thread, ArrayDeque<String>>();
+        private final Set<String> mBegunSections = new HashSet<String>();
+        private final List<String> mErrors = new ArrayList<String>();
+
+        @Override
+        public synchronized void beginSection(final String sectionName) {
+            ArrayDeque<String> openSections = mOpenSections.get(Thread.currentThread());
+            if (openSections == null) {
+                openSections = new ArrayDeque<String>();
+                mOpenSections.put(Thread.currentThread(), openSections);
+            }
+            openSections.push(sectionName);
+            mBegunSections.add(sectionName);
+        }
+
+        @Override
+        public synchronized void endSection(final String sectionName) {
+            ArrayDeque<String> openSections = mOpenSections.get(Thread.currentThread());
+            String openSection = openSections != null ? openSections.poll() : null;
+            if (!sectionName.equals(openSection)) {
+                mErrors.add("Ended " + sectionName + ", but " + openSection + " is open.");
+            }
+        }
+
+        synchronized boolean isBalanced() {
+            for (ArrayDeque<String> openSections : mOpenSections.values()) {
+                if (!openSections.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        synchronized Set<String> getBegunSections() {
+            return new HashSet<String>(mBegunSections);
+        }
+
+        synchronized List<String> getErrors() {
+            return new ArrayList<String>(mErrors);
+        }
+    }
+
+    class ReportedListener implements Validator.ValidationListener {
+
+        @Override
+        public void onValidationSucceeded(final boolean ultimate) {
+            mPassReported.countDown();
+        }
+
+        @Override
+        public void onTargetedValidationSucceeded(final View view, final boolean ultimate) {
+            mPassReported.countDown();
+        }
+
+        @Override
+        public void onValidationFailed(final List<ValidationError> errors,
+                final boolean ultimate) {
+            mPassReported.countDown();
+        }
+    }
+}
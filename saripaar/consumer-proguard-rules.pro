@@ -0,0 +1,10 @@
+# Binders generated by saripaar-compiler are looked up by name, using the name of the controller.
+-keep class **_SaripaarBinder { <init>(); }
+-if class **_SaripaarBinder
+-keepnames class <1>
+
+# The HeadlessValidator reads annotated fields and accessors by reflection and reports their names.
+-keepclassmembers class * {
+    @com.mobsandgeeks.saripaar.annotation.* <fields>;
+    @com.mobsandgeeks.saripaar.annotation.* <methods>;
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable snapshot of the attribute values of an {@link java.lang.annotation.Annotation}.
+ * The attribute values are read once, when the snapshot is taken, so that reading them later
+ * does not involve any reflection. The attribute methods of each annotation type are looked up
+ * once and shared by all the snapshots of that type.
+ *
+ * @since 2.1
+ */
+final class AnnotationAttributes {
+    static final String SEQUENCE = "sequence";
+    static final String FLAGS = "flags";
+    static final String MESSAGE = "message";
+    static final String MESSAGE_RES_ID = "messageResId";
+    static final String ERROR_CODE = "errorCode";
+
+    private static final ConcurrentHashMap<Class<? extends Annotation>, Method[]> ATTRIBUTES =
+            new ConcurrentHashMap<Class<? extends Annotation>, Method[]>();
+    private static final Comparator<Method> NAME_COMPARATOR = new Comparator<Method>() {
+
+        @Override
+        public int compare(final Method lhs, final Method rhs) {
+            return lhs.getName().compareTo(rhs.getName());
+        }
+    };
+
+    private final Class<? extends Annotation> mAnnotationType;
+    private final Method[] mAttributeMethods;
+    private final Object[] mValues;
+
+    private AnnotationAttributes(final Class<? extends Annotation> annotationType,
+            final Method[] attributeMethods, final Object[] values) {
+        mAnnotationType = annotationType;
+        mAttributeMethods = attributeMethods;
+        mValues = values;
+    }
+
+    /**
+     * Takes a snapshot of all the attribute values of an annotation.
+     *
+     * @param annotation  An {@link java.lang.annotation.Annotation} instance.
+     *
+     * @return The {@link AnnotationAttributes} of the annotation.
+     */
+    static AnnotationAttributes of(final Annotation annotation) {
+        Class<? extends Annotation> annotationType = annotation.annotationType();
+        Method[] attributeMethods = getAttributeMethods(annotationType);
+        Object[] values = new Object[attributeMethods.length];
+
+        for (int i = 0; i < attributeMethods.length; i++) {
+            try {
+                values[i] = attributeMethods[i].invoke(annotation);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        return new AnnotationAttributes(annotationType, attributeMethods, values);
+    }
+
+    /**
+     * Returns the type of the annotation from which this snapshot was taken.
+     *
+     * @return The {@link java.lang.annotation.Annotation} type.
+     */
+    Class<? extends Annotation> getAnnotationType() {
+        return mAnnotationType;
+    }
+
+    /**
+     * Tells if the annotation declares the given attribute.
+     *
+     * @param attributeName  Attribute name.
+     *
+     * @return true if the attribute is present, false otherwise.
+     */
+    boolean has(final String attributeName) {
+        return indexOf(attributeName) != -1;
+    }
+
+    /**
+     * Returns the value of an attribute. Array values are copied, so that the snapshot remains
+     * immutable.
+     *
+     * @param attributeName  Attribute name.
+     * @param defaultValue  Value to return if the annotation does not declare the attribute.
+     *
+     * @return The attribute value, or the default value.
+     */
+    Object get(final String attributeName, final Object defaultValue) {
+        int index = indexOf(attributeName);
+        if (index == -1) {
+            return defaultValue;
+        }
+
+        Object value = mValues[index];
+        if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            value = copy;
+        }
+        return value;
+    }
+
+    int getInt(final String attributeName, final int defaultValue) {
+        int index = indexOf(attributeName);
+        return index != -1 ? (Integer) mValues[index] : defaultValue;
+    }
+
+    String getString(final String attributeName, final String defaultValue) {
+        int index = indexOf(attributeName);
+        return index != -1 ? (String) mValues[index] : defaultValue;
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private static Method[] getAttributeMethods(final Class<? extends Annotation> annotationType) {
+        Method[] attributeMethods = ATTRIBUTES.get(annotationType);
+        if (attributeMethods == null) {
+            attributeMethods = annotationType.getDeclaredMethods();
+            Arrays.sort(attributeMethods, NAME_COMPARATOR);
+            for (Method attributeMethod : attributeMethods) {
+                attributeMethod.setAccessible(true);
+            }
+            Method[] existingAttributeMethods = ATTRIBUTES.putIfAbsent(annotationType,
+                    attributeMethods);
+            if (existingAttributeMethods != null) {
+                attributeMethods = existingAttributeMethods;
+            }
+        }
+        return attributeMethods;
+    }
+
+    private int indexOf(final String attributeName) {
+        int low = 0;
+        int high = mAttributeMethods.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = mAttributeMethods[mid].getName().compareTo(attributeName);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+}
@@ -35,6 +35,10 @@ public abstract class AnnotationRule<RULE_ANNOTATION extends Annotation, DATA_TY
         extends Rule<DATA_TYPE> {
 
     protected final RULE_ANNOTATION mRuleAnnotation;
+    final AnnotationAttributes mAttributes;
+    private final int mErrorCode;
+    private final int mMessageResId;
+    private final String mDefaultMessage;
 
     /**
      * Constructor. It is mandatory that all subclasses MUST have a constructor with the same
@@ -44,16 +48,39 @@ public abstract class AnnotationRule<RULE_ANNOTATION extends Annotation, DATA_TY
      *      this rule is paired.
      */
     protected AnnotationRule(RULE_ANNOTATION ruleAnnotation) {
-        super(ruleAnnotation != null ? (Integer)Reflector.getAttributeValue(ruleAnnotation, "sequence", Integer.TYPE) : -1, ruleAnnotation != null ? (Integer)Reflector.getAttributeValue(ruleAnnotation, "flags", Integer.TYPE) : 0);
+        this(ruleAnnotation, 0);
+    }
+
+    /**
+     * Constructor for rules that declare flags of their own, such as
+     * {@link com.mobsandgeeks.saripaar.Rule#FLAG_PURE}. The flags are combined with the flags of
+     * the rule annotation.
+     *
+     * @param ruleAnnotation  The rule {@link java.lang.annotation.Annotation} instance to which
+     *      this rule is paired.
+     * @param flags  Flags declared by the rule.
+     *
+     * @since 2.1
+     */
+    protected AnnotationRule(RULE_ANNOTATION ruleAnnotation, int flags) {
+        this(ruleAnnotation, ruleAnnotation != null ? AnnotationAttributes.of(ruleAnnotation) : null, flags);
+    }
+
+    private AnnotationRule(RULE_ANNOTATION ruleAnnotation, AnnotationAttributes attributes, int flags) {
+        super(attributes != null ? attributes.getInt(AnnotationAttributes.SEQUENCE, -1) : -1, (attributes != null ? attributes.getInt(AnnotationAttributes.FLAGS, 0) : 0) | flags);
         if (ruleAnnotation == null) {
             throw new IllegalArgumentException("'ruleAnnotation' cannot be null.");
         } else {
             this.mRuleAnnotation = ruleAnnotation;
+            this.mAttributes = attributes;
+            this.mErrorCode = attributes.getInt(AnnotationAttributes.ERROR_CODE, -1);
+            this.mMessageResId = attributes.getInt(AnnotationAttributes.MESSAGE_RES_ID, -1);
+            this.mDefaultMessage = attributes.getString(AnnotationAttributes.MESSAGE, null);
         }
     }
 
     public int getErrorCode() {
-        return (Integer)Reflector.getAttributeValue(this.mRuleAnnotation, "errorCode", Integer.class);
+        return this.mErrorCode;
     }
 
     /**
@@ -64,8 +91,7 @@ public abstract class AnnotationRule<RULE_ANNOTATION extends Annotation, DATA_TY
         if (this.mMessage != null) {
             return this.mMessage;
         } else {
-            int messageResId = (Integer)Reflector.getAttributeValue(this.mRuleAnnotation, "messageResId", Integer.class);
-            return messageResId != -1 ? context.getString(messageResId) : (String)Reflector.getAttributeValue(this.mRuleAnnotation, "message", String.class);
+            return this.mMessageResId != -1 ? context.getString(this.mMessageResId) : this.mDefaultMessage;
         }
     }
 }
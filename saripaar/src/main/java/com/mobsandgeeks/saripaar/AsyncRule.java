@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.os.SystemClock;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link com.mobsandgeeks.saripaar.AnnotationRule} for checks that should not block the
+ * calling thread, such as database or network lookups. Instead of returning a result, the rule
+ * reports it through an {@link AsyncRule.Callback}, on any thread.
+ * <p>
+ * The {@link com.mobsandgeeks.saripaar.Validator} starts all the asynchronous rules of a pass
+ * together, reports the affected views to its
+ * {@link com.mobsandgeeks.saripaar.Validator.ValidationPendingListener} and calls the
+ * {@link com.mobsandgeeks.saripaar.Validator.ValidationListener} once all of them have completed
+ * or timed out. Concurrent requests for the same value are coalesced into one call to
+ * {@link #isValid(Object, AsyncRule.Callback)}.
+ * <p>
+ * Subclasses MUST declare a public {@code void isValid(DATA_TYPE, AsyncRule.Callback)} method
+ * with a concrete data type, it is used to find the
+ * {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} for the rule.
+ *
+ * @param <RULE_ANNOTATION>  The associated rule {@link java.lang.annotation.Annotation}.
+ * @param <DATA_TYPE>  The data type this rule operates on.
+ *
+ * @since 2.1
+ */
+public abstract class AsyncRule<RULE_ANNOTATION extends Annotation, DATA_TYPE>
+        extends AnnotationRule<RULE_ANNOTATION, DATA_TYPE> {
+    public static final long DEFAULT_TIMEOUT_MILLIS = 10000L;
+
+    private final Map<DATA_TYPE, PendingRequest> mPendingRequests =
+            new HashMap<DATA_TYPE, PendingRequest>();
+
+    /**
+     * Constructor. All subclasses MUST have a constructor with the same signature.
+     *
+     * @param ruleAnnotation  The rule {@link java.lang.annotation.Annotation} instance to which
+     *      this rule is paired.
+     */
+    protected AsyncRule(final RULE_ANNOTATION ruleAnnotation) {
+        super(ruleAnnotation);
+    }
+
+    /**
+     * Checks if the data is valid and reports the result through the callback. The callback may
+     * be called on any thread, but only once.
+     *
+     * @param data  Data to validate.
+     * @param callback  The {@link AsyncRule.Callback} that receives the result.
+     */
+    public abstract void isValid(DATA_TYPE data, Callback callback);
+
+    /**
+     * Returns how long the {@link com.mobsandgeeks.saripaar.Validator} waits for a result.
+     *
+     * @return The timeout in milliseconds, {@link #DEFAULT_TIMEOUT_MILLIS} by default.
+     */
+    public long getTimeoutMillis() {
+        return DEFAULT_TIMEOUT_MILLIS;
+    }
+
+    /**
+     * Returns the result that is used when the rule times out.
+     *
+     * @return true to let the data pass on timeout, false by default.
+     */
+    public boolean isValidOnTimeout() {
+        return false;
+    }
+
+    /**
+     * Blocks until the result is available or the timeout expires. Never call this method on
+     * the main thread.
+     *
+     * @param data  Data to validate.
+     *
+     * @return true if valid, false otherwise.
+     */
+    @Override
+    public final boolean isValid(final DATA_TYPE data) {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final boolean[] result = new boolean[1];
+        Callback callback = new Callback() {
+
+            @Override
+            public void onResult(final boolean valid) {
+                result[0] = valid;
+                latch.countDown();
+            }
+        };
+        request(data, callback);
+
+        try {
+            if (latch.await(getTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                return result[0];
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        cancel(data, callback);
+        return isValidOnTimeout();
+    }
+
+    /**
+     * Requests a result for the data. If a request for an equal value is already in progress,
+     * and has not timed out, the callback is attached to it instead of starting a new one.
+     *
+     * @param data  Data to validate.
+     * @param callback  The {@link AsyncRule.Callback} that receives the result.
+     */
+    final void request(final DATA_TYPE data, final Callback callback) {
+        final PendingRequest pendingRequest;
+        synchronized (mPendingRequests) {
+            long now = SystemClock.uptimeMillis();
+            PendingRequest existingRequest = mPendingRequests.get(data);
+            if (existingRequest != null && now - existingRequest.startMillis < getTimeoutMillis()) {
+                existingRequest.callbacks.add(callback);
+                return;
+            }
+            pendingRequest = new PendingRequest(now);
+            pendingRequest.callbacks.add(callback);
+            mPendingRequests.put(data, pendingRequest);
+        }
+
+        try {
+            isValid(data, new Callback() {
+
+                @Override
+                public void onResult(final boolean valid) {
+                    complete(data, pendingRequest, valid);
+                }
+            });
+        } catch (RuntimeException e) {
+            complete(data, pendingRequest, false);
+            throw e;
+        }
+    }
+
+    /**
+     * Detaches a callback that is no longer interested in the result, usually because it timed
+     * out. The request for the data is dropped once it has no callbacks left, a late result is
+     * then ignored.
+     *
+     * @param data  Data that was requested.
+     * @param callback  The {@link AsyncRule.Callback} that was passed to
+     *      {@link #request(Object, AsyncRule.Callback)}.
+     */
+    final void cancel(final DATA_TYPE data, final Callback callback) {
+        synchronized (mPendingRequests) {
+            PendingRequest pendingRequest = mPendingRequests.get(data);
+            if (pendingRequest != null && pendingRequest.callbacks.remove(callback)
+                    && pendingRequest.callbacks.isEmpty()) {
+                mPendingRequests.remove(data);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of requests that are waiting for a result.
+     *
+     * @return The number of pending requests.
+     */
+    final int getPendingRequestCount() {
+        synchronized (mPendingRequests) {
+            return mPendingRequests.size();
+        }
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private void complete(final DATA_TYPE data, final PendingRequest pendingRequest,
+            final boolean valid) {
+        List<Callback> callbacks;
+        synchronized (mPendingRequests) {
+            if (mPendingRequests.get(data) == pendingRequest) {
+                mPendingRequests.remove(data);
+            }
+            callbacks = pendingRequest.callbacks;
+            pendingRequest.callbacks = null;
+        }
+        if (callbacks != null) {
+            for (Callback callback : callbacks) {
+                callback.onResult(valid);
+            }
+        }
+    }
+
+    private static final class PendingRequest {
+        final long startMillis;
+        List<Callback> callbacks = new ArrayList<Callback>();
+
+        PendingRequest(final long startMillis) {
+            this.startMillis = startMillis;
+        }
+    }
+
+    /**
+     * Receives the result of an {@link AsyncRule}.
+     */
+    public interface Callback {
+
+        /**
+         * Called when the result is available.
+         *
+         * @param valid  true if valid, false otherwise.
+         */
+        void onResult(boolean valid);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The aggregated outcome of a {@link com.mobsandgeeks.saripaar.BulkValidator} pass. Rows are
+ * indexed in the iteration order of the collection of controllers that was validated.
+ *
+ * @since 2.1
+ */
+public final class BulkValidationResult {
+    private final List<ValidationError>[] mRowErrors;
+    private final int mInvalidRowCount;
+
+    BulkValidationResult(final List<ValidationError>[] rowErrors) {
+        int invalidRowCount = 0;
+        for (List<ValidationError> errors : rowErrors) {
+            if (errors != null) {
+                invalidRowCount++;
+            }
+        }
+        mRowErrors = rowErrors;
+        mInvalidRowCount = invalidRowCount;
+    }
+
+    /**
+     * Returns the number of rows that were validated.
+     *
+     * @return The number of rows.
+     */
+    public int getRowCount() {
+        return mRowErrors.length;
+    }
+
+    /**
+     * Checks if all the rows passed validation.
+     *
+     * @return true if every row is valid, false otherwise.
+     */
+    public boolean isValid() {
+        return mInvalidRowCount == 0;
+    }
+
+    /**
+     * Checks if a row passed validation.
+     *
+     * @param row  Index of the row.
+     *
+     * @return true if the row is valid, false otherwise.
+     */
+    public boolean isValid(final int row) {
+        return mRowErrors[row] == null;
+    }
+
+    /**
+     * Returns the {@link com.mobsandgeeks.saripaar.ValidationError}s of a row.
+     *
+     * @param row  Index of the row.
+     *
+     * @return The errors in field order, an empty list if the row is valid.
+     */
+    public List<ValidationError> getErrors(final int row) {
+        List<ValidationError> errors = mRowErrors[row];
+        return errors != null
+                ? Collections.unmodifiableList(errors) : Collections.<ValidationError>emptyList();
+    }
+
+    /**
+     * Returns the number of rows that failed validation.
+     *
+     * @return The number of invalid rows.
+     */
+    public int getInvalidRowCount() {
+        return mInvalidRowCount;
+    }
+
+    /**
+     * Returns the indices of the rows that failed validation.
+     *
+     * @return The indices of the invalid rows in ascending order.
+     */
+    public int[] getInvalidRows() {
+        int[] invalidRows = new int[mInvalidRowCount];
+        int n = 0;
+        for (int row = 0; row < mRowErrors.length; row++) {
+            if (mRowErrors[row] != null) {
+                invalidRows[n++] = row;
+            }
+        }
+        return invalidRows;
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import android.util.Pair;
+import android.view.View;
+
+import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+import com.mobsandgeeks.saripaar.exception.ConversionException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates many controllers of the same class, such as the rows of a repeating form section, in
+ * a single pass. The rules of the controller class are resolved once and rules that do not read
+ * other views are shared by all the rows. A generated {@link SaripaarBinder} still creates the
+ * rules of every row, only the ones created for the first row are kept. Every enabled and shown annotated view is validated,
+ * as in {@link com.mobsandgeeks.saripaar.Validator.Mode#BURST}, and the errors of all the rows
+ * are returned together in a {@link com.mobsandgeeks.saripaar.BulkValidationResult}.
+ * <p>
+ * Call {@link #validate(java.util.Collection)} on the main thread, the state of the views is
+ * captured there. {@link com.mobsandgeeks.saripaar.AsyncRule}s are not supported.
+ *
+ * @since 2.1
+ */
+public final class BulkValidator {
+    private final Class<?> mControllerClass;
+    private volatile boolean mParallelEvaluation;
+
+    /**
+     * Constructor.
+     *
+     * @param controllerClass  The class of the controllers that will be validated.
+     */
+    public BulkValidator(final Class<?> controllerClass) {
+        Validator.assertNotNull(controllerClass, "controllerClass");
+        mControllerClass = controllerClass;
+    }
+
+    /**
+     * Evaluates the rows in parallel, on the pool used by
+     * {@link com.mobsandgeeks.saripaar.Validator#setParallelEvaluation(boolean)}. Rules that read
+     * other views are still evaluated on the calling thread. Custom rules must be thread-safe
+     * when this is enabled.
+     *
+     * @param parallelEvaluation  true to evaluate rows in parallel, false otherwise.
+     */
+    public void setParallelEvaluation(final boolean parallelEvaluation) {
+        mParallelEvaluation = parallelEvaluation;
+    }
+
+    /**
+     * Validates all the controllers.
+     *
+     * @param controllers  The controllers to validate, all of them must be instances of the
+     *      controller class. Rows are indexed in iteration order.
+     *
+     * @return A {@link com.mobsandgeeks.saripaar.BulkValidationResult} with the errors of each
+     *      row.
+     */
+    @SuppressWarnings("unchecked")
+    public BulkValidationResult validate(final Collection<?> controllers) {
+        Validator.assertNotNull(controllers, "controllers");
+        ControllerPlan controllerPlan = Validator.getControllerPlan(mControllerClass);
+        AnnotationRule[][] sharedRules = createSharedRules(controllerPlan);
+        Map<Annotation, AnnotationRule> sharedBoundRules =
+                new IdentityHashMap<Annotation, AnnotationRule>();
+
+        Row[] rows = new Row[controllers.size()];
+        Iterator<?> iterator = controllers.iterator();
+        for (int r = 0; r < rows.length; r++) {
+            Object controller = iterator.next();
+            Validator.assertNotNull(controller, "controller");
+            if (controller.getClass() != mControllerClass) {
+                String message = String.format("Expected an instance of '%s', but found '%s'.",
+                        mControllerClass.getName(), controller.getClass().getName());
+                throw new IllegalArgumentException(message);
+            }
+            rows[r] = captureRow(createRules(controllerPlan, sharedRules, sharedBoundRules,
+                    controller));
+        }
+
+        List<ValidationError>[] rowErrors = new List[rows.length];
+        int nTasks = mParallelEvaluation
+                ? Math.min(rows.length, Validator.ParallelHolder.PARALLELISM) - 1 : 0;
+        Validator.runInParallel(new RowEvaluation(rows, rowErrors), nTasks);
+        return new BulkValidationResult(rowErrors);
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private AnnotationRule[][] createSharedRules(final ControllerPlan controllerPlan) {
+        if (controllerPlan.binder == null && controllerPlan.fieldPlans.length == 0) {
+            String message = "No rules found. You must have at least one rule to validate. "
+                    + "If you are using custom annotations, make sure that you have registered "
+                    + "them using the 'Validator.register()' method.";
+            throw new IllegalStateException(message);
+        }
+
+        // Rules that read other views need a context per row, the others are created once
+        ValidationContext sharedContext = new ValidationContext();
+        sharedContext.setViewRulesMap(
+                new LinkedHashMap<View, ArrayList<Pair<Rule, ViewDataAdapter>>>());
+        ControllerPlan.FieldPlan[] fieldPlans = controllerPlan.fieldPlans;
+        AnnotationRule[][] sharedRules = new AnnotationRule[fieldPlans.length][];
+        for (int i = 0; i < fieldPlans.length; i++) {
+            ControllerPlan.RulePlan[] rulePlans = fieldPlans[i].rulePlans;
+            sharedRules[i] = new AnnotationRule[rulePlans.length];
+            for (int j = 0; j < rulePlans.length; j++) {
+                AnnotationRule rule = Reflector.instantiateRule(rulePlans[j].ruleConstructor,
+                        rulePlans[j].ruleAnnotation, sharedContext);
+                if (!ExecutionPlan.isCrossField(rule)) {
+                    sharedRules[i][j] = rule;
+                }
+            }
+        }
+        return sharedRules;
+    }
+
+    private Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> createRules(
+            final ControllerPlan controllerPlan, final AnnotationRule[][] sharedRules,
+            final Map<Annotation, AnnotationRule> sharedBoundRules, final Object controller) {
+        Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap =
+                new LinkedHashMap<View, ArrayList<Pair<Rule, ViewDataAdapter>>>();
+        ValidationContext validationContext = new ValidationContext();
+        validationContext.setViewRulesMap(viewRulesMap);
+
+        if (controllerPlan.binder != null) {
+            controllerPlan.binder.bind(controller, validationContext, new SharingBindings(
+                    new Validator.RuleBindings(viewRulesMap), sharedBoundRules));
+            return viewRulesMap;
+        }
+
+        ControllerPlan.FieldPlan[] fieldPlans = controllerPlan.fieldPlans;
+        for (int i = 0; i < fieldPlans.length; i++) {
+            View view = getView(fieldPlans[i].field, controller);
+            if (view == null) {
+                continue;
+            }
+
+            ControllerPlan.RulePlan[] rulePlans = fieldPlans[i].rulePlans;
+            ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs =
+                    new ArrayList<Pair<Rule, ViewDataAdapter>>(rulePlans.length);
+            for (int j = 0; j < rulePlans.length; j++) {
+                AnnotationRule rule = sharedRules[i][j] != null
+                        ? sharedRules[i][j]
+                        : Reflector.instantiateRule(rulePlans[j].ruleConstructor,
+                                rulePlans[j].ruleAnnotation, validationContext);
+                ruleAdapterPairs.add(new Pair<Rule, ViewDataAdapter>(rule,
+                        rulePlans[j].dataAdapter));
+            }
+            viewRulesMap.put(view, ruleAdapterPairs);
+        }
+        return viewRulesMap;
+    }
+
+    private View getView(final Field field, final Object controller) {
+        View view = null;
+        try {
+            view = (View) field.get(controller);
+        } catch (IllegalAccessException e) {
+            e.printStackTrace();
+        }
+        return view;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Row captureRow(final Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap) {
+        int nRules = 0;
+        for (ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs : viewRulesMap.values()) {
+            nRules += ruleAdapterPairs.size();
+        }
+
+        Row row = new Row(viewRulesMap.size(), nRules);
+        int v = 0;
+        int i = 0;
+        for (Map.Entry<View, ArrayList<Pair<Rule, ViewDataAdapter>>> entry
+                : viewRulesMap.entrySet()) {
+            View view = entry.getKey();
+            boolean validateView = view.isShown() && view.isEnabled();
+            row.views[v] = view;
+            row.ruleStart[v++] = i;
+
+            for (Pair<Rule, ViewDataAdapter> ruleAdapterPair : entry.getValue()) {
+                Rule rule = ruleAdapterPair.first;
+                if (rule instanceof AsyncRule) {
+                    String message = String.format("'%s' is an '%s', which is not supported by "
+                            + "the '%s'.", rule.getClass().getName(), AsyncRule.class.getName(),
+                            BulkValidator.class.getName());
+                    throw new IllegalStateException(message);
+                }
+
+                row.rules[i] = rule;
+                if (!validateView) {
+                    row.ruleStates[i] = ValidationSnapshot.STATE_SKIPPED;
+                } else {
+                    try {
+                        Object data = ruleAdapterPair.second.getData(view);
+                        if (ExecutionPlan.isCrossField(rule)) {
+                            row.ruleStates[i] = rule.isValid(data)
+                                    ? ValidationSnapshot.STATE_VALID
+                                    : ValidationSnapshot.STATE_INVALID;
+                        } else {
+                            row.ruleStates[i] = ValidationSnapshot.STATE_DATA;
+                            row.ruleData[i] = data;
+                        }
+                    } catch (ConversionException e) {
+                        row.ruleStates[i] = ValidationSnapshot.STATE_INVALID;
+                        e.printStackTrace();
+                    }
+                }
+                i++;
+            }
+        }
+        row.ruleStart[v] = i;
+        return row;
+    }
+
+    /**
+     * Replaces the rules bound by a {@link SaripaarBinder} that do not read other views with the
+     * ones bound for the first row. Binders pass the same annotation instance for a rule on every
+     * call, which identifies the rule across rows.
+     */
+    private static final class SharingBindings implements SaripaarBinder.Bindings {
+        private final SaripaarBinder.Bindings mBindings;
+        private final Map<Annotation, AnnotationRule> mSharedRules;
+
+        SharingBindings(final SaripaarBinder.Bindings bindings,
+                final Map<Annotation, AnnotationRule> sharedRules) {
+            mBindings = bindings;
+            mSharedRules = sharedRules;
+        }
+
+        @Override
+        public void addView(final View view) {
+            mBindings.addView(view);
+        }
+
+        @Override
+        public void addRule(final View view, final Class<? extends View> viewType,
+                final AnnotationRule rule, final ViewDataAdapter dataAdapter) {
+            AnnotationRule boundRule = rule;
+            if (!ExecutionPlan.isCrossField(rule)) {
+                AnnotationRule sharedRule = mSharedRules.get(rule.mRuleAnnotation);
+                if (sharedRule != null && sharedRule.getClass() == rule.getClass()) {
+                    boundRule = sharedRule;
+                } else {
+                    mSharedRules.put(rule.mRuleAnnotation, rule);
+                }
+            }
+            mBindings.addRule(view, viewType, boundRule, dataAdapter);
+        }
+    }
+
+    /**
+     * The views of a row and the state of their rules, captured on the calling thread. Rule
+     * states are the ones used by {@link ValidationSnapshot}.
+     */
+    private static final class Row {
+        final View[] views;
+        final int[] ruleStart;
+        final Rule[] rules;
+        final byte[] ruleStates;
+        final Object[] ruleData;
+
+        Row(final int nViews, final int nRules) {
+            views = new View[nViews];
+            ruleStart = new int[nViews + 1];
+            rules = new Rule[nRules];
+            ruleStates = new byte[nRules];
+            ruleData = new Object[nRules];
+        }
+    }
+
+    /**
+     * Evaluates rows until none are left, can be run by several threads at once.
+     */
+    private static final class RowEvaluation implements Runnable {
+        private final Row[] mRows;
+        private final List<ValidationError>[] mRowErrors;
+        private final AtomicInteger mNextRow = new AtomicInteger();
+
+        RowEvaluation(final Row[] rows, final List<ValidationError>[] rowErrors) {
+            mRows = rows;
+            mRowErrors = rowErrors;
+        }
+
+        @Override
+        public void run() {
+            int r;
+            while ((r = mNextRow.getAndIncrement()) < mRows.length) {
+                mRowErrors[r] = evaluate(mRows[r]);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<ValidationError> evaluate(final Row row) {
+            List<ValidationError> validationErrors = null;
+            for (int v = 0; v < row.views.length; v++) {
+                List<Rule> failedRules = null;
+                for (int i = row.ruleStart[v]; i < row.ruleStart[v + 1]; i++) {
+                    byte ruleState = row.ruleStates[i];
+                    if (ruleState == ValidationSnapshot.STATE_SKIPPED) {
+                        continue;
+                    }
+
+                    boolean valid = ruleState == ValidationSnapshot.STATE_DATA
+                            ? row.rules[i].isValid(row.ruleData[i])
+                            : ruleState == ValidationSnapshot.STATE_VALID;
+                    if (!valid) {
+                        if (failedRules == null) {
+                            failedRules = new ArrayList<Rule>();
+                        }
+                        failedRules.add(row.rules[i]);
+                    }
+                }
+
+                if (failedRules != null) {
+                    if (validationErrors == null) {
+                        validationErrors = new ArrayList<ValidationError>();
+                    }
+                    validationErrors.add(new ValidationError(row.views[v], failedRules));
+                }
+            }
+            return validationErrors;
+        }
+    }
+}
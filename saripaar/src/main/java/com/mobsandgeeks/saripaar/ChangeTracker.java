@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.view.View;
+import android.widget.AdapterView;
+import android.widget.CompoundButton;
+import android.widget.TextView;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hands out change tokens for {@link android.view.View}s. As long as the token of a view stays the
+ * same, the data that rules read from the view has not changed.
+ * <ul>
+ *     <li>{@link android.widget.TextView}s get a {@link android.text.TextWatcher} that bumps a
+ *     generation number on every edit.</li>
+ *     <li>{@link android.widget.CompoundButton}s use their checked state and
+ *     {@link android.widget.AdapterView}s their selected position, so that no listener set by
+ *     the app is replaced.</li>
+ *     <li>Other views do not have a token and are always treated as changed.</li>
+ * </ul>
+ *
+ * @since 2.1
+ */
+final class ChangeTracker {
+    static final long NO_TOKEN = Long.MIN_VALUE;
+
+    private final Map<TextView, TextGeneration> mTextGenerations =
+            new HashMap<TextView, TextGeneration>();
+
+    /**
+     * Returns the current change token for a {@link android.view.View}.
+     *
+     * @param view  The {@link android.view.View}.
+     *
+     * @return The change token, {@link #NO_TOKEN} if changes to the view cannot be tracked.
+     */
+    long getToken(final View view) {
+        if (view instanceof CompoundButton) {
+            return ((CompoundButton) view).isChecked() ? 1 : 0;
+        } else if (view instanceof TextView) {
+            return getTextGeneration((TextView) view).generation;
+        } else if (view instanceof AdapterView) {
+            return ((AdapterView) view).getSelectedItemPosition();
+        }
+        return NO_TOKEN;
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private synchronized TextGeneration getTextGeneration(final TextView textView) {
+        TextGeneration textGeneration = mTextGenerations.get(textView);
+        if (textGeneration == null) {
+            textGeneration = new TextGeneration();
+            textView.addTextChangedListener(textGeneration);
+            mTextGenerations.put(textView, textGeneration);
+        }
+        return textGeneration;
+    }
+
+    /**
+     * Counts the edits made to a {@link android.widget.TextView}.
+     */
+    private static final class TextGeneration implements TextWatcher {
+        volatile long generation;
+
+        @Override
+        public void beforeTextChanged(final CharSequence s, final int start, final int count,
+                final int after) {
+            // Do nothing
+        }
+
+        @Override
+        public void onTextChanged(final CharSequence s, final int start, final int before,
+                final int count) {
+            // Do nothing
+        }
+
+        @Override
+        public void afterTextChanged(final Editable s) {
+            generation++;
+        }
+    }
+}
@@ -42,4 +42,19 @@ public abstract class ContextualAnnotationRule<RULE_ANNOTATION extends Annotatio
         }
         mValidationContext = validationContext;
     }
+
+    /**
+     * Tells if the rule reads other {@link android.view.View}s through its
+     * {@link ValidationContext}. Such rules are re-run on every pass, evaluated on the main
+     * thread and are not supported by the {@link HeadlessValidator}. Rules that only use the
+     * context for resources should override this method and return false, so that their results
+     * can be reused like those of other {@link AnnotationRule}s.
+     *
+     * @return true if the rule reads other views, false otherwise.
+     *
+     * @since 2.1
+     */
+    protected boolean readsOtherViews() {
+        return true;
+    }
 }
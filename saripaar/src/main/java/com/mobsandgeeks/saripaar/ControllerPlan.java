@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The resolved, controller-independent description of the rules declared on a controller class.
+ * A plan holds the annotated {@link android.view.View} {@link java.lang.reflect.Field}s in
+ * validation order, and for each of them the rule annotations, rule constructors and
+ * {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}s. Plans are compiled once per
+ * controller class and shared process-wide, so that subsequent
+ * {@link com.mobsandgeeks.saripaar.Validator}s only have to read the fields from their
+ * controller instance and instantiate the rules. When the {@code saripaar-compiler} has generated
+ * a {@link com.mobsandgeeks.saripaar.SaripaarBinder} for the controller class, the plan only
+ * holds the binder.
+ *
+ * @since 2.1
+ */
+final class ControllerPlan {
+    private static final ConcurrentHashMap<Class<?>, ControllerPlan> PLANS =
+            new ConcurrentHashMap<Class<?>, ControllerPlan>();
+
+    final FieldPlan[] fieldPlans;
+    final SaripaarBinder binder;
+    final boolean orderedFields;
+    final int registryVersion;
+
+    ControllerPlan(final FieldPlan[] fieldPlans, final boolean orderedFields,
+            final int registryVersion) {
+        this.fieldPlans = fieldPlans;
+        this.binder = null;
+        this.orderedFields = orderedFields;
+        this.registryVersion = registryVersion;
+    }
+
+    ControllerPlan(final SaripaarBinder binder, final int registryVersion) {
+        this.fieldPlans = new FieldPlan[0];
+        this.binder = binder;
+        this.orderedFields = binder.hasOrderedFields();
+        this.registryVersion = registryVersion;
+    }
+
+    /**
+     * Returns the cached plan for the given controller class.
+     *
+     * @param controllerClass  The controller {@link java.lang.Class}.
+     * @param registryVersion  The current registration version, plans compiled against an
+     *      older version are discarded.
+     *
+     * @return The cached {@link ControllerPlan}, null if there is none or if it is stale.
+     */
+    static ControllerPlan get(final Class<?> controllerClass, final int registryVersion) {
+        ControllerPlan plan = PLANS.get(controllerClass);
+        if (plan != null && plan.registryVersion != registryVersion) {
+            PLANS.remove(controllerClass, plan);
+            plan = null;
+        }
+        return plan;
+    }
+
+    /**
+     * Caches a plan for the given controller class. If another thread has already cached a plan
+     * for the same or a newer registration version, that plan is returned instead, so that a
+     * plan compiled against an older version never replaces a newer one.
+     *
+     * @param controllerClass  The controller {@link java.lang.Class}.
+     * @param plan  A freshly compiled {@link ControllerPlan}.
+     *
+     * @return The {@link ControllerPlan} that should be used.
+     */
+    static ControllerPlan put(final Class<?> controllerClass, final ControllerPlan plan) {
+        while (true) {
+            ControllerPlan existingPlan = PLANS.putIfAbsent(controllerClass, plan);
+            if (existingPlan == null) {
+                return plan;
+            } else if (existingPlan.registryVersion >= plan.registryVersion) {
+                return existingPlan;
+            } else if (PLANS.replace(controllerClass, existingPlan, plan)) {
+                return plan;
+            }
+        }
+    }
+
+    static boolean evict(final Class<?> controllerClass) {
+        return PLANS.remove(controllerClass) != null;
+    }
+
+    static void evictAll() {
+        PLANS.clear();
+    }
+
+    /**
+     * An annotated {@link android.view.View} field and its rules, sorted by sequence.
+     */
+    static final class FieldPlan {
+        final Field field;
+        final RulePlan[] rulePlans;
+        final boolean hasAsyncRules;
+
+        FieldPlan(final Field field, final RulePlan[] rulePlans) {
+            this.field = field;
+            this.rulePlans = rulePlans;
+
+            boolean hasAsyncRules = false;
+            for (RulePlan rulePlan : rulePlans) {
+                if (AsyncRule.class.isAssignableFrom(rulePlan.ruleConstructor.getDeclaringClass())) {
+                    hasAsyncRules = true;
+                    break;
+                }
+            }
+            this.hasAsyncRules = hasAsyncRules;
+        }
+    }
+
+    /**
+     * A rule annotation along with everything required to instantiate its
+     * {@link com.mobsandgeeks.saripaar.AnnotationRule}.
+     */
+    static final class RulePlan implements Comparable<RulePlan> {
+        final Annotation ruleAnnotation;
+        final Constructor<? extends AnnotationRule> ruleConstructor;
+        final ViewDataAdapter dataAdapter;
+        final int sequence;
+
+        RulePlan(final Annotation ruleAnnotation,
+                final Constructor<? extends AnnotationRule> ruleConstructor,
+                final ViewDataAdapter dataAdapter, final int sequence) {
+            this.ruleAnnotation = ruleAnnotation;
+            this.ruleConstructor = ruleConstructor;
+            this.dataAdapter = dataAdapter;
+            this.sequence = sequence;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compareTo(final RulePlan rulePlan) {
+            return sequence == rulePlan.sequence
+                    ? 0 : sequence > rulePlan.sequence ? 1 : -1;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.util.Pair;
+import android.view.View;
+
+import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A dense, array-based form of a {@link com.mobsandgeeks.saripaar.Validator}'s view-rules map.
+ * The rules of the {@link android.view.View} at index {@code i} are found at the indices
+ * {@code ruleStart[i]} (inclusive) to {@code ruleStart[i + 1]} (exclusive) of the
+ * {@code rules}, {@code adapters} and {@code flags} arrays. Plans are immutable, a new plan is
+ * compiled whenever the view-rules map changes.
+ *
+ * @since 2.1
+ */
+final class ExecutionPlan {
+    static final int FLAG_ULTIMATE = 1;
+    static final int FLAG_ANNOTATION_RULE = 1 << 1;
+    static final int FLAG_QUICK_RULE = 1 << 2;
+    static final int FLAG_CACHEABLE = 1 << 3;
+    static final int FLAG_MEMOIZABLE = 1 << 4;
+    static final int FLAG_ASYNC_RULE = 1 << 5;
+    static final int FLAG_CONTEXTUAL = 1 << 6;
+
+    final View[] views;
+    final int[] ruleStart;
+    final Rule[] rules;
+    final ViewDataAdapter[] adapters;
+    final int[] flags;
+    final boolean hasAsyncRules;
+
+    private ExecutionPlan(final View[] views, final int[] ruleStart, final Rule[] rules,
+            final ViewDataAdapter[] adapters, final int[] flags, final boolean hasAsyncRules) {
+        this.views = views;
+        this.ruleStart = ruleStart;
+        this.rules = rules;
+        this.adapters = adapters;
+        this.flags = flags;
+        this.hasAsyncRules = hasAsyncRules;
+    }
+
+    /**
+     * Compiles a view-rules map into an {@link ExecutionPlan}, preserving the iteration order of
+     * the map and the order of the rules for each {@link android.view.View}.
+     *
+     * @param viewRulesMap  The view-rules map.
+     *
+     * @return The compiled {@link ExecutionPlan}.
+     */
+    static ExecutionPlan compile(
+            final Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap) {
+        int nViews = viewRulesMap.size();
+        int nRules = 0;
+        for (ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs : viewRulesMap.values()) {
+            nRules += ruleAdapterPairs.size();
+        }
+
+        View[] views = new View[nViews];
+        int[] ruleStart = new int[nViews + 1];
+        Rule[] rules = new Rule[nRules];
+        ViewDataAdapter[] adapters = new ViewDataAdapter[nRules];
+        int[] flags = new int[nRules];
+
+        int viewIndex = 0;
+        int ruleIndex = 0;
+        boolean hasAsyncRules = false;
+        Iterator<Map.Entry<View, ArrayList<Pair<Rule, ViewDataAdapter>>>> entries =
+                viewRulesMap.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<View, ArrayList<Pair<Rule, ViewDataAdapter>>> entry = entries.next();
+            ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs = entry.getValue();
+
+            views[viewIndex] = entry.getKey();
+            ruleStart[viewIndex] = ruleIndex;
+            for (int i = 0, n = ruleAdapterPairs.size(); i < n; i++) {
+                Pair<Rule, ViewDataAdapter> ruleAdapterPair = ruleAdapterPairs.get(i);
+                rules[ruleIndex] = ruleAdapterPair.first;
+                adapters[ruleIndex] = ruleAdapterPair.second;
+                flags[ruleIndex] = getFlags(ruleAdapterPair.first);
+                hasAsyncRules |= (flags[ruleIndex] & FLAG_ASYNC_RULE) != 0;
+                ruleIndex++;
+            }
+            viewIndex++;
+        }
+        ruleStart[nViews] = ruleIndex;
+
+        return new ExecutionPlan(views, ruleStart, rules, adapters, flags, hasAsyncRules);
+    }
+
+    /**
+     * Returns the index of a {@link android.view.View} in this plan.
+     *
+     * @param view  The {@link android.view.View}.
+     *
+     * @return The index of the view, -1 if the view is not a part of this plan.
+     */
+    int indexOf(final View view) {
+        for (int i = 0; i < views.length; i++) {
+            if (views[i] == view) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the last {@link android.view.View} in this plan.
+     *
+     * @return The last view, null if the plan is empty.
+     */
+    View getLastView() {
+        return views.length > 0 ? views[views.length - 1] : null;
+    }
+
+    /**
+     * Tells if a {@link Rule} reads other {@link android.view.View}s, see
+     * {@link ContextualAnnotationRule#readsOtherViews()}.
+     *
+     * @param rule  The {@link Rule}.
+     *
+     * @return true if the rule is a cross-field rule, false otherwise.
+     */
+    static boolean isCrossField(final Rule rule) {
+        return rule instanceof ContextualAnnotationRule
+                && ((ContextualAnnotationRule) rule).readsOtherViews();
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private static int getFlags(final Rule rule) {
+        int flags = 0;
+        if (rule.isUltimate()) {
+            flags |= FLAG_ULTIMATE;
+        }
+        if (rule instanceof AnnotationRule) {
+            flags |= FLAG_ANNOTATION_RULE;
+            if (rule instanceof AsyncRule) {
+                flags |= FLAG_ASYNC_RULE;
+            } else if (isCrossField(rule)) {
+                flags |= FLAG_CONTEXTUAL;
+            } else {
+                flags |= FLAG_CACHEABLE;
+                if (rule.isPure()) {
+                    flags |= FLAG_MEMOIZABLE;
+                }
+            }
+        } else if (rule instanceof QuickRule) {
+            flags |= FLAG_QUICK_RULE;
+        }
+        return flags;
+    }
+}
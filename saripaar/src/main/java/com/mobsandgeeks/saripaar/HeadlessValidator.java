@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import com.mobsandgeeks.saripaar.exception.ConversionException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates plain model objects and key/value records with the same rule annotations used on
+ * {@link android.view.View}s, without any views involved. Annotations may be placed on fields of
+ * any type and on accessor methods that take no arguments, the rules in
+ * {@link com.mobsandgeeks.saripaar.rule} are applied to their values.
+ * <p>
+ * Values are converted to the data type of each rule. {@link java.lang.String} rules receive
+ * {@link java.lang.Object#toString()}, or an empty string for null. Numeric rules accept
+ * {@link java.lang.Number}s and numeric strings. A value that cannot be converted fails the rule.
+ * <p>
+ * The methods of this class may be called on any thread. Rules are compiled once per class and
+ * shared, so custom rules must be thread-safe. Rules that read other views, such as
+ * {@link com.mobsandgeeks.saripaar.annotation.ConfirmPassword}, are not supported and throw an
+ * {@link java.lang.IllegalStateException}, see
+ * {@link com.mobsandgeeks.saripaar.ContextualAnnotationRule#readsOtherViews()}.
+ *
+ * @since 2.1
+ */
+public final class HeadlessValidator {
+
+    private HeadlessValidator() {
+    }
+
+    /**
+     * Validates the annotated fields and accessor methods of a model object.
+     *
+     * @param model  The model object.
+     *
+     * @return A {@link java.util.List} of {@link com.mobsandgeeks.saripaar.PropertyError}s in
+     *      the order of their property names, empty if the model is valid.
+     */
+    public static List<PropertyError> validate(final Object model) {
+        Validator.assertNotNull(model, "model");
+        List<PropertyError> propertyErrors =
+                validate(PropertyPlan.get(model.getClass()).properties, model, false);
+        return propertyErrors != null
+                ? propertyErrors : Collections.<PropertyError>emptyList();
+    }
+
+    /**
+     * Validates a key/value record against the annotated fields and accessor methods of a
+     * schema class. Each value is looked up using the name of the corresponding property, a
+     * missing key is treated as a null value.
+     *
+     * @param record  The record to validate.
+     * @param schemaClass  The class that declares the rules.
+     *
+     * @return A {@link java.util.List} of {@link com.mobsandgeeks.saripaar.PropertyError}s in
+     *      the order of their property names, empty if the record is valid.
+     */
+    public static List<PropertyError> validate(final Map<String, ?> record,
+            final Class<?> schemaClass) {
+        Validator.assertNotNull(record, "record");
+        Validator.assertNotNull(schemaClass, "schemaClass");
+        List<PropertyError> propertyErrors =
+                validate(PropertyPlan.get(schemaClass).properties, record, true);
+        return propertyErrors != null
+                ? propertyErrors : Collections.<PropertyError>emptyList();
+    }
+
+    /**
+     * Validates a model object or a key/value record.
+     *
+     * @param properties  The properties of a {@link PropertyPlan}.
+     * @param record  The model object or {@link java.util.Map} to validate.
+     * @param keyValue  true if the record is a {@link java.util.Map}, false if it is a model
+     *      object.
+     *
+     * @return The {@link com.mobsandgeeks.saripaar.PropertyError}s, null if the record is valid.
+     */
+    static List<PropertyError> validate(final PropertyPlan.Property[] properties,
+            final Object record, final boolean keyValue) {
+        List<PropertyError> propertyErrors = null;
+        for (PropertyPlan.Property property : properties) {
+            Object value = keyValue
+                    ? ((Map<?, ?>) record).get(property.name) : property.getValue(record);
+            propertyErrors = validate(property, value, propertyErrors);
+        }
+        return propertyErrors;
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    @SuppressWarnings("unchecked")
+    private static List<PropertyError> validate(final PropertyPlan.Property property,
+            final Object value, List<PropertyError> propertyErrors) {
+        AnnotationRule[] rules = property.rules;
+        List<Rule> failedRules = null;
+        for (int i = 0; i < rules.length; i++) {
+            boolean valid;
+            try {
+                valid = rules[i].isValid(convert(value, property.ruleDataTypes[i]));
+            } catch (ConversionException e) {
+                valid = false;
+            }
+
+            if (!valid) {
+                if (failedRules == null) {
+                    failedRules = new ArrayList<Rule>();
+                }
+                failedRules.add(rules[i]);
+            }
+        }
+
+        if (failedRules != null) {
+            if (propertyErrors == null) {
+                propertyErrors = new ArrayList<PropertyError>();
+            }
+            propertyErrors.add(new PropertyError(property.name, value, failedRules));
+        }
+        return propertyErrors;
+    }
+
+    private static Object convert(final Object value, final Class<?> dataType)
+            throws ConversionException {
+        if (value == null) {
+            if (String.class.equals(dataType)) {
+                return "";
+            }
+            throw new ConversionException("Expected a value, but was null");
+        } else if (dataType == null || dataType.isInstance(value)) {
+            return value;
+        } else if (String.class.equals(dataType)) {
+            return value.toString();
+        }
+
+        try {
+            if (Integer.class.equals(dataType)) {
+                if (value instanceof Integer || value instanceof Short || value instanceof Byte
+                        || value instanceof Long && (Long) value == ((Long) value).intValue()) {
+                    return ((Number) value).intValue();
+                } else if (value instanceof CharSequence) {
+                    return Integer.valueOf(value.toString().trim());
+                }
+            } else if (Double.class.equals(dataType)) {
+                if (value instanceof Number) {
+                    return ((Number) value).doubleValue();
+                } else if (value instanceof CharSequence) {
+                    return Double.valueOf(value.toString().trim());
+                }
+            } else if (Float.class.equals(dataType)) {
+                if (value instanceof Number) {
+                    return ((Number) value).floatValue();
+                } else if (value instanceof CharSequence) {
+                    return Float.valueOf(value.toString().trim());
+                }
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+
+        String message = String.format("Expected a %s, but was %s", dataType.getName(), value);
+        throw new ConversionException(message);
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates the rows of a virtualized list, such as a {@code RecyclerView} or a
+ * {@link android.widget.ListView}, from the data that backs it rather than from its
+ * {@link android.view.View}s, which only exist for the rows on screen. Rules are declared on a
+ * row schema class as for the {@link com.mobsandgeeks.saripaar.HeadlessValidator}, each row is
+ * either an instance of that class or a {@link java.util.Map} keyed by property name.
+ * <p>
+ * The validator keeps the errors of every position and tracks the view holders that are
+ * currently bound, through {@link #onBind(Object, int)} and {@link #onUnbind(Object)}. Errors are
+ * only rendered on bound holders, by a {@link PositionalValidator.RowErrorRenderer}, and off
+ * screen rows pick their errors up when they are bound. All methods must be called on the main
+ * thread.
+ *
+ * @param <HOLDER>  The view holder type of the list adapter.
+ *
+ * @since 2.1
+ */
+public final class PositionalValidator<HOLDER> {
+    private final PropertyPlan.Property[] mProperties;
+    private final Class<?> mRowSchemaClass;
+    private final RowSource mRowSource;
+    private final RowErrorRenderer<HOLDER> mRowErrorRenderer;
+    private final Map<HOLDER, Integer> mBoundHolders = new HashMap<HOLDER, Integer>();
+    private List<PropertyError>[] mRowErrors;
+
+    /**
+     * Constructor.
+     *
+     * @param rowSchemaClass  The class that declares the rules of a row.
+     * @param rowSource  The {@link PositionalValidator.RowSource} that backs the list.
+     * @param rowErrorRenderer  Renders errors on bound view holders.
+     */
+    @SuppressWarnings("unchecked")
+    public PositionalValidator(final Class<?> rowSchemaClass, final RowSource rowSource,
+            final RowErrorRenderer<HOLDER> rowErrorRenderer) {
+        Validator.assertNotNull(rowSchemaClass, "rowSchemaClass");
+        Validator.assertNotNull(rowSource, "rowSource");
+        Validator.assertNotNull(rowErrorRenderer, "rowErrorRenderer");
+        mProperties = PropertyPlan.get(rowSchemaClass).properties;
+        mRowSchemaClass = rowSchemaClass;
+        mRowSource = rowSource;
+        mRowErrorRenderer = rowErrorRenderer;
+        mRowErrors = new List[0];
+    }
+
+    /**
+     * Validates all the rows and renders the errors on the bound view holders. Call again after
+     * rows have been inserted, removed or moved.
+     *
+     * @return true if all the rows are valid, false otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean validate() {
+        int nRows = mRowSource.getRowCount();
+        List<PropertyError>[] rowErrors = new List[nRows];
+        boolean valid = true;
+        for (int position = 0; position < nRows; position++) {
+            rowErrors[position] = validateRow(mRowSource.getRow(position));
+            valid &= rowErrors[position] == null;
+        }
+        mRowErrors = rowErrors;
+
+        for (Map.Entry<HOLDER, Integer> boundHolder : mBoundHolders.entrySet()) {
+            render(boundHolder.getKey(), boundHolder.getValue());
+        }
+        return valid;
+    }
+
+    /**
+     * Validates a single row, typically after it has been edited, and renders its errors if it
+     * is bound.
+     *
+     * @param position  Adapter position of the row.
+     *
+     * @return true if the row is valid, false otherwise.
+     *
+     * @throws IllegalArgumentException if the position is negative.
+     * @throws IndexOutOfBoundsException if the position is not less than the row count.
+     */
+    public boolean validate(final int position) {
+        if (position < 0) {
+            String message = String.format("'position' must not be negative, but was %d.",
+                    position);
+            throw new IllegalArgumentException(message);
+        }
+        int nRows = mRowSource.getRowCount();
+        if (position >= nRows) {
+            String message = String.format("'position' must be less than the row count %d, "
+                    + "but was %d.", nRows, position);
+            throw new IndexOutOfBoundsException(message);
+        }
+
+        // Rows were added or removed since the last pass
+        if (nRows != mRowErrors.length) {
+            validate();
+            return isValid(position);
+        }
+
+        mRowErrors[position] = validateRow(mRowSource.getRow(position));
+        for (Map.Entry<HOLDER, Integer> boundHolder : mBoundHolders.entrySet()) {
+            if (boundHolder.getValue() == position) {
+                render(boundHolder.getKey(), position);
+            }
+        }
+        return mRowErrors[position] == null;
+    }
+
+    /**
+     * Call when a view holder is bound to a position, from {@code onBindViewHolder()} or
+     * {@code getView()}. The errors of the position, or an empty list, are rendered right away
+     * so that recycled holders never show stale errors.
+     *
+     * @param holder  The view holder.
+     * @param position  Adapter position of the row.
+     */
+    public void onBind(final HOLDER holder, final int position) {
+        Validator.assertNotNull(holder, "holder");
+        mBoundHolders.put(holder, position);
+        render(holder, position);
+    }
+
+    /**
+     * Call when a view holder is recycled, from {@code onViewRecycled()}.
+     *
+     * @param holder  The view holder.
+     */
+    public void onUnbind(final HOLDER holder) {
+        mBoundHolders.remove(holder);
+    }
+
+    /**
+     * Checks if a row passed the last validation. Rows that have not been validated yet are
+     * reported as valid.
+     *
+     * @param position  Adapter position of the row.
+     *
+     * @return true if the row is valid, false otherwise.
+     */
+    public boolean isValid(final int position) {
+        return getRowErrors(position) == null;
+    }
+
+    /**
+     * Returns the errors of a row from the last validation.
+     *
+     * @param position  Adapter position of the row.
+     *
+     * @return The {@link com.mobsandgeeks.saripaar.PropertyError}s, empty if the row is valid.
+     */
+    public List<PropertyError> getErrors(final int position) {
+        List<PropertyError> errors = getRowErrors(position);
+        return errors != null
+                ? Collections.unmodifiableList(errors) : Collections.<PropertyError>emptyList();
+    }
+
+    /**
+     * Returns the positions of the rows that failed the last validation, for instance to scroll
+     * to the first of them.
+     *
+     * @return The invalid positions in ascending order.
+     */
+    public int[] getInvalidPositions() {
+        int nInvalidPositions = 0;
+        for (List<PropertyError> errors : mRowErrors) {
+            if (errors != null) {
+                nInvalidPositions++;
+            }
+        }
+
+        int[] invalidPositions = new int[nInvalidPositions];
+        int n = 0;
+        for (int position = 0; position < mRowErrors.length; position++) {
+            if (mRowErrors[position] != null) {
+                invalidPositions[n++] = position;
+            }
+        }
+        return invalidPositions;
+    }
+
+    /**
+     * The data that backs the list.
+     */
+    public interface RowSource {
+
+        /**
+         * Returns the number of rows.
+         *
+         * @return The row count.
+         */
+        int getRowCount();
+
+        /**
+         * Returns the data of a row.
+         *
+         * @param position  Adapter position of the row.
+         *
+         * @return An instance of the row schema class or a {@link java.util.Map}.
+         */
+        Object getRow(int position);
+    }
+
+    /**
+     * Shows the errors of a row on its view holder.
+     *
+     * @param <HOLDER>  The view holder type of the list adapter.
+     */
+    public interface RowErrorRenderer<HOLDER> {
+
+        /**
+         * Called on the main thread when the errors of a bound row should be rendered.
+         *
+         * @param holder  The view holder.
+         * @param position  Adapter position of the row.
+         * @param errors  The {@link com.mobsandgeeks.saripaar.PropertyError}s of the row, an
+         *      empty list if the row is valid or has not been validated.
+         */
+        void renderErrors(HOLDER holder, int position, List<PropertyError> errors);
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private List<PropertyError> validateRow(final Object row) {
+        Validator.assertNotNull(row, "row");
+        boolean keyValue = !mRowSchemaClass.isInstance(row);
+        if (keyValue && !(row instanceof Map)) {
+            String message = String.format("Expected an instance of '%s' or a '%s', but found "
+                    + "'%s'.", mRowSchemaClass.getName(), Map.class.getName(),
+                    row.getClass().getName());
+            throw new IllegalArgumentException(message);
+        }
+        return HeadlessValidator.validate(mProperties, row, keyValue);
+    }
+
+    private List<PropertyError> getRowErrors(final int position) {
+        return position >= 0 && position < mRowErrors.length ? mRowErrors[position] : null;
+    }
+
+    private void render(final HOLDER holder, final int position) {
+        mRowErrorRenderer.renderErrors(holder, position, getErrors(position));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import android.content.Context;
+
+import java.util.List;
+
+/**
+ * Contains a failed property of a model object or record, validated by the
+ * {@link com.mobsandgeeks.saripaar.HeadlessValidator}, and the corresponding
+ * {@link com.mobsandgeeks.saripaar.Rule}s.
+ *
+ * @since 2.1
+ */
+public class PropertyError {
+    private final String name;
+    private final Object value;
+    private final List<Rule> failedRules;
+
+    /**
+     * Constructor.
+     *
+     * @param name  Name of the failed property.
+     * @param value  Value of the failed property.
+     * @param failedRules  A {@link java.util.List} of failed
+     *      {@link com.mobsandgeeks.saripaar.Rule}s.
+     */
+    PropertyError(final String name, final Object value, final List<Rule> failedRules) {
+        this.name = name;
+        this.value = value;
+        this.failedRules = failedRules;
+    }
+
+    /**
+     * Gets the name of the failed property, the field name or the accessor name without its
+     * {@code get} or {@code is} prefix.
+     *
+     * @return The property name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the value that failed validation, before it was converted for the rules.
+     *
+     * @return The property value.
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the failed {@link com.mobsandgeeks.saripaar.Rule}s.
+     *
+     * @return A {@link java.util.List} of failed {@link com.mobsandgeeks.saripaar.Rule}s.
+     */
+    public List<Rule> getFailedRules() {
+        return failedRules;
+    }
+
+    /**
+     * Extracts error messages from multiple failed rules and returns a {@link java.lang.String}
+     * object.
+     *
+     * @param context  A {@link android.content.Context}, may be null if none of the failed rules
+     *      uses a message resource.
+     *
+     * @return A collated error message.
+     */
+    public String getCollatedErrorMessage(final Context context) {
+        StringBuilder stringBuilder = new StringBuilder();
+        for (Rule failedRule : failedRules) {
+            String message = failedRule.getMessage(context).trim();
+            if (message.length() > 0) {
+                stringBuilder.append(message).append('\n');
+            }
+        }
+        return stringBuilder.toString().trim();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "PropertyError{"
+                + "name=" + name
+                + ", value=" + value
+                + ", failedRules=" + failedRules
+                + '}';
+    }
+}
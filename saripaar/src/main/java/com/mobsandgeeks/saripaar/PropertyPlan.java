@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import android.util.Pair;
+import android.view.View;
+
+import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The headless counterpart of {@link ControllerPlan}, used by
+ * {@link com.mobsandgeeks.saripaar.HeadlessValidator}. A plan holds the annotated fields and
+ * accessor methods of a model class, of any type, along with their instantiated rules. Plans are
+ * compiled once per model class and shared process-wide, rules are shared by all the threads
+ * that validate instances of the class.
+ * <p>
+ * Reflection does not guarantee the order of declared members, so properties are sorted by name.
+ * A field and an accessor with the same name keep subclass-first, field-first order.
+ *
+ * @since 2.1
+ */
+final class PropertyPlan {
+    private static final ConcurrentHashMap<Class<?>, PropertyPlan> PLANS =
+            new ConcurrentHashMap<Class<?>, PropertyPlan>();
+
+    private static final Comparator<Property> NAME_COMPARATOR = new Comparator<Property>() {
+
+        @Override
+        public int compare(final Property lhsProperty, final Property rhsProperty) {
+            return lhsProperty.name.compareTo(rhsProperty.name);
+        }
+    };
+
+    final Property[] properties;
+
+    private PropertyPlan(final Property[] properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the plan for the given model class, compiling it if necessary.
+     *
+     * @param modelClass  The model {@link java.lang.Class}.
+     *
+     * @return The {@link PropertyPlan}.
+     *
+     * @throws IllegalStateException if the class has no annotated fields or accessors, or uses
+     *      a rule that reads other views.
+     */
+    static PropertyPlan get(final Class<?> modelClass) {
+        PropertyPlan plan = PLANS.get(modelClass);
+        if (plan == null) {
+            plan = compile(modelClass);
+            PropertyPlan existingPlan = PLANS.putIfAbsent(modelClass, plan);
+            if (existingPlan != null) {
+                plan = existingPlan;
+            }
+        }
+        return plan;
+    }
+
+    static boolean evict(final Class<?> modelClass) {
+        return PLANS.remove(modelClass) != null;
+    }
+
+    static void evictAll() {
+        PLANS.clear();
+    }
+
+    /**
+     * An annotated field or accessor method and its rules, sorted by sequence.
+     */
+    static final class Property {
+        final String name;
+        final AccessibleObject member;
+        final AnnotationRule[] rules;
+        final Class<?>[] ruleDataTypes;
+
+        Property(final String name, final AccessibleObject member, final AnnotationRule[] rules,
+                final Class<?>[] ruleDataTypes) {
+            this.name = name;
+            this.member = member;
+            this.rules = rules;
+            this.ruleDataTypes = ruleDataTypes;
+        }
+
+        /**
+         * Reads the value of this property from a model object.
+         *
+         * @param model  The model object.
+         *
+         * @return The value of the field, or the value returned by the accessor.
+         */
+        Object getValue(final Object model) {
+            try {
+                return member instanceof Field
+                        ? ((Field) member).get(model)
+                        : ((Method) member).invoke(model);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private static PropertyPlan compile(final Class<?> modelClass) {
+        // Rules that do not read other views may still need a context
+        ValidationContext validationContext = new ValidationContext();
+        validationContext.setViewRulesMap(
+                new LinkedHashMap<View, ArrayList<Pair<Rule, ViewDataAdapter>>>());
+
+        List<Property> properties = new ArrayList<Property>();
+        for (Class<?> clazz = modelClass; clazz != null && !clazz.equals(Object.class);
+                clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    addProperty(properties, field.getName(), field, field.getAnnotations(),
+                            validationContext);
+                }
+            }
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (!Modifier.isStatic(method.getModifiers()) && !method.isBridge()
+                        && method.getParameterTypes().length == 0
+                        && method.getReturnType() != void.class) {
+                    addProperty(properties, getPropertyName(method), method,
+                            method.getAnnotations(), validationContext);
+                }
+            }
+        }
+
+        if (properties.size() == 0) {
+            String message = String.format("No rules found on '%s'. You must have at least one "
+                    + "annotated field or accessor method to validate.", modelClass.getName());
+            throw new IllegalStateException(message);
+        }
+
+        // Collections.sort() is stable, properties with the same name keep their relative order
+        Collections.sort(properties, NAME_COMPARATOR);
+        return new PropertyPlan(properties.toArray(new Property[properties.size()]));
+    }
+
+    private static void addProperty(final List<Property> properties, final String name,
+            final AccessibleObject member, final Annotation[] annotations,
+            final ValidationContext validationContext) {
+        List<ControllerPlan.RulePlan> rulePlans = new ArrayList<ControllerPlan.RulePlan>();
+        for (Annotation annotation : annotations) {
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            ValidateUsing validateUsing = Reflector.getValidateUsingAnnotation(annotationType);
+            if (validateUsing != null) {
+                Constructor<? extends AnnotationRule> ruleConstructor =
+                        Reflector.getRuleConstructor(validateUsing.value(), annotationType);
+                int sequence = AnnotationAttributes.of(annotation)
+                        .getInt(AnnotationAttributes.SEQUENCE, -1);
+                rulePlans.add(new ControllerPlan.RulePlan(annotation, ruleConstructor, null,
+                        sequence));
+            }
+        }
+        if (rulePlans.size() == 0) {
+            return;
+        }
+
+        Collections.sort(rulePlans);
+        int nRules = rulePlans.size();
+        AnnotationRule[] rules = new AnnotationRule[nRules];
+        Class<?>[] ruleDataTypes = new Class<?>[nRules];
+        for (int i = 0; i < nRules; i++) {
+            ControllerPlan.RulePlan rulePlan = rulePlans.get(i);
+            rules[i] = Reflector.instantiateRule(rulePlan.ruleConstructor,
+                    rulePlan.ruleAnnotation, validationContext);
+            assertSupportedRule(rules[i], name);
+            ruleDataTypes[i] = Reflector.getRuleDataType(rulePlan.ruleAnnotation);
+        }
+
+        member.setAccessible(true);
+        properties.add(new Property(name, member, rules, ruleDataTypes));
+    }
+
+    private static void assertSupportedRule(final AnnotationRule rule, final String name) {
+        if (ExecutionPlan.isCrossField(rule)) {
+            String message = String.format("'%s' on '%s' reads other views and is not supported "
+                    + "by the '%s'.", rule.mRuleAnnotation.annotationType().getName(), name,
+                    HeadlessValidator.class.getName());
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private static String getPropertyName(final Method method) {
+        String name = method.getName();
+        int prefixLength = name.startsWith("get") ? 3 : name.startsWith("is") ? 2 : 0;
+        if (prefixLength == 0 || name.length() == prefixLength
+                || !Character.isUpperCase(name.charAt(prefixLength))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(prefixLength)) + name.substring(prefixLength + 1);
+    }
+}
@@ -25,6 +25,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Contains reflection methods that are helpful for introspection and retrieval of frequently used
@@ -34,6 +35,14 @@ import java.lang.reflect.Modifier;
  * @since 2.0
  */
 final class Reflector {
+    // Per-class memos, classes are immutable once loaded. Misses are stored as NONE.
+    private static final Object NONE = new Object();
+    private static final ConcurrentHashMap<Class<?>, Object> RULE_DATA_TYPES =
+            new ConcurrentHashMap<Class<?>, Object>();
+    private static final ConcurrentHashMap<Class<?>, Object> GET_DATA_METHODS =
+            new ConcurrentHashMap<Class<?>, Object>();
+    private static final ConcurrentHashMap<Class<?>, Object> VALIDATE_USING_ANNOTATIONS =
+            new ConcurrentHashMap<Class<?>, Object>();
 
     /**
      * Retrieves the attribute method of the given {@link java.lang.annotation.Annotation}.
@@ -126,6 +135,26 @@ final class Reflector {
      * @return The correct {@code getData(View)} method.
      */
     static Method findGetDataMethod(final Class<? extends ViewDataAdapter> dataAdapterType) {
+        Object memo = GET_DATA_METHODS.get(dataAdapterType);
+        if (memo == null) {
+            Method getDataMethod = findGetDataMethodUncached(dataAdapterType);
+            memo = memoize(GET_DATA_METHODS, dataAdapterType, getDataMethod);
+        }
+        return memo != NONE ? (Method) memo : null;
+    }
+
+    /**
+     * Drops the memoized reflection results. The memos only hold results that are derived from
+     * loaded classes, so this is only useful to measure the cost of a cold lookup.
+     */
+    static void clearMemos() {
+        RULE_DATA_TYPES.clear();
+        GET_DATA_METHODS.clear();
+        VALIDATE_USING_ANNOTATIONS.clear();
+    }
+
+    private static Method findGetDataMethodUncached(
+            final Class<? extends ViewDataAdapter> dataAdapterType) {
         Method getDataMethod = null;
         Method[] declaredMethods = dataAdapterType.getDeclaredMethods();
 
@@ -168,24 +197,69 @@ final class Reflector {
     static AnnotationRule instantiateRule(final Class<? extends AnnotationRule> ruleType,
             final Annotation ruleAnnotation, final ValidationContext validationContext)
                     throws SaripaarViolationException {
-        AnnotationRule rule = null;
+        Constructor<? extends AnnotationRule> constructor = getRuleConstructor(ruleType,
+                ruleAnnotation.annotationType());
+        return instantiateRule(constructor, ruleAnnotation, validationContext);
+    }
+
+    /**
+     * Finds the constructor that should be used to instantiate an {@link AnnotationRule}.
+     *
+     * @param ruleType  The {@link AnnotationRule} class.
+     * @param annotationType  The rule {@link java.lang.annotation.Annotation} type associated
+     *      with the {@link AnnotationRule}.
+     *
+     * @return An accessible {@link java.lang.reflect.Constructor}, null if the rule type is
+     *      not an {@link AnnotationRule}.
+     *
+     * @throws SaripaarViolationException if the {@link AnnotationRule} does not have the
+     *      required constructor.
+     */
+    static Constructor<? extends AnnotationRule> getRuleConstructor(
+            final Class<? extends AnnotationRule> ruleType,
+            final Class<? extends Annotation> annotationType) throws SaripaarViolationException {
+        Constructor<? extends AnnotationRule> constructor = null;
 
         try {
             if (ContextualAnnotationRule.class.isAssignableFrom(ruleType)) {
-                Constructor<?> constructor = ruleType.getDeclaredConstructor(
-                        ruleAnnotation.annotationType(), ValidationContext.class);
-                constructor.setAccessible(true);
-                rule = (AnnotationRule) constructor.newInstance(ruleAnnotation, validationContext);
+                constructor = ruleType.getDeclaredConstructor(annotationType,
+                        ValidationContext.class);
             } else if (AnnotationRule.class.isAssignableFrom(ruleType)) {
-                Constructor<?> constructor = ruleType.getDeclaredConstructor(
-                        ruleAnnotation.annotationType());
-                constructor.setAccessible(true);
-                rule = (AnnotationRule) constructor.newInstance(ruleAnnotation);
+                constructor = ruleType.getDeclaredConstructor(annotationType);
             }
         } catch (NoSuchMethodException e) {
-            String message = getMissingConstructorErrorMessage(ruleType,
-                    ruleAnnotation.annotationType());
+            String message = getMissingConstructorErrorMessage(ruleType, annotationType);
             throw new SaripaarViolationException(message);
+        }
+
+        if (constructor != null) {
+            constructor.setAccessible(true);
+        }
+        return constructor;
+    }
+
+    /**
+     * Instantiates a {@link AnnotationRule} using a constructor obtained from
+     * {@link #getRuleConstructor(Class, Class)}.
+     *
+     * @param constructor  The rule {@link java.lang.reflect.Constructor}.
+     * @param ruleAnnotation  The rule {@link java.lang.annotation.Annotation} associated with
+     *      the {@link AnnotationRule}.
+     * @param validationContext  The {@link ValidationContext} for contextual rules.
+     *
+     * @return The instantiated {@link AnnotationRule} object.
+     */
+    static AnnotationRule instantiateRule(final Constructor<? extends AnnotationRule> constructor,
+            final Annotation ruleAnnotation, final ValidationContext validationContext) {
+        AnnotationRule rule = null;
+        if (constructor == null) {
+            return rule;
+        }
+
+        try {
+            rule = constructor.getParameterTypes().length == 2
+                    ? constructor.newInstance(ruleAnnotation, validationContext)
+                    : constructor.newInstance(ruleAnnotation);
         } catch (InvocationTargetException e) {
             e.printStackTrace();
         } catch (InstantiationException e) {
@@ -223,16 +297,31 @@ final class Reflector {
      */
     static Class<?> getRuleDataType(final ValidateUsing validateUsing) {
         Class<? extends AnnotationRule> rule = validateUsing.value();
-        Method[] methods = rule.getDeclaredMethods();
-        return getRuleTypeFromIsValidMethod(rule, methods);
+        Object memo = RULE_DATA_TYPES.get(rule);
+        if (memo == null) {
+            Method[] methods = rule.getDeclaredMethods();
+            Class<?> ruleDataType = getRuleTypeFromIsValidMethod(rule, methods);
+            memo = memoize(RULE_DATA_TYPES, rule, ruleDataType);
+        }
+        return memo != NONE ? (Class<?>) memo : null;
     }
 
-    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-     *  Private Methods
-     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    /**
+     * Returns the {@link com.mobsandgeeks.saripaar.annotation.ValidateUsing} annotation of a rule
+     * annotation type.
+     *
+     * @param annotationType  The rule {@link java.lang.annotation.Annotation} type.
+     *
+     * @return The {@link com.mobsandgeeks.saripaar.annotation.ValidateUsing} annotation, null if
+     *      the type is not a rule annotation.
      */
-    private static ValidateUsing getValidateUsingAnnotation(
+    static ValidateUsing getValidateUsingAnnotation(
             final Class<? extends Annotation> annotationType) {
+        Object memo = VALIDATE_USING_ANNOTATIONS.get(annotationType);
+        if (memo != null) {
+            return memo != NONE ? (ValidateUsing) memo : null;
+        }
+
         ValidateUsing validateUsing = null;
 
         Annotation[] declaredAnnotations = annotationType.getDeclaredAnnotations();
@@ -242,9 +331,21 @@ final class Reflector {
                 break;
             }
         }
+        memoize(VALIDATE_USING_ANNOTATIONS, annotationType, validateUsing);
         return validateUsing;
     }
 
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private static Object memoize(final ConcurrentHashMap<Class<?>, Object> memos,
+            final Class<?> type, final Object value) {
+        Object memo = value != null ? value : NONE;
+        Object existingMemo = memos.putIfAbsent(type, memo);
+        return existingMemo != null ? existingMemo : memo;
+    }
+
     private static String getMissingConstructorErrorMessage(
             final Class<? extends AnnotationRule> ruleType,
             final Class<? extends Annotation> annotationType) {
@@ -270,7 +371,8 @@ final class Reflector {
         for (Method method : methods) {
             Class<?>[] parameterTypes = method.getParameterTypes();
 
-            if (matchesIsValidMethodSignature(method, parameterTypes)) {
+            if (matchesIsValidMethodSignature(method, parameterTypes)
+                    || matchesAsyncIsValidMethodSignature(method, parameterTypes)) {
                 // This will be null, if there are no matching methods
                 // in the class with a similar signature.
                 if (returnType != null) {
@@ -298,6 +400,20 @@ final class Reflector {
         return isPublic && nonVolatile && returnsBoolean && matchesMethodName && hasSingleParameter;
     }
 
+    private static boolean matchesAsyncIsValidMethodSignature(final Method method,
+            final Class<?>[] parameterTypes) {
+        int modifiers = method.getModifiers();
+
+        boolean isPublic = Modifier.isPublic(modifiers);
+        boolean nonVolatile = !Modifier.isVolatile(modifiers);
+        boolean returnsVoid = Void.TYPE.equals(method.getReturnType());
+        boolean matchesMethodName = "isValid".equals(method.getName());
+        boolean hasCallbackParameter = parameterTypes.length == 2
+                && AsyncRule.Callback.class.equals(parameterTypes[1]);
+
+        return isPublic && nonVolatile && returnsVoid && matchesMethodName && hasCallbackParameter;
+    }
+
     private Reflector() {
     }
 }
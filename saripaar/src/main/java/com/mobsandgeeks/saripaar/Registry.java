@@ -35,15 +35,17 @@ import com.mobsandgeeks.saripaar.exception.SaripaarViolationException;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Maintains a registry of all {@link android.view.View}s and
  * {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}s that are registered to rule
- * {@link java.lang.annotation.Annotation}s.
+ * {@link java.lang.annotation.Annotation}s. Registrations are published as immutable snapshots,
+ * registering is thread-safe and lookups do not lock.
  *
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
@@ -51,19 +53,21 @@ import java.util.Set;
 final class Registry {
     public static final String TAG = "Registry";
     private static final Map<Class<? extends View>, HashMap<Class<?>, ViewDataAdapter>> STOCK_ADAPTERS = new HashMap();
-    private Map<Class<? extends Annotation>, HashMap<Class<? extends View>, ViewDataAdapter>> mMappings = new HashMap();
+    private static final Object NO_ADAPTER = new Object();
+    private volatile Registry.Snapshot mSnapshot = new Registry.Snapshot(new HashMap(), new HashMap());
 
     Registry() {
     }
 
-    public void register(Class<? extends Annotation>... ruleAnnotations) {
-        Class[] var2 = ruleAnnotations;
-        int var3 = ruleAnnotations.length;
+    public synchronized void register(Class<? extends Annotation>... ruleAnnotations) {
+        Map<Class<? extends Annotation>, HashMap<Class<? extends View>, ViewDataAdapter>> mappings = new HashMap(this.mSnapshot.mappings);
+        Class[] var3 = ruleAnnotations;
+        int var4 = ruleAnnotations.length;
 
-        for(int var4 = 0; var4 < var3; ++var4) {
-            Class<? extends Annotation> ruleAnnotation = var2[var4];
+        for(int var5 = 0; var5 < var4; ++var5) {
+            Class<? extends Annotation> ruleAnnotation = var3[var5];
             this.assertIsValidRuleAnnotation(ruleAnnotation);
-            ValidateUsing validateUsing = (ValidateUsing)ruleAnnotation.getAnnotation(ValidateUsing.class);
+            ValidateUsing validateUsing = Reflector.getValidateUsingAnnotation(ruleAnnotation);
             Class<?> ruleDataType = Reflector.getRuleDataType(validateUsing);
             HashMap<Class<?>, ViewDataAdapter> viewDataAdapterMap = (HashMap)STOCK_ADAPTERS.get(TextView.class);
             if (viewDataAdapterMap != null) {
@@ -73,51 +77,106 @@ final class Registry {
                     throw new SaripaarViolationException(message);
                 }
 
-                this.register(TextView.class, ruleDataType, dataAdapter, ruleAnnotation);
+                this.register(mappings, ruleAnnotation, ruleDataType, TextView.class, dataAdapter);
             }
         }
 
+        this.mSnapshot = new Registry.Snapshot(mappings, this.mSnapshot.registeredAdapters);
     }
 
-    public <VIEW extends View, DATA_TYPE> void register(Class<VIEW> viewType, Class<DATA_TYPE> ruleDataType, ViewDataAdapter<VIEW, DATA_TYPE> viewDataAdapter, Class<? extends Annotation>... ruleAnnotations) {
+    public synchronized <VIEW extends View, DATA_TYPE> void register(Class<VIEW> viewType, Class<DATA_TYPE> ruleDataType, ViewDataAdapter<VIEW, DATA_TYPE> viewDataAdapter, Class<? extends Annotation>... ruleAnnotations) {
         if (ruleAnnotations != null && ruleAnnotations.length > 0) {
-            Class[] var5 = ruleAnnotations;
-            int var6 = ruleAnnotations.length;
+            Map<Class<? extends Annotation>, HashMap<Class<? extends View>, ViewDataAdapter>> mappings = new HashMap(this.mSnapshot.mappings);
+            Class[] var6 = ruleAnnotations;
+            int var7 = ruleAnnotations.length;
 
-            for(int var7 = 0; var7 < var6; ++var7) {
-                Class<? extends Annotation> ruleAnnotation = var5[var7];
-                this.register(ruleAnnotation, ruleDataType, viewType, viewDataAdapter);
+            for(int var8 = 0; var8 < var7; ++var8) {
+                Class<? extends Annotation> ruleAnnotation = var6[var8];
+                this.register(mappings, ruleAnnotation, ruleDataType, viewType, viewDataAdapter);
             }
+
+            this.mSnapshot = new Registry.Snapshot(mappings, this.mSnapshot.registeredAdapters);
         }
 
     }
 
+    public synchronized <VIEW extends View> void registerAdapter(Class<VIEW> viewType, ViewDataAdapter<VIEW, ?> viewDataAdapter) {
+        Map<Class<? extends View>, HashMap<Class<?>, ViewDataAdapter>> registeredAdapters = new HashMap(this.mSnapshot.registeredAdapters);
+        HashMap<Class<?>, ViewDataAdapter> dataTypeAdapterMap = (HashMap)registeredAdapters.get(viewType);
+        dataTypeAdapterMap = dataTypeAdapterMap != null ? new HashMap(dataTypeAdapterMap) : new HashMap();
+        registeredAdapters.put(viewType, dataTypeAdapterMap);
+
+        Method getDataMethod = Reflector.findGetDataMethod(viewDataAdapter.getClass());
+        Class<?> adapterDataType = getDataMethod.getReturnType();
+        dataTypeAdapterMap.put(adapterDataType, viewDataAdapter);
+        this.mSnapshot = new Registry.Snapshot(this.mSnapshot.mappings, registeredAdapters);
+    }
+
     public Set<Class<? extends Annotation>> getRegisteredAnnotations() {
-        return this.mMappings.keySet();
+        return this.mSnapshot.registeredAnnotations;
     }
 
-    public <VIEW extends View> ViewDataAdapter<VIEW, ?> getDataAdapter(Class<? extends Annotation> annotationType, Class<VIEW> viewType) {
-        HashMap<Class<? extends View>, ViewDataAdapter> viewDataAdapterHashMap = (HashMap)this.mMappings.get(annotationType);
-        ViewDataAdapter matchingViewAdapter = null;
-        if (viewDataAdapterHashMap != null) {
-            matchingViewAdapter = (ViewDataAdapter)viewDataAdapterHashMap.get(viewType);
-            if (matchingViewAdapter == null) {
-                matchingViewAdapter = this.getCompatibleViewDataAdapter(viewDataAdapterHashMap, viewType);
+    /**
+     * Resolves the {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} for a rule
+     * annotation and a {@link android.view.View} type. The class hierarchy of the view type is
+     * walked from the most specific class, at each level the adapters registered for the
+     * annotation take precedence over the adapters registered for the data type. Results,
+     * including misses, are cached in the current registry snapshot.
+     *
+     * @param annotationType  The rule annotation type.
+     * @param viewType  The {@link android.view.View} type.
+     * @param adapterDataType  The data type expected by the rule.
+     *
+     * @return The matching {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}, null if
+     *      there is none.
+     */
+    public <VIEW extends View> ViewDataAdapter<VIEW, ?> getDataAdapter(Class<? extends Annotation> annotationType, Class<VIEW> viewType, Class<?> adapterDataType) {
+        Registry.Snapshot snapshot = this.mSnapshot;
+        ConcurrentHashMap<Class<?>, Object> resolvedAdapters = (ConcurrentHashMap)snapshot.resolvedAdapters.get(annotationType);
+        if (resolvedAdapters == null) {
+            resolvedAdapters = new ConcurrentHashMap();
+            ConcurrentHashMap<Class<?>, Object> existingResolvedAdapters = (ConcurrentHashMap)snapshot.resolvedAdapters.putIfAbsent(annotationType, resolvedAdapters);
+            if (existingResolvedAdapters != null) {
+                resolvedAdapters = existingResolvedAdapters;
             }
         }
 
-        return matchingViewAdapter;
+        Object resolvedAdapter = resolvedAdapters.get(viewType);
+        if (resolvedAdapter == null) {
+            ViewDataAdapter dataAdapter = findDataAdapter(snapshot, annotationType, viewType, adapterDataType);
+            resolvedAdapter = dataAdapter != null ? dataAdapter : NO_ADAPTER;
+            resolvedAdapters.putIfAbsent(viewType, resolvedAdapter);
+        }
+
+        return resolvedAdapter != NO_ADAPTER ? (ViewDataAdapter)resolvedAdapter : null;
     }
 
-    private <VIEW extends View, DATA_TYPE> void register(Class<? extends Annotation> ruleAnnotation, Class<DATA_TYPE> ruleDataType, Class<VIEW> view, ViewDataAdapter<VIEW, DATA_TYPE> viewDataAdapter) {
+    private static ViewDataAdapter findDataAdapter(Registry.Snapshot snapshot, Class<? extends Annotation> annotationType, Class<?> viewType, Class<?> adapterDataType) {
+        HashMap<Class<? extends View>, ViewDataAdapter> viewDataAdapterHashMap = (HashMap)snapshot.mappings.get(annotationType);
+
+        for(Class<?> type = viewType; type != null && View.class.isAssignableFrom(type); type = type.getSuperclass()) {
+            ViewDataAdapter dataAdapter = viewDataAdapterHashMap != null ? (ViewDataAdapter)viewDataAdapterHashMap.get(type) : null;
+            if (dataAdapter == null && adapterDataType != null) {
+                HashMap<Class<?>, ViewDataAdapter> dataTypeAdapterMap = (HashMap)snapshot.registeredAdapters.get(type);
+                dataAdapter = dataTypeAdapterMap != null ? (ViewDataAdapter)dataTypeAdapterMap.get(adapterDataType) : null;
+            }
+
+            if (dataAdapter != null) {
+                return dataAdapter;
+            }
+        }
+
+        return null;
+    }
+
+    private <VIEW extends View, DATA_TYPE> void register(Map<Class<? extends Annotation>, HashMap<Class<? extends View>, ViewDataAdapter>> mappings, Class<? extends Annotation> ruleAnnotation, Class<DATA_TYPE> ruleDataType, Class<VIEW> view, ViewDataAdapter<VIEW, DATA_TYPE> viewDataAdapter) {
         this.assertIsValidRuleAnnotation(ruleAnnotation);
         this.assertCompatibleReturnType(ruleDataType, viewDataAdapter);
         HashMap viewAdapterPairs;
-        if (this.mMappings.containsKey(ruleAnnotation)) {
-            viewAdapterPairs = (HashMap)this.mMappings.get(ruleAnnotation);
+        if (mappings.containsKey(ruleAnnotation)) {
+            viewAdapterPairs = new HashMap((Map)mappings.get(ruleAnnotation));
         } else {
             viewAdapterPairs = new HashMap();
-            this.mMappings.put(ruleAnnotation, viewAdapterPairs);
         }
 
         if (viewAdapterPairs.containsKey(view)) {
@@ -125,6 +184,7 @@ final class Registry {
             Log.w("Registry", message);
         } else {
             viewAdapterPairs.put(view, viewDataAdapter);
+            mappings.put(ruleAnnotation, viewAdapterPairs);
         }
 
     }
@@ -164,19 +224,22 @@ final class Registry {
         }
     }
 
-    private <VIEW extends View> ViewDataAdapter getCompatibleViewDataAdapter(HashMap<Class<? extends View>, ViewDataAdapter> viewDataAdapterHashMap, Class<VIEW> viewType) {
-        ViewDataAdapter compatibleViewAdapter = null;
-        Set<Class<? extends View>> registeredViews = viewDataAdapterHashMap.keySet();
-        Iterator var5 = registeredViews.iterator();
+    /**
+     * An immutable view of the registrations, replaced as a whole on every registration so that
+     * lookups never need a lock. Only the resolved-adapter cache is filled after publication.
+     */
+    private static final class Snapshot {
+        final Map<Class<? extends Annotation>, HashMap<Class<? extends View>, ViewDataAdapter>> mappings;
+        final Map<Class<? extends View>, HashMap<Class<?>, ViewDataAdapter>> registeredAdapters;
+        final Set<Class<? extends Annotation>> registeredAnnotations;
+        final ConcurrentHashMap<Class<? extends Annotation>, ConcurrentHashMap<Class<?>, Object>> resolvedAdapters;
 
-        while(var5.hasNext()) {
-            Class<? extends View> registeredView = (Class)var5.next();
-            if (registeredView.isAssignableFrom(viewType)) {
-                compatibleViewAdapter = (ViewDataAdapter)viewDataAdapterHashMap.get(registeredView);
-            }
+        Snapshot(Map<Class<? extends Annotation>, HashMap<Class<? extends View>, ViewDataAdapter>> mappings, Map<Class<? extends View>, HashMap<Class<?>, ViewDataAdapter>> registeredAdapters) {
+            this.mappings = mappings;
+            this.registeredAdapters = registeredAdapters;
+            this.registeredAnnotations = Collections.unmodifiableSet(mappings.keySet());
+            this.resolvedAdapters = new ConcurrentHashMap();
         }
-
-        return compatibleViewAdapter;
     }
 
     static {
@@ -29,6 +29,14 @@ import android.content.Context;
 public abstract class Rule<VALIDATABLE> {
     public static final int FLAG_ULTIMATE = 1;
 
+    /**
+     * Declares that {@link #isValid(Object)} depends only on its input, so that the
+     * {@link com.mobsandgeeks.saripaar.Validator} may remember results by input value.
+     *
+     * @since 2.1
+     */
+    public static final int FLAG_PURE = 8;
+
     private final int mSequence;
     protected final int mFlags;
     protected String mMessage;
@@ -88,6 +96,17 @@ public abstract class Rule<VALIDATABLE> {
         return (this.mFlags & 4) != 0;
     }
 
+    /**
+     * Tells if the {@link com.mobsandgeeks.saripaar.Rule} declares {@link #FLAG_PURE}.
+     *
+     * @return true if the result depends only on the input, false otherwise.
+     *
+     * @since 2.1
+     */
+    public final boolean isPure() {
+        return (this.mFlags & FLAG_PURE) != 0;
+    }
+
     public abstract int getErrorCode();
 
     public final void setMessage(String message) {
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Remembers the last result of each cacheable rule in an {@link ExecutionPlan}, along with the
+ * {@link ChangeTracker} token of the view it was computed for. The token and the result are
+ * packed into a single {@code long}, so concurrent validation passes can read and write entries
+ * without locking and never see a token paired with the result of another token.
+ * <p>
+ * Tokens are edit counts, checked states or selected positions, so shifting them left by one bit
+ * to make room for the result does not lose information.
+ *
+ * @since 2.1
+ */
+final class RuleResultCache {
+    static final int UNKNOWN = -1;
+    static final int INVALID = 0;
+    static final int VALID = 1;
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final ExecutionPlan mExecutionPlan;
+    private final AtomicLongArray mEntries;
+
+    RuleResultCache(final ExecutionPlan executionPlan) {
+        int nRules = executionPlan.rules.length;
+        mExecutionPlan = executionPlan;
+        mEntries = new AtomicLongArray(nRules);
+        for (int i = 0; i < nRules; i++) {
+            mEntries.set(i, EMPTY);
+        }
+    }
+
+    /**
+     * Returns the {@link ExecutionPlan} this cache belongs to.
+     *
+     * @return The {@link ExecutionPlan}.
+     */
+    ExecutionPlan getExecutionPlan() {
+        return mExecutionPlan;
+    }
+
+    /**
+     * Returns the cached result of a rule.
+     *
+     * @param ruleIndex  Index of the rule in the {@link ExecutionPlan}.
+     * @param token  The current token of the view.
+     *
+     * @return {@link #VALID} or {@link #INVALID} if a result was cached for the token,
+     *      {@link #UNKNOWN} otherwise.
+     */
+    int get(final int ruleIndex, final long token) {
+        long entry = mEntries.get(ruleIndex);
+        if (entry == EMPTY || entry >> 1 != token) {
+            return UNKNOWN;
+        }
+        return (entry & 1L) != 0 ? VALID : INVALID;
+    }
+
+    /**
+     * Caches the result of a rule.
+     *
+     * @param ruleIndex  Index of the rule in the {@link ExecutionPlan}.
+     * @param token  The token of the view the result was computed for.
+     * @param valid  true if the rule passed, false otherwise.
+     */
+    void put(final int ruleIndex, final long token, final boolean valid) {
+        mEntries.set(ruleIndex, token << 1 | (valid ? 1L : 0L));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides the order in which the rules of each {@link android.view.View} in an
+ * {@link ExecutionPlan} are evaluated. The scheduler keeps a moving average of the cost and the
+ * failure rate of every rule, and periodically moves cheap rules that are likely to fail ahead
+ * of the others. Only rules without an explicit sequence are moved, and only among the positions
+ * held by such rules, so that the order of sequenced rules is never changed.
+ *
+ * @since 2.1
+ */
+final class RuleScheduler {
+    private static final int PASSES_PER_REORDER = 8;
+    private static final float SMOOTHING = 0.125f;
+    private static final float MIN_FAILURE_RATE = 0.01f;
+
+    private final ExecutionPlan mExecutionPlan;
+    private final float[] mCostNanos;
+    private final float[] mFailureRates;
+    private volatile int[] mOrder;
+    private final AtomicInteger mPasses = new AtomicInteger();
+
+    RuleScheduler(final ExecutionPlan executionPlan) {
+        int nRules = executionPlan.rules.length;
+        mExecutionPlan = executionPlan;
+        mCostNanos = new float[nRules];
+        mFailureRates = new float[nRules];
+        Arrays.fill(mFailureRates, 0.5f);
+
+        int[] order = new int[nRules];
+        for (int i = 0; i < nRules; i++) {
+            order[i] = i;
+        }
+        mOrder = order;
+    }
+
+    /**
+     * Returns the {@link ExecutionPlan} this scheduler orders.
+     *
+     * @return The {@link ExecutionPlan}.
+     */
+    ExecutionPlan getExecutionPlan() {
+        return mExecutionPlan;
+    }
+
+    /**
+     * Returns the evaluation order. The rules of the view at index {@code v} are evaluated in
+     * the order {@code order[ruleStart[v]]} to {@code order[ruleStart[v + 1] - 1]}.
+     *
+     * @return An array of rule indices, must not be modified.
+     */
+    int[] getOrder() {
+        return mOrder;
+    }
+
+    /**
+     * Called at the start of every validation pass, recomputes the order every few passes.
+     */
+    void onPassStarted() {
+        if (mPasses.incrementAndGet() % PASSES_PER_REORDER == 0) {
+            mOrder = computeOrder();
+        }
+    }
+
+    /**
+     * Records an evaluation of a rule. Concurrent passes may occasionally overwrite each other's
+     * samples, which only makes the averages a little less accurate, so this method does not
+     * synchronize.
+     *
+     * @param ruleIndex  Index of the rule in the {@link ExecutionPlan}.
+     * @param costNanos  Time taken to evaluate the rule.
+     * @param failed  true if the rule failed, false otherwise.
+     */
+    void record(final int ruleIndex, final long costNanos, final boolean failed) {
+        mCostNanos[ruleIndex] += (costNanos - mCostNanos[ruleIndex]) * SMOOTHING;
+        mFailureRates[ruleIndex] += ((failed ? 1f : 0f) - mFailureRates[ruleIndex]) * SMOOTHING;
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private int[] computeOrder() {
+        int[] ruleStart = mExecutionPlan.ruleStart;
+        Rule[] rules = mExecutionPlan.rules;
+        int[] order = mOrder.clone();
+
+        // Expected cost of finding a failure with each rule, lowest first
+        final float[] scores = new float[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            scores[i] = mCostNanos[i] / Math.max(mFailureRates[i], MIN_FAILURE_RATE);
+        }
+        Comparator<Integer> scoreComparator = new Comparator<Integer>() {
+
+            @Override
+            public int compare(final Integer lhs, final Integer rhs) {
+                return Float.compare(scores[lhs], scores[rhs]);
+            }
+        };
+
+        for (int v = 0; v < mExecutionPlan.views.length; v++) {
+            int nUnsequenced = 0;
+            Integer[] unsequenced = new Integer[ruleStart[v + 1] - ruleStart[v]];
+            for (int i = ruleStart[v]; i < ruleStart[v + 1]; i++) {
+                if (rules[i].getSequence() == -1) {
+                    unsequenced[nUnsequenced++] = i;
+                }
+            }
+            if (nUnsequenced < 2) {
+                continue;
+            }
+
+            Integer[] slots = Arrays.copyOf(unsequenced, nUnsequenced);
+            Arrays.sort(unsequenced, 0, nUnsequenced, scoreComparator);
+            for (int s = 0; s < nUnsequenced; s++) {
+                order[slots[s]] = unsequenced[s];
+            }
+        }
+        return order;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.view.View;
+
+import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+
+/**
+ * Binds the annotated {@link android.view.View}s of a controller to their rules without runtime
+ * reflection. Implementations are generated by the {@code saripaar-compiler} annotation
+ * processor as {@code <Controller>_SaripaarBinder} classes. The
+ * {@link com.mobsandgeeks.saripaar.Validator} uses a binder when one is present for the
+ * controller class and falls back to reflection otherwise.
+ *
+ * @param <CONTROLLER>  The controller type, usually an {@link android.app.Activity} or a
+ *      {@link android.app.Fragment}.
+ *
+ * @since 2.1
+ */
+public interface SaripaarBinder<CONTROLLER> {
+
+    /**
+     * Name suffix of the generated binder classes.
+     */
+    String SUFFIX = "_SaripaarBinder";
+
+    /**
+     * Tells if all the annotated fields of the controller are ordered using the
+     * {@link com.mobsandgeeks.saripaar.annotation.Order} annotation.
+     *
+     * @return true if the fields are ordered, false otherwise.
+     */
+    boolean hasOrderedFields();
+
+    /**
+     * Instantiates the rules for a controller instance and hands them over to the
+     * {@link Bindings}, in validation order.
+     *
+     * @param controller  The controller instance.
+     * @param validationContext  The {@link ValidationContext} for contextual rules.
+     * @param bindings  Receives the {@link android.view.View}s and their rules.
+     */
+    void bind(CONTROLLER controller, ValidationContext validationContext, Bindings bindings);
+
+    /**
+     * Receives the {@link android.view.View}s and rules from a {@link SaripaarBinder}.
+     */
+    interface Bindings {
+
+        /**
+         * Adds a {@link android.view.View} that is ordered, but may not have any rules.
+         *
+         * @param view  The {@link android.view.View}.
+         */
+        void addView(View view);
+
+        /**
+         * Adds a rule to a {@link android.view.View}.
+         *
+         * @param view  The {@link android.view.View}.
+         * @param viewType  The declared type of the {@link android.view.View} field.
+         * @param rule  The {@link AnnotationRule}.
+         * @param dataAdapter  The {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} for
+         *      the rule, null if it has to be resolved from the registered adapters.
+         */
+        void addRule(View view, Class<? extends View> viewType, AnnotationRule rule,
+                ViewDataAdapter dataAdapter);
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mobsandgeeks.saripaar;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Validates a stream of records, such as the rows of a large CSV or JSON import, with the rules
+ * used by the {@link com.mobsandgeeks.saripaar.HeadlessValidator}. Records are either instances
+ * of the schema class or {@link java.util.Map}s keyed by property name.
+ * <p>
+ * Records are pulled from the source in batches that are validated on a worker pool of their
+ * own, so an import never delays the views validated by
+ * {@link com.mobsandgeeks.saripaar.Validator#setParallelEvaluation(boolean)}. At most
+ * {@link #setMaxPendingBatches(int)} batches are in flight, when they are all pending the source
+ * is not read until the oldest one completes, so memory does not grow with the size of the
+ * input. Failures are reported to a {@link StreamingValidator.FailureListener} as soon as their
+ * batch completes, on the calling thread and in input order. The rules of the schema class are
+ * instantiated once and shared by all the records and threads.
+ * <p>
+ * {@code validate} blocks until the whole stream is validated, never call it on the main thread.
+ *
+ * @since 2.1
+ */
+public final class StreamingValidator {
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final Class<?> mSchemaClass;
+    private volatile int mBatchSize = DEFAULT_BATCH_SIZE;
+    private volatile int mMaxPendingBatches = 2 * Validator.ParallelHolder.PARALLELISM;
+    private volatile Executor mExecutor;
+
+    /**
+     * Constructor.
+     *
+     * @param schemaClass  The class that declares the rules.
+     */
+    public StreamingValidator(final Class<?> schemaClass) {
+        Validator.assertNotNull(schemaClass, "schemaClass");
+        mSchemaClass = schemaClass;
+    }
+
+    /**
+     * Sets the number of records that are validated together by a worker.
+     *
+     * @param batchSize  The batch size, {@link #DEFAULT_BATCH_SIZE} by default.
+     */
+    public void setBatchSize(final int batchSize) {
+        assertPositive(batchSize, "batchSize");
+        mBatchSize = batchSize;
+    }
+
+    /**
+     * Sets the number of batches that may be in flight before reading from the source blocks.
+     *
+     * @param maxPendingBatches  The maximum number of pending batches, twice the number of CPU
+     *      cores by default.
+     */
+    public void setMaxPendingBatches(final int maxPendingBatches) {
+        assertPositive(maxPendingBatches, "maxPendingBatches");
+        mMaxPendingBatches = maxPendingBatches;
+    }
+
+    /**
+     * Sets the {@link java.util.concurrent.Executor} that validates the batches.
+     *
+     * @param executor  An {@link java.util.concurrent.Executor}, null to use a pool that is
+     *      shared by all the {@link StreamingValidator}s. Never pass an executor that the main
+     *      thread waits on.
+     */
+    public void setExecutor(final Executor executor) {
+        mExecutor = executor;
+    }
+
+    /**
+     * Validates all the records of an {@link java.util.Iterator}.
+     *
+     * @param records  The records to validate, must not contain null.
+     * @param failureListener  Receives the records that failed validation.
+     *
+     * @return The number of records that failed validation.
+     */
+    public long validate(final Iterator<?> records, final FailureListener failureListener) {
+        Validator.assertNotNull(records, "records");
+        try {
+            return validate(new RecordReader() {
+
+                @Override
+                public Object read() {
+                    if (!records.hasNext()) {
+                        return null;
+                    }
+                    Object record = records.next();
+                    Validator.assertNotNull(record, "record");
+                    return record;
+                }
+            }, failureListener);
+        } catch (IOException e) {
+            // Iterators do not throw IOExceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Validates all the records of a {@link StreamingValidator.RecordReader}.
+     *
+     * @param reader  The {@link StreamingValidator.RecordReader} to pull records from.
+     * @param failureListener  Receives the records that failed validation.
+     *
+     * @return The number of records that failed validation.
+     *
+     * @throws IOException if the reader fails, batches that are still pending are cancelled.
+     */
+    public long validate(final RecordReader reader, final FailureListener failureListener)
+            throws IOException {
+        Validator.assertNotNull(reader, "reader");
+        Validator.assertNotNull(failureListener, "failureListener");
+        PropertyPlan.Property[] properties = PropertyPlan.get(mSchemaClass).properties;
+        Executor executor = mExecutor != null ? mExecutor : ExecutorHolder.EXECUTOR;
+        int batchSize = mBatchSize;
+        int maxPendingBatches = mMaxPendingBatches;
+
+        ArrayDeque<FutureTask<Batch>> pendingBatches = new ArrayDeque<FutureTask<Batch>>();
+        long nRecords = 0;
+        long nFailedRecords = 0;
+        boolean completed = false;
+        try {
+            Object record = reader.read();
+            while (record != null) {
+                if (pendingBatches.size() == maxPendingBatches) {
+                    nFailedRecords += emit(pendingBatches.poll(), failureListener);
+                }
+
+                Object[] records = new Object[batchSize];
+                int n = 0;
+                while (record != null && n < batchSize) {
+                    assertRecordType(record);
+                    records[n++] = record;
+                    record = reader.read();
+                }
+
+                FutureTask<Batch> batchTask = new FutureTask<Batch>(
+                        new Batch(properties, mSchemaClass, nRecords, records, n));
+                pendingBatches.add(batchTask);
+                executor.execute(batchTask);
+                nRecords += n;
+
+                while (!pendingBatches.isEmpty() && pendingBatches.peek().isDone()) {
+                    nFailedRecords += emit(pendingBatches.poll(), failureListener);
+                }
+            }
+
+            while (!pendingBatches.isEmpty()) {
+                nFailedRecords += emit(pendingBatches.poll(), failureListener);
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                for (FutureTask<Batch> batchTask : pendingBatches) {
+                    batchTask.cancel(false);
+                }
+            }
+        }
+        return nFailedRecords;
+    }
+
+    /**
+     * The source of a record stream, typically a thin wrapper around a CSV or JSON parser.
+     */
+    public interface RecordReader {
+
+        /**
+         * Reads the next record.
+         *
+         * @return An instance of the schema class or a {@link java.util.Map}, null at the end
+         *      of the stream.
+         *
+         * @throws IOException if the record cannot be read.
+         */
+        Object read() throws IOException;
+    }
+
+    /**
+     * Receives the records that failed validation.
+     */
+    public interface FailureListener {
+
+        /**
+         * Called on the thread that called {@code validate}, in input order.
+         *
+         * @param index  Position of the record in the stream, starting at 0.
+         * @param record  The record.
+         * @param errors  The {@link com.mobsandgeeks.saripaar.PropertyError}s of the record.
+         */
+        void onRecordFailed(long index, Object record, List<PropertyError> errors);
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private void assertRecordType(final Object record) {
+        if (!mSchemaClass.isInstance(record) && !(record instanceof Map)) {
+            String message = String.format("Expected an instance of '%s' or a '%s', but found "
+                    + "'%s'.", mSchemaClass.getName(), Map.class.getName(),
+                    record.getClass().getName());
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private static void assertPositive(final int value, final String argumentName) {
+        if (value < 1) {
+            String message = String.format("'%s' must be greater than 0.", argumentName);
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private static int emit(final FutureTask<Batch> batchTask,
+            final FailureListener failureListener) {
+        Batch batch = Validator.await(batchTask);
+        int nFailedRecords = 0;
+        for (int i = 0; i < batch.nRecords; i++) {
+            if (batch.errors[i] != null) {
+                failureListener.onRecordFailed(batch.firstIndex + i, batch.records[i],
+                        batch.errors[i]);
+                nFailedRecords++;
+            }
+        }
+        return nFailedRecords;
+    }
+
+    /**
+     * The default pool, separate from the one that validations started on the main thread wait
+     * on.
+     */
+    static final class ExecutorHolder {
+        static final Executor EXECUTOR = Validator.newThreadPool(
+                Validator.ParallelHolder.PARALLELISM, "Saripaar streaming #");
+
+        private ExecutorHolder() {
+        }
+    }
+
+    /**
+     * A slice of the stream, validated by a single worker.
+     */
+    private static final class Batch implements Callable<Batch> {
+        final PropertyPlan.Property[] properties;
+        final Class<?> schemaClass;
+        final long firstIndex;
+        final Object[] records;
+        final int nRecords;
+        final List<PropertyError>[] errors;
+
+        @SuppressWarnings("unchecked")
+        Batch(final PropertyPlan.Property[] properties, final Class<?> schemaClass,
+                final long firstIndex, final Object[] records, final int nRecords) {
+            this.properties = properties;
+            this.schemaClass = schemaClass;
+            this.firstIndex = firstIndex;
+            this.records = records;
+            this.nRecords = nRecords;
+            this.errors = new List[nRecords];
+        }
+
+        @Override
+        public Batch call() {
+            for (int i = 0; i < nRecords; i++) {
+                Object record = records[i];
+                boolean keyValue = !schemaClass.isInstance(record);
+                errors[i] = HeadlessValidator.validate(properties, record, keyValue);
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Trace;
+
+/**
+ * A {@link ValidatorTracer} that emits {@link android.os.Trace} sections, so that the
+ * {@link com.mobsandgeeks.saripaar.Validator} shows up in systrace and Perfetto captures. Does
+ * nothing on devices running versions earlier than Jelly Bean MR2 (API 18).
+ *
+ * @since 2.1
+ */
+public final class SystraceValidatorTracer implements ValidatorTracer {
+    private static final boolean TRACE_AVAILABLE =
+            Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+    public void beginSection(final String sectionName) {
+        if (TRACE_AVAILABLE) {
+            Trace.beginSection(sectionName);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+    public void endSection(final String sectionName) {
+        if (TRACE_AVAILABLE) {
+            Trace.endSection();
+        }
+    }
+}
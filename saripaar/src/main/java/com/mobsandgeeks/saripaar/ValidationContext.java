@@ -37,6 +37,7 @@ import java.util.Set;
  */
 public class ValidationContext {
     Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> mViewRulesMap;
+    Map<View, ControllerPlan.FieldPlan> mPendingRules;
 
     ValidationContext() {
     }
@@ -61,6 +62,11 @@ public class ValidationContext {
                     annotatedViews.add(view);
                 }
             }
+
+            ControllerPlan.RulePlan rulePlan = this.getPendingRulePlan(view, annotationRuleClass);
+            if (rulePlan != null && !annotatedViews.contains(view)) {
+                annotatedViews.add(view);
+            }
         }
 
         return annotatedViews;
@@ -85,6 +91,15 @@ public class ValidationContext {
             }
         }
 
+        ControllerPlan.RulePlan rulePlan = this.getPendingRulePlan(view, annotationRuleClass);
+        if (rulePlan != null) {
+            try {
+                data = rulePlan.dataAdapter.getData(view);
+            } catch (ConversionException var8) {
+                var8.printStackTrace();
+            }
+        }
+
         return data;
     }
 
@@ -92,6 +107,25 @@ public class ValidationContext {
         this.mViewRulesMap = viewRulesMap;
     }
 
+    void setPendingRules(Map<View, ControllerPlan.FieldPlan> pendingRules) {
+        this.mPendingRules = pendingRules;
+    }
+
+    private ControllerPlan.RulePlan getPendingRulePlan(View view, Class<? extends AnnotationRule> annotationRuleClass) {
+        ControllerPlan.FieldPlan fieldPlan = this.mPendingRules != null ? (ControllerPlan.FieldPlan)this.mPendingRules.get(view) : null;
+        if (fieldPlan != null) {
+            ControllerPlan.RulePlan[] rulePlans = fieldPlan.rulePlans;
+
+            for(int i = 0; i < rulePlans.length; ++i) {
+                if (annotationRuleClass.equals(rulePlans[i].ruleConstructor.getDeclaringClass())) {
+                    return rulePlans[i];
+                }
+            }
+        }
+
+        return null;
+    }
+
     private void assertNotNull(Object object, String argumentName) {
         if (object == null) {
             String message = String.format("'%s' cannot be null.", argumentName);
@@ -107,7 +141,7 @@ public class ValidationContext {
     }
 
     private Class<? extends AnnotationRule> getRuleClass(Class<? extends Annotation> saripaarAnnotation) {
-        ValidateUsing validateUsingAnnotation = (ValidateUsing)saripaarAnnotation.getAnnotation(ValidateUsing.class);
+        ValidateUsing validateUsingAnnotation = Reflector.getValidateUsingAnnotation(saripaarAnnotation);
         return validateUsingAnnotation.value();
     }
 }
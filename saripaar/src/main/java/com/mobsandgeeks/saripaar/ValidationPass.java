@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.util.LruCache;
+import android.view.View;
+
+import java.util.Set;
+
+/**
+ * The state of a validation pass, captured when the pass starts and never modified afterwards.
+ * Passes read their configuration and caches only from here, so a
+ * {@link com.mobsandgeeks.saripaar.Validator} can run several passes at the same time without
+ * locking. As long as the configuration does not change, consecutive passes share the same
+ * instance.
+ *
+ * @since 2.1
+ */
+final class ValidationPass {
+    final ExecutionPlan executionPlan;
+    final Validator.Mode validationMode;
+    final View targetView;
+    final Set<View> liveTargetViews;
+    final boolean ultimate;
+    final boolean parallelEvaluation;
+    final ChangeTracker changeTracker;
+    final RuleResultCache ruleResultCache;
+    final LruCache<Object, Boolean>[] ruleMemos;
+    final RuleScheduler ruleScheduler;
+
+    ValidationPass(final ExecutionPlan executionPlan,
+            final Validator.Mode validationMode, final View targetView,
+            final Set<View> liveTargetViews, final boolean ultimate,
+            final boolean parallelEvaluation, final ChangeTracker changeTracker,
+            final RuleResultCache ruleResultCache, final LruCache<Object, Boolean>[] ruleMemos,
+            final RuleScheduler ruleScheduler) {
+        this.executionPlan = executionPlan;
+        this.validationMode = validationMode;
+        this.targetView = targetView;
+        this.liveTargetViews = liveTargetViews;
+        this.ultimate = ultimate;
+        this.parallelEvaluation = parallelEvaluation;
+        this.changeTracker = changeTracker;
+        this.ruleResultCache = ruleResultCache;
+        this.ruleMemos = ruleMemos;
+        this.ruleScheduler = ruleScheduler;
+    }
+
+    /**
+     * Checks if this pass was captured with the given state, so that it can be used again.
+     * Passes that target {@link Validator.Mode#LIVE} views are never reused, because the set of
+     * targets changes with every pass.
+     *
+     * @return true if the state is the same, false otherwise.
+     */
+    boolean hasState(final ExecutionPlan executionPlan, final Validator.Mode validationMode,
+            final View targetView, final Set<View> liveTargetViews, final boolean ultimate,
+            final boolean parallelEvaluation, final ChangeTracker changeTracker,
+            final RuleResultCache ruleResultCache, final LruCache<Object, Boolean>[] ruleMemos,
+            final RuleScheduler ruleScheduler) {
+        return this.liveTargetViews == null && liveTargetViews == null
+                && this.executionPlan == executionPlan
+                && this.validationMode == validationMode
+                && this.targetView == targetView
+                && this.ultimate == ultimate
+                && this.parallelEvaluation == parallelEvaluation
+                && this.changeTracker == changeTracker
+                && this.ruleResultCache == ruleResultCache
+                && this.ruleMemos == ruleMemos
+                && this.ruleScheduler == ruleScheduler;
+    }
+
+    /**
+     * Checks if a {@link android.view.View} is targeted by this pass, either because all views
+     * are validated or because it is the target of {@code validateOnly(View, boolean)} or of a
+     * {@link Validator.Mode#LIVE} pass.
+     *
+     * @param view  The {@link android.view.View}.
+     *
+     * @return true if the view is targeted, false otherwise.
+     */
+    boolean isTargeted(final View view) {
+        return isTargeted(view, targetView, liveTargetViews);
+    }
+
+    static boolean isTargeted(final View view, final View targetView,
+            final Set<View> liveTargetViews) {
+        return (targetView == null || view == targetView)
+                && (liveTargetViews == null || liveTargetViews.contains(view));
+    }
+}
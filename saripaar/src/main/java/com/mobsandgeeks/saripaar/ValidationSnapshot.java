@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.view.View;
+
+/**
+ * Everything an asynchronous validation pass needs to know about the {@link android.view.View}s,
+ * captured on the main thread before the pass is handed over to a worker thread. The worker
+ * evaluates rules only against the snapshot and never touches the views.
+ * <p>
+ * Rules are indexed as in the {@link ExecutionPlan} of the {@link ValidationPass} the snapshot
+ * belongs to. Each rule is in one of the following states.
+ * <ul>
+ *     <li>{@link #STATE_SKIPPED} - the rule does not take part in the pass.</li>
+ *     <li>{@link #STATE_DATA} - the data of the view has been captured, the rule is evaluated on
+ *     the worker, or requested if it is an {@link AsyncRule}.</li>
+ *     <li>{@link #STATE_VALID} and {@link #STATE_INVALID} - the rule reads views (a
+ *     {@link QuickRule} or a {@link ContextualAnnotationRule} that reads other views), or its
+ *     data could not be converted, so it was evaluated on the main thread.</li>
+ * </ul>
+ *
+ * @since 2.1
+ */
+final class ValidationSnapshot {
+    static final byte STATE_SKIPPED = 0;
+    static final byte STATE_DATA = 1;
+    static final byte STATE_VALID = 2;
+    static final byte STATE_INVALID = 3;
+
+    final ValidationPass pass;
+    final View lastView;
+    final boolean[] validateView;
+    final long[] tokens;
+    final byte[] ruleStates;
+    final Object[] ruleData;
+
+    ValidationSnapshot(final ValidationPass pass, final View lastView) {
+        ExecutionPlan executionPlan = pass.executionPlan;
+        this.pass = pass;
+        this.lastView = lastView;
+        this.validateView = new boolean[executionPlan.views.length];
+        this.tokens = new long[executionPlan.views.length];
+        this.ruleStates = new byte[executionPlan.rules.length];
+        this.ruleData = new Object[executionPlan.rules.length];
+    }
+}
@@ -17,10 +17,14 @@ package com.mobsandgeeks.saripaar;
 import android.app.Activity;
 import android.app.Fragment;
 import android.content.Context;
-import android.os.AsyncTask;
 import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.util.LruCache;
 import android.util.Pair;
 import android.view.View;
 import android.view.ViewGroup;
@@ -28,6 +32,7 @@ import android.widget.CheckBox;
 import android.widget.RadioButton;
 import android.widget.RadioGroup;
 import android.widget.Spinner;
+import android.widget.TextView;
 
 import com.mobsandgeeks.saripaar.adapter.CheckBoxBooleanAdapter;
 import com.mobsandgeeks.saripaar.adapter.RadioButtonBooleanAdapter;
@@ -63,64 +68,175 @@ import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
 import com.mobsandgeeks.saripaar.exception.ConversionException;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import commons.validator.routines.DomainValidator;
+import commons.validator.routines.EmailValidator;
+import commons.validator.routines.InetAddressValidator;
+import commons.validator.routines.UrlValidator;
 
 @SuppressWarnings({ "unchecked", "ForLoopReplaceableByForEach" })
 public class Validator {
-    private static final Registry SARIPAAR_REGISTRY = new Registry();
-    private static final Map<Class<? extends View>, HashMap<Class<?>, ViewDataAdapter>> REGISTERED_ADAPTERS = new HashMap();
+    private static final AtomicInteger REGISTRATION_VERSION = new AtomicInteger();
+    private static final long DEFAULT_LIVE_DELAY_MILLIS = 300L;
+    private static final String IMMEDIATE_MODE_REASON_SUFFIX = "in IMMEDIATE mode.";
+    private static volatile ValidatorTracer sTracer = ValidatorTracer.NO_OP;
     private Object mController;
     private Validator.Mode mValidationMode;
     private ValidationContext mValidationContext;
     private Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> mViewRulesMap;
+    private volatile ExecutionPlan mExecutionPlan;
+    private boolean mLazyRules;
+    private Map<View, ControllerPlan.FieldPlan> mPendingRules;
+    private volatile ChangeTracker mChangeTracker;
+    private volatile RuleResultCache mRuleResultCache;
+    private volatile int mRuleMemoSize;
+    private volatile Map<Rule, LruCache<Object, Boolean>> mRuleMemos;
+    private volatile ExecutionPlan mMemoPlan;
+    private volatile LruCache<Object, Boolean>[] mPlanRuleMemos;
     private boolean mOrderedFields;
     private SequenceComparator mSequenceComparator;
     private Validator.ViewValidatedAction mViewValidatedAction;
-    private Handler mViewValidatedActionHandler;
+    private volatile Handler mViewValidatedActionHandler;
     private Validator.ValidationListener mValidationListener;
-    private Validator.AsyncValidationTask mAsyncValidationTask;
-    private View mTargetView;
+    private Validator.ValidationPendingListener mValidationPendingListener;
+    private Executor mExecutor;
+    private volatile boolean mParallelEvaluation;
+    private volatile boolean mAdaptiveRuleOrdering;
+    private volatile RuleScheduler mRuleScheduler;
+    private final AtomicInteger mGeneration = new AtomicInteger();
+    private final AtomicInteger mPublishedGeneration = new AtomicInteger();
+    private volatile Validator.AsyncValidation mAsyncValidation;
+    private volatile Validator.PartialValidation mPartialValidation;
+    private Validator.ValidationSuspendedListener mValidationSuspendedListener;
+    private volatile ValidationPass mLastPass;
+    private final Validator.ViewValidatedDispatcher mViewValidatedDispatcher = new Validator.ViewValidatedDispatcher();
+    private long mLiveDelayMillis;
+    private Map<TextView, TextWatcher> mLiveWatchers;
+    private Map<View, Long> mLiveDeadlines;
+    private Set<View> mLiveEditedViews;
+    private Handler mLiveHandler;
+    private Runnable mLivePass;
 
     public Validator(Object controller) {
         assertNotNull(controller, "controller");
         this.mController = controller;
         this.mValidationMode = Validator.Mode.BURST;
+        this.mLiveDelayMillis = DEFAULT_LIVE_DELAY_MILLIS;
         this.mValidationContext = new ValidationContext();
         this.mSequenceComparator = new SequenceComparator();
         this.mViewValidatedAction = new DefaultViewValidatedAction();
     }
 
     public static void registerAnnotation(Class<? extends Annotation> ruleAnnotation) {
-        SARIPAAR_REGISTRY.register(new Class[]{ruleAnnotation});
+        getRegistry().register(new Class[]{ruleAnnotation});
+        REGISTRATION_VERSION.incrementAndGet();
     }
 
     public static <VIEW extends View> void registerAnnotation(Class<? extends Annotation> annotation, Class<VIEW> viewType, ViewDataAdapter<VIEW, ?> viewDataAdapter) {
-        ValidateUsing validateUsing = (ValidateUsing)annotation.getAnnotation(ValidateUsing.class);
+        ValidateUsing validateUsing = Reflector.getValidateUsingAnnotation(annotation);
         Class ruleDataType = Reflector.getRuleDataType(validateUsing);
-        SARIPAAR_REGISTRY.register(viewType, ruleDataType, viewDataAdapter, new Class[]{annotation});
+        getRegistry().register(viewType, ruleDataType, viewDataAdapter, new Class[]{annotation});
+        REGISTRATION_VERSION.incrementAndGet();
     }
 
     public static <VIEW extends View, DATA_TYPE> void registerAdapter(Class<VIEW> viewType, ViewDataAdapter<VIEW, DATA_TYPE> viewDataAdapter) {
         assertNotNull(viewType, "viewType");
         assertNotNull(viewDataAdapter, "viewDataAdapter");
-        HashMap<Class<?>, ViewDataAdapter> dataTypeAdapterMap = (HashMap)REGISTERED_ADAPTERS.get(viewType);
-        if (dataTypeAdapterMap == null) {
-            dataTypeAdapterMap = new HashMap();
-            REGISTERED_ADAPTERS.put(viewType, dataTypeAdapterMap);
-        }
+        getRegistry().registerAdapter(viewType, viewDataAdapter);
+        REGISTRATION_VERSION.incrementAndGet();
+    }
+
+    /**
+     * Removes the cached rule plan of a controller class. Plans are compiled the first time a
+     * controller class is validated and are shared by all {@link Validator}s created for that
+     * class afterwards. The plan used by {@link HeadlessValidator} for the class is removed too.
+     *
+     * @param controllerClass  The controller class whose plan should be evicted.
+     *
+     * @return true if a cached plan was removed, false otherwise.
+     */
+    public static boolean evictPlan(Class<?> controllerClass) {
+        assertNotNull(controllerClass, "controllerClass");
+        boolean evictedControllerPlan = ControllerPlan.evict(controllerClass);
+        return PropertyPlan.evict(controllerClass) || evictedControllerPlan;
+    }
+
+    /**
+     * Removes all cached rule plans, useful when the app is running low on memory.
+     */
+    public static void clearPlanCache() {
+        ControllerPlan.evictAll();
+        PropertyPlan.evictAll();
+    }
+
+    /**
+     * Installs a {@link ValidatorTracer} that receives begin and end events for the setup phases
+     * and validation passes of all {@link Validator}s.
+     *
+     * @param tracer  The {@link ValidatorTracer}, or null to stop tracing.
+     */
+    public static void setTracer(ValidatorTracer tracer) {
+        sTracer = tracer != null ? tracer : ValidatorTracer.NO_OP;
+    }
 
-        Method getDataMethod = Reflector.findGetDataMethod(viewDataAdapter.getClass());
-        Class<?> adapterDataType = getDataMethod.getReturnType();
-        dataTypeAdapterMap.put(adapterDataType, viewDataAdapter);
+    /**
+     * Performs the one-time initialization work of the {@link Validator} on the given
+     * {@link Executor}, so that it does not land on the main thread when the first form is
+     * validated. This registers the stock annotations, loads the domain, email and URL validation
+     * tables and compiles the rule plans of the given controller classes.
+     *
+     * @param executor  The {@link Executor} to run the work on, usually a background thread.
+     * @param controllerClasses  Controller classes whose rule plans should be compiled.
+     */
+    public static void prewarm(Executor executor, final Class<?>... controllerClasses) {
+        assertNotNull(executor, "executor");
+        assertNotNull(controllerClasses, "controllerClasses");
+        executor.execute(new Runnable() {
+            public void run() {
+                ValidatorTracer tracer = Validator.sTracer;
+                tracer.beginSection(ValidatorTracer.SECTION_PREWARM);
+
+                try {
+                    Validator.getRegistry();
+                    DomainValidator.getInstance().isValid("example.com");
+                    EmailValidator.getInstance().isValid("user@example.com");
+                    UrlValidator.getInstance().isValid("http://example.com");
+                    InetAddressValidator.getInstance().isValid("127.0.0.1");
+                    Class[] var2 = controllerClasses;
+                    int var3 = controllerClasses.length;
+
+                    for(int var4 = 0; var4 < var3; ++var4) {
+                        Class<?> controllerClass = var2[var4];
+                        if (controllerClass != null) {
+                            Validator.prewarmPlan(controllerClass);
+                        }
+                    }
+                } finally {
+                    tracer.endSection(ValidatorTracer.SECTION_PREWARM);
+                }
+
+            }
+        });
     }
 
     public void setValidationListener(Validator.ValidationListener validationListener) {
@@ -128,12 +244,42 @@ public class Validator {
         this.mValidationListener = validationListener;
     }
 
+    /**
+     * Sets a listener that is told which views are waiting for {@link AsyncRule}s, before the
+     * {@link Validator.ValidationListener} receives the result of the pass.
+     *
+     * @param validationPendingListener  A {@link Validator.ValidationPendingListener}, can be
+     *      null.
+     */
+    public void setValidationPendingListener(Validator.ValidationPendingListener validationPendingListener) {
+        this.mValidationPendingListener = validationPendingListener;
+    }
+
+    /**
+     * Sets a listener that is told when a pass started with {@link #validate(boolean, long)}
+     * runs out of time, along with the errors found so far and the views that are still
+     * unvalidated.
+     *
+     * @param validationSuspendedListener  A {@link Validator.ValidationSuspendedListener}, can be
+     *      null.
+     */
+    public void setValidationSuspendedListener(Validator.ValidationSuspendedListener validationSuspendedListener) {
+        this.mValidationSuspendedListener = validationSuspendedListener;
+    }
+
     public void setViewValidatedAction(Validator.ViewValidatedAction viewValidatedAction) {
         this.mViewValidatedAction = viewValidatedAction;
     }
 
     public void setValidationMode(Validator.Mode validationMode) {
         assertNotNull(validationMode, "validationMode");
+        Validator.Mode previousMode = this.mValidationMode;
+        if (Validator.Mode.LIVE.equals(validationMode) && !Validator.Mode.LIVE.equals(previousMode)) {
+            this.startLiveValidation();
+        } else if (!Validator.Mode.LIVE.equals(validationMode) && Validator.Mode.LIVE.equals(previousMode)) {
+            this.stopLiveValidation();
+        }
+
         this.mValidationMode = validationMode;
     }
 
@@ -141,15 +287,121 @@ public class Validator {
         return this.mValidationMode;
     }
 
+    /**
+     * Sets the quiet period used by {@link Validator.Mode#LIVE}. A view is validated once no
+     * edits have been made to it for this long.
+     *
+     * @param delayMillis  The quiet period in milliseconds.
+     */
+    public void setLiveValidationDelay(long delayMillis) {
+        if (delayMillis < 0L) {
+            throw new IllegalArgumentException("'delayMillis' cannot be negative.");
+        } else {
+            this.mLiveDelayMillis = delayMillis;
+        }
+    }
+
+    /**
+     * Defers the creation of the rules of each annotated {@link View} until that view is
+     * validated for the first time. Views that are hidden, disabled or skipped by
+     * {@link #validateOnly(View, boolean)} do not have their rules created. Controllers that
+     * have a generated {@link SaripaarBinder} always create their rules up front.
+     *
+     * @param lazyRules  true to create the rules lazily, false otherwise.
+     *
+     * @throws IllegalStateException if the rules have already been created.
+     */
+    public void setLazyRules(boolean lazyRules) {
+        if (this.mViewRulesMap != null) {
+            throw new IllegalStateException("Rules have already been created, call 'setLazyRules(boolean)' before validating or adding rules.");
+        } else {
+            this.mLazyRules = lazyRules;
+        }
+    }
+
+    /**
+     * Re-runs the rules of a {@link View} only if the data of the view has changed since the
+     * rules were last run. Changes are tracked for {@link android.widget.TextView}s,
+     * {@link android.widget.CompoundButton}s and {@link android.widget.AdapterView}s, rules on
+     * other views are always run. {@link QuickRule}s and contextual rules that read other views,
+     * such as {@link ConfirmPassword}, are always run, see
+     * {@link ContextualAnnotationRule#readsOtherViews()}. Other annotation rules, including
+     * {@link NotEmpty}, are expected to depend only on the
+     * data of the view they are attached to.
+     *
+     * @param incrementalValidation  true to reuse results for unchanged views, false otherwise.
+     */
+    public void setIncrementalValidation(boolean incrementalValidation) {
+        if (incrementalValidation) {
+            if (this.mChangeTracker == null) {
+                this.mChangeTracker = new ChangeTracker();
+            }
+        } else {
+            this.mChangeTracker = null;
+            this.mRuleResultCache = null;
+        }
+
+    }
+
+    /**
+     * Remembers the results of rules that declare {@link Rule#FLAG_PURE}, keyed by input value.
+     * Each such rule gets its own least-recently-used memo. Contextual rules are never memoized.
+     *
+     * @param maxEntriesPerRule  Maximum number of results remembered for each rule, 0 disables
+     *      the memo and discards remembered results.
+     */
+    public void setRuleMemoSize(int maxEntriesPerRule) {
+        if (maxEntriesPerRule < 0) {
+            throw new IllegalArgumentException("'maxEntriesPerRule' cannot be negative.");
+        } else {
+            this.mRuleMemoSize = maxEntriesPerRule;
+            this.mRuleMemos = null;
+            this.mPlanRuleMemos = null;
+            this.mMemoPlan = null;
+        }
+    }
+
+    /**
+     * Returns the number of rule results that were served from the rule memos. Memos of rules
+     * that have been removed are not counted.
+     *
+     * @return The hit count.
+     */
+    public int getRuleMemoHitCount() {
+        int hitCount = 0;
+        Map<Rule, LruCache<Object, Boolean>> ruleMemos = this.mRuleMemos;
+        if (ruleMemos != null) {
+            for(LruCache<Object, Boolean> ruleMemo : ruleMemos.values()) {
+                hitCount += ruleMemo.hitCount();
+            }
+        }
+
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of times a memoized rule had to be run.
+     *
+     * @return The miss count.
+     */
+    public int getRuleMemoMissCount() {
+        int missCount = 0;
+        Map<Rule, LruCache<Object, Boolean>> ruleMemos = this.mRuleMemos;
+        if (ruleMemos != null) {
+            for(LruCache<Object, Boolean> ruleMemo : ruleMemos.values()) {
+                missCount += ruleMemo.missCount();
+            }
+        }
+
+        return missCount;
+    }
+
     public void validate(boolean ultimate) {
-        this.setValidationMode(ultimate ? Validator.Mode.BURST : Validator.Mode.IMMEDIATE);
-        this.validate(false, ultimate);
+        this.validate((View)null, ultimate);
     }
 
     public void validateOnly(View view, boolean ultimate) {
-        this.mTargetView = view;
-        this.validate(ultimate);
-        this.mTargetView = null;
+        this.validate(view, ultimate);
     }
 
     public void validateBefore(View view, boolean ultimate) {
@@ -161,40 +413,139 @@ public class Validator {
     }
 
     public void validate(boolean async, boolean ultimate) {
-        this.createRulesSafelyAndLazily(false);
-        View lastView = this.getLastView();
-        if (Validator.Mode.BURST.equals(this.mValidationMode)) {
-            this.validateUnorderedFieldsWithCallbackTill(lastView, async, ultimate);
-        } else {
-            if (!Validator.Mode.IMMEDIATE.equals(this.mValidationMode)) {
-                throw new RuntimeException("This should never happen!");
-            }
-
-            String reasonSuffix = String.format("in %s mode.", Validator.Mode.IMMEDIATE.toString());
-            this.validateOrderedFieldsWithCallbackTill(lastView, reasonSuffix, async, ultimate);
-        }
-
+        this.validate((View)null, async, ultimate);
     }
 
     public void validateBefore(View view, boolean async, boolean ultimate) {
         this.createRulesSafelyAndLazily(false);
         View previousView = this.getViewBefore(view);
-        this.validateOrderedFieldsWithCallbackTill(previousView, "when using 'validateBefore(View)'.", async, ultimate);
+        this.validateOrderedFieldsWithCallbackTill(previousView, (View)null, "when using 'validateBefore(View)'.", async, ultimate);
     }
 
     public void validateTill(View view, boolean async, boolean ultimate) {
-        this.validateOrderedFieldsWithCallbackTill(view, "when using 'validateTill(View)'.", async, ultimate);
+        this.validateOrderedFieldsWithCallbackTill(view, (View)null, "when using 'validateTill(View)'.", async, ultimate);
+    }
+
+    /**
+     * Validates on the calling thread within a time budget. Rules are never interrupted, but
+     * once the budget is spent the pass is suspended before the next rule, the
+     * {@link Validator.ValidationSuspendedListener} is called and {@link #resume(long)} continues
+     * where the pass stopped. The {@link Validator.ValidationListener} is called once the pass
+     * completes. At least one rule is evaluated per call, so passes always make progress.
+     * Starting another pass discards a suspended one.
+     *
+     * @param ultimate  true if this is the ultimate validation, false otherwise.
+     * @param budgetMillis  The time budget in milliseconds, for instance the part of a frame
+     *      that can be spent on validation.
+     *
+     * @return true if the pass completed, false if it was suspended.
+     *
+     * @throws IllegalStateException if the controller has {@link AsyncRule}s, use
+     *      {@link #validate(boolean, boolean)} instead.
+     */
+    public boolean validate(boolean ultimate, long budgetMillis) {
+        if (!Validator.Mode.LIVE.equals(this.mValidationMode)) {
+            this.setValidationMode(ultimate ? Validator.Mode.BURST : Validator.Mode.IMMEDIATE);
+        }
+
+        this.createRulesSafelyAndLazily(false);
+        if (Validator.Mode.IMMEDIATE.equals(this.mValidationMode)) {
+            this.assertOrderedFields(this.mOrderedFields, IMMEDIATE_MODE_REASON_SUFFIX);
+        }
+
+        assertNotNull(this.mValidationListener, "validationListener");
+        if (this.hasAsyncRules()) {
+            String message = String.format("Rules that extend '%s' cannot be validated with a time budget, use 'validate(boolean, boolean)'.", AsyncRule.class.getName());
+            throw new IllegalStateException(message);
+        }
+
+        int generation = this.mGeneration.incrementAndGet();
+        Validator.PartialValidation partial = new Validator.PartialValidation(generation, this.getPass((View)null, (Set)null, ultimate), this.getLastView());
+        this.mPartialValidation = partial;
+        return this.continueValidation(partial, budgetMillis);
+    }
+
+    /**
+     * Continues a pass suspended by {@link #validate(boolean, long)} within a new time budget.
+     *
+     * @param budgetMillis  The time budget in milliseconds.
+     *
+     * @return true if the pass completed or if there is no suspended pass, false if it was
+     *      suspended again.
+     */
+    public boolean resume(long budgetMillis) {
+        Validator.PartialValidation partial = this.mPartialValidation;
+        if (partial != null && partial.isCurrent()) {
+            return this.continueValidation(partial, budgetMillis);
+        }
+
+        this.mPartialValidation = null;
+        return true;
+    }
+
+    /**
+     * Tells if a pass started with {@link #validate(boolean, long)} is waiting to be resumed.
+     *
+     * @return true if a pass is suspended, false otherwise.
+     */
+    public boolean isSuspended() {
+        Validator.PartialValidation partial = this.mPartialValidation;
+        return partial != null && partial.isCurrent();
+    }
+
+    /**
+     * Sets the {@link Executor} used for asynchronous validation. Results are always delivered
+     * on the main thread. By default a small pool of background threads dedicated to Saripaar
+     * is used.
+     *
+     * @param executor  An {@link Executor}, null to use the default executor.
+     */
+    public void setExecutor(Executor executor) {
+        this.mExecutor = executor;
+    }
+
+    /**
+     * Evaluates the rules of different views in parallel, on a shared pool with one thread per
+     * CPU core. The state of the views is captured on the calling thread first, rules that read
+     * other views are evaluated there too. Errors are reported in declaration order and
+     * {@link Mode#IMMEDIATE} stops evaluating views that come after the first failing view.
+     * Custom rules must be thread-safe when this is enabled.
+     *
+     * @param parallelEvaluation  true to evaluate views in parallel, false otherwise.
+     */
+    public void setParallelEvaluation(boolean parallelEvaluation) {
+        this.mParallelEvaluation = parallelEvaluation;
+    }
+
+    /**
+     * Evaluates the rules of each view in an order that is adapted at runtime, rules that are
+     * cheap and likely to fail are moved ahead of the others. Only rules without a sequence are
+     * reordered, and the reported errors do not change. {@link Mode#IMMEDIATE} passes always
+     * evaluate rules in declaration order, because they stop after the view whose last declared
+     * rule fails.
+     *
+     * @param adaptiveRuleOrdering  true to reorder rules adaptively, false otherwise.
+     */
+    public void setAdaptiveRuleOrdering(boolean adaptiveRuleOrdering) {
+        this.mAdaptiveRuleOrdering = adaptiveRuleOrdering;
+        if (!adaptiveRuleOrdering) {
+            this.mRuleScheduler = null;
+        }
+
     }
 
     public boolean isValidating() {
-        return this.mAsyncValidationTask != null && this.mAsyncValidationTask.getStatus() != AsyncTask.Status.FINISHED;
+        Validator.AsyncValidation asyncValidation = this.mAsyncValidation;
+        return asyncValidation != null && !asyncValidation.mFinished && asyncValidation.isCurrent();
     }
 
     public boolean cancelAsync() {
         boolean cancelled = false;
-        if (this.mAsyncValidationTask != null) {
-            cancelled = this.mAsyncValidationTask.cancel(true);
-            this.mAsyncValidationTask = null;
+        Validator.AsyncValidation asyncValidation = this.mAsyncValidation;
+        if (asyncValidation != null) {
+            cancelled = !asyncValidation.mFinished && asyncValidation.isCurrent();
+            this.mGeneration.incrementAndGet();
+            this.mAsyncValidation = null;
         }
 
         return cancelled;
@@ -225,6 +576,10 @@ public class Validator {
 
                 Collections.sort(ruleAdapterPairs, this.mSequenceComparator);
                 this.mViewRulesMap.put(view, ruleAdapterPairs);
+                this.mExecutionPlan = null;
+                if (Validator.Mode.LIVE.equals(this.mValidationMode)) {
+                    this.attachLiveWatchers();
+                }
             }
         }
     }
@@ -236,13 +591,46 @@ public class Validator {
         }
 
         this.mViewRulesMap.remove(view);
+        if (this.mPendingRules != null) {
+            this.mPendingRules.remove(view);
+        }
+
+        if (this.mLiveWatchers != null) {
+            TextWatcher liveTextWatcher = (TextWatcher)this.mLiveWatchers.remove(view);
+            if (liveTextWatcher != null) {
+                ((TextView)view).removeTextChangedListener(liveTextWatcher);
+            }
+
+            this.mLiveDeadlines.remove(view);
+            this.mLiveEditedViews.remove(view);
+        }
+
+        this.mExecutionPlan = null;
     }
 
     static boolean isSaripaarAnnotation(Class<? extends Annotation> annotation) {
-        return SARIPAAR_REGISTRY.getRegisteredAnnotations().contains(annotation);
+        return getRegistry().getRegisteredAnnotations().contains(annotation);
+    }
+
+    private static Registry getRegistry() {
+        return Validator.RegistryHolder.REGISTRY;
+    }
+
+    private static void prewarmPlan(Class<?> controllerClass) {
+        ControllerPlan controllerPlan = getControllerPlan(controllerClass);
+        ControllerPlan.FieldPlan[] fieldPlans = controllerPlan.fieldPlans;
+
+        for(int i = 0; i < fieldPlans.length; ++i) {
+            ControllerPlan.RulePlan[] rulePlans = fieldPlans[i].rulePlans;
+
+            for(int j = 0; j < rulePlans.length; ++j) {
+                AnnotationAttributes.of(rulePlans[j].ruleAnnotation);
+            }
+        }
+
     }
 
-    private static void assertNotNull(Object object, String argumentName) {
+    static void assertNotNull(Object object, String argumentName) {
         if (object == null) {
             String message = String.format("'%s' cannot be null.", argumentName);
             throw new IllegalArgumentException(message);
@@ -251,9 +639,26 @@ public class Validator {
 
     private void createRulesSafelyAndLazily(boolean addingQuickRules) {
         if (this.mViewRulesMap == null) {
-            List<Field> annotatedFields = this.getSaripaarAnnotatedFields(this.mController.getClass());
-            this.mViewRulesMap = this.createRules(annotatedFields);
-            this.mValidationContext.setViewRulesMap(this.mViewRulesMap);
+            ValidatorTracer tracer = sTracer;
+            tracer.beginSection(ValidatorTracer.SECTION_CREATE_RULES);
+
+            try {
+                ControllerPlan controllerPlan = getControllerPlan(this.mController.getClass());
+                this.mOrderedFields = controllerPlan.orderedFields;
+                tracer.beginSection(ValidatorTracer.SECTION_INSTANTIATE_RULES);
+
+                try {
+                    this.mViewRulesMap = this.createRules(controllerPlan);
+                } finally {
+                    tracer.endSection(ValidatorTracer.SECTION_INSTANTIATE_RULES);
+                }
+
+                this.mExecutionPlan = null;
+                this.mValidationContext.setViewRulesMap(this.mViewRulesMap);
+                this.mValidationContext.setPendingRules(this.mPendingRules);
+            } finally {
+                tracer.endSection(ValidatorTracer.SECTION_CREATE_RULES);
+            }
         }
 
         if (!addingQuickRules && this.mViewRulesMap.size() == 0) {
@@ -262,31 +667,96 @@ public class Validator {
         }
     }
 
-    private List<Field> getSaripaarAnnotatedFields(Class<?> controllerClass) {
-        Set<Class<? extends Annotation>> saripaarAnnotations = SARIPAAR_REGISTRY.getRegisteredAnnotations();
+    static ControllerPlan getControllerPlan(Class<?> controllerClass) {
+        int registrationVersion = REGISTRATION_VERSION.get();
+        ControllerPlan controllerPlan = ControllerPlan.get(controllerClass, registrationVersion);
+        if (controllerPlan == null) {
+            ValidatorTracer tracer = sTracer;
+            tracer.beginSection(ValidatorTracer.SECTION_COMPILE_PLAN);
+
+            try {
+                controllerPlan = compileControllerPlan(controllerClass, registrationVersion);
+            } finally {
+                tracer.endSection(ValidatorTracer.SECTION_COMPILE_PLAN);
+            }
+
+            controllerPlan = ControllerPlan.put(controllerClass, controllerPlan);
+        }
+
+        return controllerPlan;
+    }
+
+    private static ControllerPlan compileControllerPlan(Class<?> controllerClass, int registrationVersion) {
+        SaripaarBinder binder = findBinder(controllerClass);
+        if (binder != null) {
+            return new ControllerPlan(binder, registrationVersion);
+        }
+
+        SaripaarFieldsComparator comparator = new SaripaarFieldsComparator();
+        ValidatorTracer tracer = sTracer;
+        tracer.beginSection(ValidatorTracer.SECTION_SCAN_FIELDS);
+
+        List<Field> annotatedFields;
+        try {
+            annotatedFields = getSaripaarAnnotatedFields(controllerClass, comparator);
+        } finally {
+            tracer.endSection(ValidatorTracer.SECTION_SCAN_FIELDS);
+        }
+
+        boolean orderedFields = annotatedFields.size() == 1 ? ((Field)annotatedFields.get(0)).getAnnotation(Order.class) != null : annotatedFields.size() != 0 && comparator.areOrderedFields();
+        int nFields = annotatedFields.size();
+        ControllerPlan.FieldPlan[] fieldPlans = new ControllerPlan.FieldPlan[nFields];
+
+        for(int i = 0; i < nFields; ++i) {
+            Field field = (Field)annotatedFields.get(i);
+            field.setAccessible(true);
+            fieldPlans[i] = new ControllerPlan.FieldPlan(field, getRulePlans(field));
+        }
+
+        return new ControllerPlan(fieldPlans, orderedFields, registrationVersion);
+    }
+
+    private static SaripaarBinder findBinder(Class<?> controllerClass) {
+        SaripaarBinder binder = null;
+
+        try {
+            String binderClassName = controllerClass.getName() + SaripaarBinder.SUFFIX;
+            Class<?> binderClass = Class.forName(binderClassName, true, controllerClass.getClassLoader());
+            binder = (SaripaarBinder)binderClass.newInstance();
+        } catch (ClassNotFoundException var4) {
+            // No generated binder, the plan is compiled using reflection.
+        } catch (InstantiationException var5) {
+            var5.printStackTrace();
+        } catch (IllegalAccessException var6) {
+            var6.printStackTrace();
+        }
+
+        return binder;
+    }
+
+    private static List<Field> getSaripaarAnnotatedFields(Class<?> controllerClass, SaripaarFieldsComparator comparator) {
+        Set<Class<? extends Annotation>> saripaarAnnotations = getRegistry().getRegisteredAnnotations();
         List<Field> annotatedFields = new ArrayList();
-        List<Field> controllerViewFields = this.getControllerViewFields(controllerClass);
+        List<Field> controllerViewFields = getControllerViewFields(controllerClass);
         Iterator var5 = controllerViewFields.iterator();
 
         while(var5.hasNext()) {
             Field field = (Field)var5.next();
-            if (this.isSaripaarAnnotatedField(field, saripaarAnnotations)) {
+            if (isSaripaarAnnotatedField(field, saripaarAnnotations)) {
                 annotatedFields.add(field);
             }
         }
 
-        SaripaarFieldsComparator comparator = new SaripaarFieldsComparator();
         Collections.sort(annotatedFields, comparator);
-        this.mOrderedFields = annotatedFields.size() == 1 ? ((Field)annotatedFields.get(0)).getAnnotation(Order.class) != null : annotatedFields.size() != 0 && comparator.areOrderedFields();
         return annotatedFields;
     }
 
-    private List<Field> getControllerViewFields(Class<?> controllerClass) {
+    private static List<Field> getControllerViewFields(Class<?> controllerClass) {
         List<Field> controllerViewFields = new ArrayList();
-        controllerViewFields.addAll(this.getViewFields(controllerClass));
+        controllerViewFields.addAll(getViewFields(controllerClass));
 
         for(Class superClass = controllerClass.getSuperclass(); !superClass.equals(Object.class); superClass = superClass.getSuperclass()) {
-            List<Field> viewFields = this.getViewFields(superClass);
+            List<Field> viewFields = getViewFields(superClass);
             if (viewFields.size() > 0) {
                 controllerViewFields.addAll(viewFields);
             }
@@ -295,7 +765,7 @@ public class Validator {
         return controllerViewFields;
     }
 
-    private List<Field> getViewFields(Class<?> clazz) {
+    private static List<Field> getViewFields(Class<?> clazz) {
         List<Field> viewFields = new ArrayList();
         Field[] declaredFields = clazz.getDeclaredFields();
         Field[] var4 = declaredFields;
@@ -311,7 +781,7 @@ public class Validator {
         return viewFields;
     }
 
-    private boolean isSaripaarAnnotatedField(Field field, Set<Class<? extends Annotation>> registeredAnnotations) {
+    private static boolean isSaripaarAnnotatedField(Field field, Set<Class<? extends Annotation>> registeredAnnotations) {
         boolean hasOrderAnnotation = field.getAnnotation(Order.class) != null;
         boolean hasSaripaarAnnotation = false;
         if (!hasOrderAnnotation) {
@@ -331,60 +801,124 @@ public class Validator {
         return hasOrderAnnotation || hasSaripaarAnnotation;
     }
 
-    private Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> createRules(List<Field> annotatedFields) {
-        Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap = new LinkedHashMap();
-        Iterator var3 = annotatedFields.iterator();
+    private static ControllerPlan.RulePlan[] getRulePlans(Field field) {
+        List<ControllerPlan.RulePlan> rulePlans = new ArrayList();
+        Annotation[] fieldAnnotations = field.getAnnotations();
+        Annotation[] var3 = fieldAnnotations;
+        int var4 = fieldAnnotations.length;
 
-        while(var3.hasNext()) {
-            Field field = (Field)var3.next();
-            ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs = new ArrayList();
-            Annotation[] fieldAnnotations = field.getAnnotations();
-            Annotation[] var7 = fieldAnnotations;
-            int var8 = fieldAnnotations.length;
-
-            for(int var9 = 0; var9 < var8; ++var9) {
-                Annotation fieldAnnotation = var7[var9];
-                if (isSaripaarAnnotation(fieldAnnotation.annotationType())) {
-                    Pair<Rule, ViewDataAdapter> ruleAdapterPair = this.getRuleAdapterPair(fieldAnnotation, field);
-                    ruleAdapterPairs.add(ruleAdapterPair);
-                }
+        for(int var5 = 0; var5 < var4; ++var5) {
+            Annotation fieldAnnotation = var3[var5];
+            if (isSaripaarAnnotation(fieldAnnotation.annotationType())) {
+                rulePlans.add(getRulePlan(fieldAnnotation, field));
             }
-
-            Collections.sort(ruleAdapterPairs, this.mSequenceComparator);
-            viewRulesMap.put(this.getView(field), ruleAdapterPairs);
         }
 
-        return viewRulesMap;
+        Collections.sort(rulePlans);
+        return (ControllerPlan.RulePlan[])rulePlans.toArray(new ControllerPlan.RulePlan[rulePlans.size()]);
     }
 
-    private Pair<Rule, ViewDataAdapter> getRuleAdapterPair(Annotation saripaarAnnotation, Field viewField) {
+    private static ControllerPlan.RulePlan getRulePlan(Annotation saripaarAnnotation, Field viewField) {
         Class<? extends Annotation> annotationType = saripaarAnnotation.annotationType();
         Class<?> viewFieldType = viewField.getType();
         Class<?> ruleDataType = Reflector.getRuleDataType(saripaarAnnotation);
-        ViewDataAdapter dataAdapter = this.getDataAdapter(annotationType, viewFieldType, ruleDataType);
+        ValidatorTracer tracer = sTracer;
+        tracer.beginSection(ValidatorTracer.SECTION_RESOLVE_ADAPTER);
+
+        ViewDataAdapter dataAdapter;
+        try {
+            dataAdapter = getDataAdapter(annotationType, viewFieldType, ruleDataType);
+        } finally {
+            tracer.endSection(ValidatorTracer.SECTION_RESOLVE_ADAPTER);
+        }
+
         if (dataAdapter == null) {
-            String viewType = viewFieldType.getName();
-            String message = String.format("To use '%s' on '%s', register a '%s' that returns a '%s' from the '%s'.", annotationType.getName(), viewType, ViewDataAdapter.class.getName(), ruleDataType.getName(), viewType);
-            throw new UnsupportedOperationException(message);
+            throw newMissingAdapterException(annotationType, viewFieldType, ruleDataType);
         } else {
-            Class<? extends AnnotationRule> ruleType = this.getRuleType(saripaarAnnotation);
-            AnnotationRule rule = Reflector.instantiateRule(ruleType, saripaarAnnotation, this.mValidationContext);
-            return new Pair(rule, dataAdapter);
+            Class<? extends AnnotationRule> ruleType = getRuleType(saripaarAnnotation);
+            Constructor<? extends AnnotationRule> ruleConstructor = Reflector.getRuleConstructor(ruleType, annotationType);
+            int sequence = AnnotationAttributes.of(saripaarAnnotation).getInt(AnnotationAttributes.SEQUENCE, -1);
+            return new ControllerPlan.RulePlan(saripaarAnnotation, ruleConstructor, dataAdapter, sequence);
         }
     }
 
-    private ViewDataAdapter getDataAdapter(Class<? extends Annotation> annotationType, Class<?> viewFieldType, Class<?> adapterDataType) {
-        ViewDataAdapter dataAdapter = SARIPAAR_REGISTRY.getDataAdapter(annotationType, (Class)viewFieldType);
-        if (dataAdapter == null) {
-            HashMap<Class<?>, ViewDataAdapter> dataTypeAdapterMap = (HashMap)REGISTERED_ADAPTERS.get(viewFieldType);
-            dataAdapter = dataTypeAdapterMap != null ? (ViewDataAdapter)dataTypeAdapterMap.get(adapterDataType) : null;
+    private static UnsupportedOperationException newMissingAdapterException(Class<? extends Annotation> annotationType, Class<?> viewFieldType, Class<?> ruleDataType) {
+        String viewType = viewFieldType.getName();
+        String message = String.format("To use '%s' on '%s', register a '%s' that returns a '%s' from the '%s'.", annotationType.getName(), viewType, ViewDataAdapter.class.getName(), ruleDataType.getName(), viewType);
+        return new UnsupportedOperationException(message);
+    }
+
+    private Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> createRules(ControllerPlan controllerPlan) {
+        Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap = new LinkedHashMap();
+        if (controllerPlan.binder != null) {
+            controllerPlan.binder.bind(this.mController, this.mValidationContext, new Validator.RuleBindings(viewRulesMap));
+            return viewRulesMap;
+        }
+
+        ControllerPlan.FieldPlan[] fieldPlans = controllerPlan.fieldPlans;
+        if (this.mLazyRules) {
+            this.mPendingRules = new HashMap();
+        }
+
+        for(int i = 0; i < fieldPlans.length; ++i) {
+            View view = this.getView(fieldPlans[i].field);
+            if (this.mLazyRules) {
+                this.mPendingRules.put(view, fieldPlans[i]);
+                viewRulesMap.put(view, new ArrayList());
+            } else {
+                viewRulesMap.put(view, this.createRules(fieldPlans[i]));
+            }
+        }
+
+        return viewRulesMap;
+    }
+
+    private ArrayList<Pair<Rule, ViewDataAdapter>> createRules(ControllerPlan.FieldPlan fieldPlan) {
+        ControllerPlan.RulePlan[] rulePlans = fieldPlan.rulePlans;
+        ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs = new ArrayList(rulePlans.length);
+
+        for(int j = 0; j < rulePlans.length; ++j) {
+            ControllerPlan.RulePlan rulePlan = rulePlans[j];
+            AnnotationRule rule = Reflector.instantiateRule(rulePlan.ruleConstructor, rulePlan.ruleAnnotation, this.mValidationContext);
+            ruleAdapterPairs.add(new Pair(rule, rulePlan.dataAdapter));
+        }
+
+        return ruleAdapterPairs;
+    }
+
+    private void createPendingRules(View targetView, Set<View> liveTargetViews, boolean ultimate) {
+        if (this.mPendingRules != null && !this.mPendingRules.isEmpty()) {
+            View[] views = this.getExecutionPlan().views;
+
+            for(int i = 0; i < views.length; ++i) {
+                View view = views[i];
+                ControllerPlan.FieldPlan fieldPlan = (ControllerPlan.FieldPlan)this.mPendingRules.get(view);
+                if (fieldPlan != null && ValidationPass.isTargeted(view, targetView, liveTargetViews) && this.shouldValidate(view, targetView, liveTargetViews, ultimate)) {
+                    ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs = (ArrayList)this.mViewRulesMap.get(view);
+                    ValidatorTracer tracer = sTracer;
+                    tracer.beginSection(ValidatorTracer.SECTION_INSTANTIATE_RULES);
+
+                    try {
+                        ruleAdapterPairs.addAll(0, this.createRules(fieldPlan));
+                    } finally {
+                        tracer.endSection(ValidatorTracer.SECTION_INSTANTIATE_RULES);
+                    }
+
+                    Collections.sort(ruleAdapterPairs, this.mSequenceComparator);
+                    this.mPendingRules.remove(view);
+                    this.mExecutionPlan = null;
+                }
+            }
         }
 
-        return dataAdapter;
     }
 
-    private Class<? extends AnnotationRule> getRuleType(Annotation ruleAnnotation) {
-        ValidateUsing validateUsing = (ValidateUsing)ruleAnnotation.annotationType().getAnnotation(ValidateUsing.class);
+    private static ViewDataAdapter getDataAdapter(Class<? extends Annotation> annotationType, Class<?> viewFieldType, Class<?> adapterDataType) {
+        return getRegistry().getDataAdapter(annotationType, (Class)viewFieldType, adapterDataType);
+    }
+
+    private static Class<? extends AnnotationRule> getRuleType(Annotation ruleAnnotation) {
+        ValidateUsing validateUsing = Reflector.getValidateUsingAnnotation(ruleAnnotation.annotationType());
         return validateUsing != null ? validateUsing.value() : null;
     }
 
@@ -392,7 +926,6 @@ public class Validator {
         View view = null;
 
         try {
-            field.setAccessible(true);
             view = (View)field.get(this.mController);
         } catch (IllegalArgumentException var4) {
             var4.printStackTrace();
@@ -403,219 +936,1132 @@ public class Validator {
         return view;
     }
 
-    private void validateUnorderedFieldsWithCallbackTill(View view, boolean async, boolean ultimate) {
-        this.validateFieldsWithCallbackTill(view, false, (String)null, async, ultimate);
-    }
+    private void validate(View targetView, boolean ultimate) {
+        if (!Validator.Mode.LIVE.equals(this.mValidationMode)) {
+            this.setValidationMode(ultimate ? Validator.Mode.BURST : Validator.Mode.IMMEDIATE);
+        }
 
-    private void validateOrderedFieldsWithCallbackTill(View view, String reasonSuffix, boolean async, boolean ultimate) {
-        this.validateFieldsWithCallbackTill(view, true, reasonSuffix, async, ultimate);
+        this.validate(targetView, false, ultimate);
     }
 
-    private void validateFieldsWithCallbackTill(View view, boolean orderedFields, String reasonSuffix, boolean async, boolean ultimate) {
+    private void validate(View targetView, boolean async, boolean ultimate) {
         this.createRulesSafelyAndLazily(false);
-        if (async) {
-            if (this.mAsyncValidationTask != null) {
-                this.mAsyncValidationTask.cancel(true);
+        View lastView = this.getLastView();
+        if (Validator.Mode.BURST.equals(this.mValidationMode) || Validator.Mode.LIVE.equals(this.mValidationMode)) {
+            this.validateUnorderedFieldsWithCallbackTill(lastView, targetView, async, ultimate);
+        } else {
+            if (!Validator.Mode.IMMEDIATE.equals(this.mValidationMode)) {
+                throw new RuntimeException("This should never happen!");
             }
 
-            this.mAsyncValidationTask = new Validator.AsyncValidationTask(view, orderedFields, reasonSuffix, ultimate);
-            this.mAsyncValidationTask.execute((Void[])null);
-        } else {
-            this.triggerValidationListenerCallback(this.validateTill(view, orderedFields, reasonSuffix, ultimate), ultimate);
+            this.validateOrderedFieldsWithCallbackTill(lastView, targetView, IMMEDIATE_MODE_REASON_SUFFIX, async, ultimate);
         }
 
     }
 
-    private synchronized Validator.ValidationReport validateTill(View view, boolean requiresOrderedRules, String reasonSuffix, boolean ultimate) {
-        if (requiresOrderedRules && this.mTargetView == null) {
+    private void validateUnorderedFieldsWithCallbackTill(View view, View targetView, boolean async, boolean ultimate) {
+        this.validateFieldsWithCallbackTill(view, targetView, false, (String)null, async, ultimate);
+    }
+
+    private void validateOrderedFieldsWithCallbackTill(View view, View targetView, String reasonSuffix, boolean async, boolean ultimate) {
+        this.validateFieldsWithCallbackTill(view, targetView, true, reasonSuffix, async, ultimate);
+    }
+
+    private void validateFieldsWithCallbackTill(View view, View targetView, boolean orderedFields, String reasonSuffix, boolean async, boolean ultimate) {
+        this.createRulesSafelyAndLazily(false);
+        if (orderedFields && targetView == null) {
             this.assertOrderedFields(this.mOrderedFields, reasonSuffix);
         }
 
         assertNotNull(this.mValidationListener, "validationListener");
-        return this.getValidationReport(view, this.mViewRulesMap, this.mValidationMode, ultimate);
-    }
-
-    private void triggerValidationListenerCallback(Validator.ValidationReport validationReport, boolean ultimate) {
-        List<ValidationError> validationErrors = validationReport.errors;
-        if (validationErrors.size() == 0 && !validationReport.hasMoreErrors) {
-            if (this.mTargetView != null) {
-                this.mValidationListener.onTargetedValidationSucceeded(this.mTargetView, ultimate);
+        int generation = this.mGeneration.incrementAndGet();
+        if (async || this.hasAsyncRules()) {
+            ValidationSnapshot snapshot = this.snapshotTill(view, targetView, (Set)null, ultimate);
+            Validator.AsyncValidation asyncValidation = new Validator.AsyncValidation(generation, snapshot);
+            this.mAsyncValidation = asyncValidation;
+            if (async) {
+                Executor executor = this.mExecutor != null ? this.mExecutor : ExecutorHolder.EXECUTOR;
+                executor.execute(asyncValidation);
             } else {
-                this.mValidationListener.onValidationSucceeded(ultimate);
+                asyncValidation.run();
             }
         } else {
-            this.mValidationListener.onValidationFailed(validationErrors, ultimate);
+            Validator.ValidationReport validationReport = this.validateTill(view, targetView, (Set)null, ultimate);
+            if (this.publish(generation)) {
+                this.triggerValidationListenerCallback(validationReport, targetView, ultimate);
+            }
         }
 
     }
 
-    private void assertOrderedFields(boolean orderedRules, String reasonSuffix) {
-        if (!orderedRules) {
-            String message = String.format("Rules are unordered, all view fields should be ordered using the '@Order' annotation " + reasonSuffix);
-            throw new IllegalStateException(message);
-        }
-    }
+    private Validator.ValidationReport validateTill(View view, View targetView, Set<View> liveTargetViews, boolean ultimate) {
+        ValidatorTracer tracer = sTracer;
+        tracer.beginSection(ValidatorTracer.SECTION_VALIDATE);
 
-    private Validator.ValidationReport getValidationReport(View targetView, Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap, Validator.Mode validationMode, boolean ultimate) {
-        List<ValidationError> validationErrors = new ArrayList();
-        Set<View> views = viewRulesMap.keySet();
-        boolean addErrorToReport = targetView != null;
-        boolean hasMoreErrors = false;
-        Iterator var9 = views.iterator();
+        Validator.ValidationReport var7;
+        try {
+            ValidationPass pass = this.getPass(targetView, liveTargetViews, ultimate);
+            ValidationSnapshot snapshot = pass.parallelEvaluation || pass.ruleScheduler != null ? this.takeSnapshot(view, pass) : null;
+            var7 = this.getValidationReport(view, pass, snapshot, (Rule[])null);
+        } finally {
+            tracer.endSection(ValidatorTracer.SECTION_VALIDATE);
+        }
 
-        while(var9.hasNext()) {
-            View view = (View)var9.next();
-            ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs = (ArrayList)viewRulesMap.get(view);
-            int nRules = ruleAdapterPairs.size();
-            List<Rule> failedRules = null;
+        return var7;
+    }
 
-            for(int i = 0; i < nRules; ++i) {
-                if (this.shouldValidate(view, ultimate)) {
-                    Pair<Rule, ViewDataAdapter> ruleAdapterPair = (Pair)ruleAdapterPairs.get(i);
-                    Rule failedRule = this.validateViewWithRule(view, (Rule)ruleAdapterPair.first, (ViewDataAdapter)ruleAdapterPair.second, ultimate);
-                    boolean isLastRuleForView = nRules == i + 1;
-                    if (failedRule != null) {
-                        if (addErrorToReport) {
-                            if (failedRules == null) {
-                                failedRules = new ArrayList();
-                                validationErrors.add(new ValidationError(view, failedRules));
-                            }
+    private ValidationSnapshot snapshotTill(View view, View targetView, Set<View> liveTargetViews, boolean ultimate) {
+        ValidatorTracer tracer = sTracer;
+        tracer.beginSection(ValidatorTracer.SECTION_SNAPSHOT);
 
-                            failedRules.add(failedRule);
-                        } else {
-                            hasMoreErrors = true;
-                        }
+        ValidationSnapshot var6;
+        try {
+            var6 = this.takeSnapshot(view, this.getPass(targetView, liveTargetViews, ultimate));
+        } finally {
+            tracer.endSection(ValidatorTracer.SECTION_SNAPSHOT);
+        }
 
-                        if (Validator.Mode.IMMEDIATE.equals(validationMode) && isLastRuleForView) {
-                            return new Validator.ValidationReport(validationErrors, hasMoreErrors);
-                        }
-                    }
+        return var6;
+    }
 
-                    if (view.equals(targetView) && isLastRuleForView) {
-                        addErrorToReport = false;
-                    }
-                }
-            }
+    private Rule[] evaluateSnapshot(ValidationSnapshot snapshot) {
+        ValidatorTracer tracer = sTracer;
+        tracer.beginSection(ValidatorTracer.SECTION_VALIDATE);
 
-            boolean viewPassedAllRules = (failedRules == null || failedRules.size() == 0) && !hasMoreErrors;
-            if (viewPassedAllRules && this.mViewValidatedAction != null) {
-                this.triggerViewValidatedCallback(this.mViewValidatedAction, view);
-            }
+        Rule[] var3;
+        try {
+            var3 = this.evaluateRules(snapshot);
+        } finally {
+            tracer.endSection(ValidatorTracer.SECTION_VALIDATE);
         }
 
-        return new Validator.ValidationReport(validationErrors, hasMoreErrors);
+        return var3;
     }
 
-    private boolean shouldValidate(View view, boolean ultimate) {
-        boolean focused = view instanceof ViewGroup ? ((ViewGroup)view).getFocusedChild() != null : view.isFocused();
-        return view.isShown() && view.isEnabled() && (focused || ultimate || view == this.mTargetView);
+    private Validator.ValidationReport reportSnapshot(ValidationSnapshot snapshot, Rule[] ruleFailures) {
+        return this.getValidationReport(snapshot.lastView, snapshot.pass, snapshot, ruleFailures);
     }
 
-    private Rule validateViewWithRule(View view, Rule rule, ViewDataAdapter dataAdapter, boolean ultimate) {
-        if (this.mTargetView != null && view != this.mTargetView) {
-            return null;
-        } else if (!ultimate && rule.isUltimate()) {
-            return null;
-        } else {
-            boolean valid = false;
-            if (rule instanceof AnnotationRule) {
-                try {
-                    Object data = dataAdapter.getData(view);
-                    valid = rule.isValid(data);
-                } catch (ConversionException var8) {
-                    valid = false;
-                    var8.printStackTrace();
-                }
-            } else if (rule instanceof QuickRule) {
-                valid = rule.isValid(view);
+    private ValidationPass getPass(View targetView, Set<View> liveTargetViews, boolean ultimate) {
+        this.createPendingRules(targetView, liveTargetViews, ultimate);
+        ExecutionPlan executionPlan = this.getExecutionPlan();
+        ChangeTracker changeTracker = this.mChangeTracker;
+        RuleResultCache ruleResultCache = null;
+        if (changeTracker != null) {
+            ruleResultCache = this.mRuleResultCache;
+            if (ruleResultCache == null || ruleResultCache.getExecutionPlan() != executionPlan) {
+                ruleResultCache = new RuleResultCache(executionPlan);
+                this.mRuleResultCache = ruleResultCache;
             }
-
-            return valid ? null : rule;
         }
-    }
 
-    private void triggerViewValidatedCallback(final Validator.ViewValidatedAction viewValidatedAction, final View view) {
-        boolean isOnMainThread = Looper.myLooper() == Looper.getMainLooper();
-        if (isOnMainThread) {
-            viewValidatedAction.onAllRulesPassed(view);
-        } else {
-            this.runOnMainThread(new Runnable() {
-                public void run() {
-                    viewValidatedAction.onAllRulesPassed(view);
-                }
-            });
+        LruCache<Object, Boolean>[] ruleMemos = null;
+        if (this.mRuleMemoSize > 0) {
+            ruleMemos = this.mPlanRuleMemos;
+            if (ruleMemos == null || this.mMemoPlan != executionPlan) {
+                ruleMemos = this.getRuleMemos(executionPlan);
+                this.mPlanRuleMemos = ruleMemos;
+                this.mMemoPlan = executionPlan;
+            }
         }
 
-    }
-
-    private void runOnMainThread(Runnable runnable) {
-        if (this.mViewValidatedActionHandler == null) {
-            this.mViewValidatedActionHandler = new Handler(Looper.getMainLooper());
+        Validator.Mode validationMode = this.mValidationMode;
+        RuleScheduler ruleScheduler = null;
+        if (this.mAdaptiveRuleOrdering && !Validator.Mode.IMMEDIATE.equals(validationMode)) {
+            ruleScheduler = this.mRuleScheduler;
+            if (ruleScheduler == null || ruleScheduler.getExecutionPlan() != executionPlan) {
+                ruleScheduler = new RuleScheduler(executionPlan);
+                this.mRuleScheduler = ruleScheduler;
+            }
         }
 
-        this.mViewValidatedActionHandler.post(runnable);
-    }
-
-    private View getLastView() {
-        Set<View> views = this.mViewRulesMap.keySet();
-        View lastView = null;
-
-        View view;
-        for(Iterator var3 = views.iterator(); var3.hasNext(); lastView = view) {
-            view = (View)var3.next();
+        boolean parallelEvaluation = this.mParallelEvaluation;
+        ValidationPass pass = this.mLastPass;
+        if (pass == null || !pass.hasState(executionPlan, validationMode, targetView, liveTargetViews, ultimate, parallelEvaluation, changeTracker, ruleResultCache, ruleMemos, ruleScheduler)) {
+            pass = new ValidationPass(executionPlan, validationMode, targetView, liveTargetViews, ultimate, parallelEvaluation, changeTracker, ruleResultCache, ruleMemos, ruleScheduler);
+            if (liveTargetViews == null) {
+                this.mLastPass = pass;
+            }
         }
 
-        return lastView;
+        return pass;
     }
 
-    private View getViewBefore(View view) {
-        ArrayList<View> views = new ArrayList(this.mViewRulesMap.keySet());
-        int nViews = views.size();
-        View previousView = null;
-
-        for(int i = 0; i < nViews; ++i) {
-            View currentView = (View)views.get(i);
-            if (currentView == view) {
-                previousView = i > 0 ? (View)views.get(i - 1) : null;
-                break;
+    private boolean publish(int generation) {
+        int publishedGeneration;
+        do {
+            publishedGeneration = this.mPublishedGeneration.get();
+            if (generation - publishedGeneration < 0) {
+                return false;
             }
-        }
+        } while(!this.mPublishedGeneration.compareAndSet(publishedGeneration, generation));
 
-        return previousView;
+        return true;
     }
 
-    static {
-        SARIPAAR_REGISTRY.register(CheckBox.class, Boolean.class, new CheckBoxBooleanAdapter(), new Class[]{AssertFalse.class, AssertTrue.class, Checked.class});
-        SARIPAAR_REGISTRY.register(RadioButton.class, Boolean.class, new RadioButtonBooleanAdapter(), new Class[]{AssertFalse.class, AssertTrue.class, Checked.class});
-        SARIPAAR_REGISTRY.register(Spinner.class, Integer.class, new SpinnerIndexAdapter(), new Class[]{Select.class});
-        SARIPAAR_REGISTRY.register(new Class[]{DecimalMax.class, DecimalMin.class});
-        SARIPAAR_REGISTRY.register(new Class[]{Max.class, Min.class});
-        SARIPAAR_REGISTRY.register(new Class[]{ConfirmEmail.class, ConfirmPassword.class, CreditCard.class, Domain.class, Email.class, IpAddress.class, Isbn.class, NotEmpty.class, Password.class, Pattern.class, Size.class, Url.class});
-    }
+    private boolean hasAsyncRules() {
+        if (this.getExecutionPlan().hasAsyncRules) {
+            return true;
+        } else {
+            if (this.mPendingRules != null && !this.mPendingRules.isEmpty()) {
+                Iterator var1 = this.mPendingRules.values().iterator();
 
-    class AsyncValidationTask extends AsyncTask<Void, Void, Validator.ValidationReport> {
-        private View mView;
-        private boolean mOrderedRules;
-        private String mReasonSuffix;
-        private boolean mUltimate;
+                while(var1.hasNext()) {
+                    if (((ControllerPlan.FieldPlan)var1.next()).hasAsyncRules) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        }
+    }
+
+    private ValidationSnapshot takeSnapshot(View lastView, ValidationPass pass) {
+        ValidationSnapshot snapshot = new ValidationSnapshot(pass, lastView);
+        ExecutionPlan executionPlan = pass.executionPlan;
+        ChangeTracker changeTracker = pass.changeTracker;
+        View[] views = executionPlan.views;
+
+        for(int v = 0; v < views.length; ++v) {
+            View view = views[v];
+            int firstRule = executionPlan.ruleStart[v];
+            int lastRule = executionPlan.ruleStart[v + 1] - 1;
+            if (firstRule <= lastRule && this.shouldValidate(view, pass.targetView, pass.liveTargetViews, pass.ultimate)) {
+                snapshot.validateView[v] = true;
+                snapshot.tokens[v] = changeTracker != null ? changeTracker.getToken(view) : ChangeTracker.NO_TOKEN;
+
+                for(int i = firstRule; i <= lastRule; ++i) {
+                    int ruleFlags = executionPlan.flags[i];
+                    if (!this.isRuleApplicable(view, ruleFlags, pass)) {
+                        snapshot.ruleStates[i] = ValidationSnapshot.STATE_SKIPPED;
+                    } else if ((ruleFlags & (ExecutionPlan.FLAG_CACHEABLE | ExecutionPlan.FLAG_ASYNC_RULE)) != 0) {
+                        try {
+                            snapshot.ruleData[i] = executionPlan.adapters[i].getData(view);
+                            snapshot.ruleStates[i] = ValidationSnapshot.STATE_DATA;
+                        } catch (ConversionException var12) {
+                            snapshot.ruleStates[i] = ValidationSnapshot.STATE_INVALID;
+                            var12.printStackTrace();
+                        }
+                    } else {
+                        boolean valid = this.validateViewWithRule(view, executionPlan.rules[i], executionPlan.adapters[i], ruleFlags, i, ChangeTracker.NO_TOKEN, pass, (ValidationSnapshot)null) == null;
+                        snapshot.ruleStates[i] = valid ? ValidationSnapshot.STATE_VALID : ValidationSnapshot.STATE_INVALID;
+                    }
+                }
+            }
+        }
+
+        return snapshot;
+    }
+
+    private void triggerValidationListenerCallback(Validator.ValidationReport validationReport, View targetView, boolean ultimate) {
+        List<ValidationError> validationErrors = validationReport.errors;
+        if (validationErrors.size() == 0 && !validationReport.hasMoreErrors) {
+            if (targetView != null) {
+                this.mValidationListener.onTargetedValidationSucceeded(targetView, ultimate);
+            } else {
+                this.mValidationListener.onValidationSucceeded(ultimate);
+            }
+        } else {
+            this.mValidationListener.onValidationFailed(validationErrors, ultimate);
+        }
+
+    }
+
+    private void assertOrderedFields(boolean orderedRules, String reasonSuffix) {
+        if (!orderedRules) {
+            String message = String.format("Rules are unordered, all view fields should be ordered using the '@Order' annotation " + reasonSuffix);
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private boolean continueValidation(Validator.PartialValidation partial, long budgetMillis) {
+        partial.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        ValidatorTracer tracer = sTracer;
+        tracer.beginSection(ValidatorTracer.SECTION_VALIDATE);
+
+        Validator.ValidationReport validationReport;
+        try {
+            validationReport = this.getValidationReport(partial.lastView, partial.pass, (ValidationSnapshot)null, (Rule[])null, partial);
+        } finally {
+            tracer.endSection(ValidatorTracer.SECTION_VALIDATE);
+        }
+
+        if (validationReport == null) {
+            Validator.ValidationSuspendedListener validationSuspendedListener = this.mValidationSuspendedListener;
+            if (validationSuspendedListener != null) {
+                // Copies, the failed rules of the current view keep growing once the pass resumes
+                List<ValidationError> validationErrors = new ArrayList();
+                if (partial.validationErrors != null) {
+                    for(int i = 0; i < partial.validationErrors.size(); ++i) {
+                        ValidationError validationError = (ValidationError)partial.validationErrors.get(i);
+                        validationErrors.add(new ValidationError(validationError.getView(), new ArrayList(validationError.getFailedRules())));
+                    }
+                }
+
+                validationSuspendedListener.onValidationSuspended(validationErrors, partial.getUnvalidatedViews());
+            }
+
+            return false;
+        } else {
+            if (this.mPartialValidation == partial) {
+                this.mPartialValidation = null;
+            }
+
+            if (this.publish(partial.generation)) {
+                this.triggerValidationListenerCallback(validationReport, (View)null, partial.pass.ultimate);
+            }
+
+            return true;
+        }
+    }
+
+    private Validator.ValidationReport getValidationReport(View targetView, ValidationPass pass, ValidationSnapshot snapshot, Rule[] ruleFailures) {
+        return this.getValidationReport(targetView, pass, snapshot, ruleFailures, (Validator.PartialValidation)null);
+    }
+
+    private Validator.ValidationReport getValidationReport(View targetView, ValidationPass pass, ValidationSnapshot snapshot, Rule[] ruleFailures, Validator.PartialValidation partial) {
+        List<ValidationError> validationErrors = partial != null ? partial.validationErrors : null;
+        ExecutionPlan executionPlan = pass.executionPlan;
+        Validator.Mode validationMode = pass.validationMode;
+        View[] views = executionPlan.views;
+        int[] ruleStart = executionPlan.ruleStart;
+        Rule[] rules = executionPlan.rules;
+        ViewDataAdapter[] adapters = executionPlan.adapters;
+        int[] flags = executionPlan.flags;
+        boolean addErrorToReport = partial != null ? partial.addErrorToReport : targetView != null;
+        boolean hasMoreErrors = partial != null && partial.hasMoreErrors;
+        boolean progressed = false;
+        ChangeTracker changeTracker = pass.changeTracker;
+        if (ruleFailures == null && snapshot != null) {
+            ruleFailures = this.evaluateRules(snapshot);
+        }
+
+        int firstView = partial != null ? partial.nextView : 0;
+        for(int v = firstView; v < views.length; ++v) {
+            View view = views[v];
+            int firstRule = ruleStart[v];
+            int lastRule = ruleStart[v + 1] - 1;
+            boolean resumed = partial != null && v == firstView && partial.nextRule != -1;
+            List<Rule> failedRules = resumed ? partial.failedRules : null;
+            boolean validateView = resumed || (snapshot != null ? snapshot.validateView[v] : firstRule <= lastRule && this.shouldValidate(view, pass.targetView, pass.liveTargetViews, pass.ultimate));
+            if (validateView) {
+                long token = snapshot != null ? snapshot.tokens[v] : (changeTracker != null ? changeTracker.getToken(view) : ChangeTracker.NO_TOKEN);
+
+                for(int i = resumed ? partial.nextRule : firstRule; i <= lastRule; ++i) {
+                    if (partial != null && progressed && System.nanoTime() - partial.deadlineNanos >= 0L) {
+                        partial.suspend(v, i, failedRules, validationErrors, hasMoreErrors, addErrorToReport);
+                        return null;
+                    }
+
+                    progressed = true;
+                    Rule failedRule = ruleFailures != null ? ruleFailures[i] : this.validateViewWithRule(view, rules[i], adapters[i], flags[i], i, token, pass, snapshot);
+                    boolean isLastRuleForView = i == lastRule;
+                    if (failedRule != null) {
+                        if (addErrorToReport) {
+                            if (failedRules == null) {
+                                failedRules = new ArrayList();
+                                if (validationErrors == null) {
+                                    validationErrors = new ArrayList();
+                                }
+
+                                validationErrors.add(new ValidationError(view, failedRules));
+                            }
+
+                            failedRules.add(failedRule);
+                        } else {
+                            hasMoreErrors = true;
+                        }
+
+                        if (Validator.Mode.IMMEDIATE.equals(validationMode) && isLastRuleForView) {
+                            return Validator.ValidationReport.of(validationErrors, hasMoreErrors);
+                        }
+                    }
+
+                    if (view.equals(targetView) && isLastRuleForView) {
+                        addErrorToReport = false;
+                    }
+                }
+            }
+
+            boolean viewPassedAllRules = (failedRules == null || failedRules.size() == 0) && !hasMoreErrors;
+            if (viewPassedAllRules && this.mViewValidatedAction != null) {
+                this.triggerViewValidatedCallback(this.mViewValidatedAction, view);
+            }
+        }
+
+        return Validator.ValidationReport.of(validationErrors, hasMoreErrors);
+    }
+
+    private Rule[] evaluateRules(ValidationSnapshot snapshot) {
+        ValidationPass pass = snapshot.pass;
+        Rule[] ruleFailures = new Rule[pass.executionPlan.rules.length];
+        if (pass.ruleScheduler != null) {
+            pass.ruleScheduler.onPassStarted();
+        }
+
+        Validator.ParallelEvaluation parallelEvaluation = new Validator.ParallelEvaluation(snapshot, ruleFailures);
+        int nTasks = pass.parallelEvaluation ? Math.min(pass.executionPlan.views.length, ParallelHolder.PARALLELISM) - 1 : 0;
+        runInParallel(parallelEvaluation, nTasks);
+        return ruleFailures;
+    }
+
+    static void runInParallel(Runnable task, int nTasks) {
+        List<Validator.ParallelCopy> copies = new ArrayList(Math.max(nTasks, 0));
+        List<java.util.concurrent.Future<?>> futures = new ArrayList(Math.max(nTasks, 0));
+
+        for(int i = 0; i < nTasks; ++i) {
+            Validator.ParallelCopy copy = new Validator.ParallelCopy(task);
+            copies.add(copy);
+            futures.add(ParallelHolder.EXECUTOR.submit(copy));
+        }
+
+        task.run();
+
+        // The task has no work left, copies that have not started are dropped instead of awaited
+        for(int i = 0; i < copies.size(); ++i) {
+            if (((Validator.ParallelCopy)copies.get(i)).cancel()) {
+                ((java.util.concurrent.Future)futures.get(i)).cancel(false);
+            } else {
+                await((java.util.concurrent.Future)futures.get(i));
+            }
+        }
+    }
+
+    static <T> T await(java.util.concurrent.Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException var3) {
+            Throwable cause = var3.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException var4) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while evaluating rules in parallel.", var4);
+        }
+    }
+
+    private boolean shouldValidate(View view, View targetView, Set<View> liveTargetViews, boolean ultimate) {
+        boolean focused = view instanceof ViewGroup ? ((ViewGroup)view).getFocusedChild() != null : view.isFocused();
+        boolean liveTarget = liveTargetViews != null && liveTargetViews.contains(view);
+        return view.isShown() && view.isEnabled() && (focused || ultimate || view == targetView || liveTarget);
+    }
+
+    private boolean isRuleApplicable(View view, int ruleFlags, ValidationPass pass) {
+        return pass.isTargeted(view) && (pass.ultimate || (ruleFlags & ExecutionPlan.FLAG_ULTIMATE) == 0);
+    }
+
+    private Rule validateViewWithRule(View view, Rule rule, ViewDataAdapter dataAdapter, int ruleFlags, int ruleIndex, long token, ValidationPass pass, ValidationSnapshot snapshot) {
+        byte ruleState = snapshot != null ? snapshot.ruleStates[ruleIndex] : ValidationSnapshot.STATE_DATA;
+        if (snapshot != null ? ruleState == ValidationSnapshot.STATE_SKIPPED : !this.isRuleApplicable(view, ruleFlags, pass)) {
+            return null;
+        } else {
+            RuleResultCache ruleResultCache = token != ChangeTracker.NO_TOKEN && (ruleFlags & ExecutionPlan.FLAG_CACHEABLE) != 0 ? pass.ruleResultCache : null;
+            if (ruleResultCache != null) {
+                int cachedResult = ruleResultCache.get(ruleIndex, token);
+                if (cachedResult != RuleResultCache.UNKNOWN) {
+                    return cachedResult == RuleResultCache.VALID ? null : rule;
+                }
+            }
+
+            boolean valid = false;
+            if (ruleState != ValidationSnapshot.STATE_DATA) {
+                valid = ruleState == ValidationSnapshot.STATE_VALID;
+            } else if ((ruleFlags & ExecutionPlan.FLAG_ANNOTATION_RULE) != 0) {
+                try {
+                    Object data = snapshot != null ? snapshot.ruleData[ruleIndex] : dataAdapter.getData(view);
+                    LruCache<Object, Boolean> ruleMemo = (ruleFlags & ExecutionPlan.FLAG_MEMOIZABLE) != 0 && pass.ruleMemos != null ? pass.ruleMemos[ruleIndex] : null;
+                    if (ruleMemo != null && data != null) {
+                        Boolean memoizedValid = ruleMemo.get(data);
+                        if (memoizedValid != null) {
+                            valid = memoizedValid;
+                        } else {
+                            valid = rule.isValid(data);
+                            ruleMemo.put(data, valid);
+                        }
+                    } else {
+                        valid = rule.isValid(data);
+                    }
+                } catch (ConversionException var9) {
+                    valid = false;
+                    var9.printStackTrace();
+                }
+            } else if ((ruleFlags & ExecutionPlan.FLAG_QUICK_RULE) != 0) {
+                valid = rule.isValid(view);
+            }
+
+            if (ruleResultCache != null) {
+                ruleResultCache.put(ruleIndex, token, valid);
+            }
+
+            return valid ? null : rule;
+        }
+    }
+
+    private void startLiveValidation() {
+        // Quick rules may be added after switching to LIVE, put(...) attaches their watchers.
+        this.createRulesSafelyAndLazily(true);
+        this.mLiveWatchers = new HashMap();
+        this.mLiveDeadlines = new HashMap();
+        this.mLiveEditedViews = new HashSet();
+        this.attachLiveWatchers();
+    }
+
+    private void stopLiveValidation() {
+        if (this.mLiveWatchers != null) {
+            Iterator var1 = this.mLiveWatchers.entrySet().iterator();
+
+            while(var1.hasNext()) {
+                Map.Entry<TextView, TextWatcher> entry = (Map.Entry)var1.next();
+                ((TextView)entry.getKey()).removeTextChangedListener((TextWatcher)entry.getValue());
+            }
+        }
+
+        if (this.mLiveHandler != null) {
+            this.mLiveHandler.removeCallbacks(this.mLivePass);
+        }
+
+        this.mLiveWatchers = null;
+        this.mLiveDeadlines = null;
+        this.mLiveEditedViews = null;
+    }
+
+    private void attachLiveWatchers() {
+        Iterator var1 = this.mViewRulesMap.keySet().iterator();
+
+        while(var1.hasNext()) {
+            View view = (View)var1.next();
+            if (view instanceof TextView && !this.mLiveWatchers.containsKey(view)) {
+                TextView textView = (TextView)view;
+                TextWatcher liveTextWatcher = new Validator.LiveTextWatcher(textView);
+                textView.addTextChangedListener(liveTextWatcher);
+                this.mLiveWatchers.put(textView, liveTextWatcher);
+            }
+        }
+
+    }
+
+    private void onLiveEdit(View view) {
+        if (this.mLiveDeadlines != null) {
+            this.mLiveEditedViews.add(view);
+            this.mLiveDeadlines.put(view, SystemClock.uptimeMillis() + this.mLiveDelayMillis);
+            this.scheduleLivePass();
+        }
+    }
+
+    private void scheduleLivePass() {
+        if (this.mLiveHandler == null) {
+            this.mLiveHandler = new Handler(Looper.getMainLooper());
+            this.mLivePass = new Runnable() {
+                public void run() {
+                    Validator.this.runLivePass();
+                }
+            };
+        }
+
+        long nextDeadline = Long.MAX_VALUE;
+        Iterator var3 = this.mLiveDeadlines.values().iterator();
+
+        while(var3.hasNext()) {
+            nextDeadline = Math.min(nextDeadline, (Long)var3.next());
+        }
+
+        this.mLiveHandler.removeCallbacks(this.mLivePass);
+        this.mLiveHandler.postAtTime(this.mLivePass, nextDeadline);
+    }
+
+    private void runLivePass() {
+        if (this.mLiveDeadlines != null) {
+            long now = SystemClock.uptimeMillis();
+            Set<View> editedViews = new HashSet();
+            Iterator var4 = this.mLiveDeadlines.entrySet().iterator();
+
+            while(var4.hasNext()) {
+                Map.Entry<View, Long> entry = (Map.Entry)var4.next();
+                if ((Long)entry.getValue() <= now) {
+                    editedViews.add(entry.getKey());
+                    var4.remove();
+                }
+            }
+
+            if (!editedViews.isEmpty()) {
+                this.validateLive(editedViews);
+            }
+
+            if (this.mLiveDeadlines != null && !this.mLiveDeadlines.isEmpty()) {
+                this.scheduleLivePass();
+            }
+
+        }
+    }
+
+    private void validateLive(Set<View> editedViews) {
+        assertNotNull(this.mValidationListener, "validationListener");
+        this.createRulesSafelyAndLazily(false);
+        Set<View> targetViews = new HashSet(editedViews);
+        ExecutionPlan executionPlan = this.getExecutionPlan();
+
+        for(int v = 0; v < executionPlan.views.length; ++v) {
+            View view = executionPlan.views[v];
+            if (this.mLiveEditedViews.contains(view)) {
+                for(int i = executionPlan.ruleStart[v]; i < executionPlan.ruleStart[v + 1]; ++i) {
+                    int ruleFlags = executionPlan.flags[i];
+                    if ((ruleFlags & ExecutionPlan.FLAG_CONTEXTUAL) != 0) {
+                        targetViews.add(view);
+                        break;
+                    }
+                }
+            }
+        }
+
+        int generation = this.mGeneration.incrementAndGet();
+        if (this.hasAsyncRules()) {
+            ValidationSnapshot snapshot = this.snapshotTill(this.getLastView(), (View)null, targetViews, false);
+            Validator.AsyncValidation asyncValidation = new Validator.AsyncValidation(generation, snapshot);
+            this.mAsyncValidation = asyncValidation;
+            asyncValidation.run();
+        } else {
+            Validator.ValidationReport validationReport = this.validateTill(this.getLastView(), (View)null, targetViews, false);
+            if (this.publish(generation)) {
+                this.triggerLiveValidationCallbacks(validationReport, targetViews);
+            }
+        }
+    }
+
+    private void triggerLiveValidationCallbacks(Validator.ValidationReport validationReport, Set<View> targetViews) {
+        Set<View> failedViews = new HashSet();
+        Iterator var5 = validationReport.errors.iterator();
+
+        while(var5.hasNext()) {
+            failedViews.add(((ValidationError)var5.next()).getView());
+        }
+
+        if (!validationReport.errors.isEmpty()) {
+            this.mValidationListener.onValidationFailed(validationReport.errors, false);
+        }
+
+        View[] views = this.getExecutionPlan().views;
+
+        for(int v = 0; v < views.length; ++v) {
+            if (targetViews.contains(views[v]) && !failedViews.contains(views[v])) {
+                this.mValidationListener.onTargetedValidationSucceeded(views[v], false);
+            }
+        }
+
+    }
+
+    private LruCache<Object, Boolean>[] getRuleMemos(ExecutionPlan executionPlan) {
+        Map<Rule, LruCache<Object, Boolean>> previousRuleMemos = this.mRuleMemos;
+        Map<Rule, LruCache<Object, Boolean>> currentRuleMemos = new HashMap();
+        LruCache<Object, Boolean>[] ruleMemos = new LruCache[executionPlan.rules.length];
+
+        for(int i = 0; i < ruleMemos.length; ++i) {
+            if ((executionPlan.flags[i] & ExecutionPlan.FLAG_MEMOIZABLE) != 0) {
+                Rule rule = executionPlan.rules[i];
+                LruCache<Object, Boolean> ruleMemo = previousRuleMemos != null ? (LruCache)previousRuleMemos.get(rule) : null;
+                if (ruleMemo == null) {
+                    ruleMemo = new LruCache(this.mRuleMemoSize);
+                }
 
-        public AsyncValidationTask(View view, boolean orderedRules, String reasonSuffix, boolean ultimate) {
+                currentRuleMemos.put(rule, ruleMemo);
+                ruleMemos[i] = ruleMemo;
+            }
+        }
+
+        this.mRuleMemos = currentRuleMemos;
+        return ruleMemos;
+    }
+
+    private void triggerViewValidatedCallback(Validator.ViewValidatedAction viewValidatedAction, View view) {
+        boolean isOnMainThread = Looper.myLooper() == Looper.getMainLooper();
+        if (isOnMainThread) {
+            viewValidatedAction.onAllRulesPassed(view);
+        } else {
+            this.mViewValidatedDispatcher.dispatch(viewValidatedAction, view);
+        }
+
+    }
+
+    private void runOnMainThread(Runnable runnable) {
+        this.getMainThreadHandler().post(runnable);
+    }
+
+    private Handler getMainThreadHandler() {
+        Handler handler = this.mViewValidatedActionHandler;
+        if (handler == null) {
+            handler = new Handler(Looper.getMainLooper());
+            this.mViewValidatedActionHandler = handler;
+        }
+
+        return handler;
+    }
+
+    private View getLastView() {
+        return this.getExecutionPlan().getLastView();
+    }
+
+    private View getViewBefore(View view) {
+        ExecutionPlan executionPlan = this.getExecutionPlan();
+        int index = executionPlan.indexOf(view);
+        return index > 0 ? executionPlan.views[index - 1] : null;
+    }
+
+    private ExecutionPlan getExecutionPlan() {
+        if (this.mExecutionPlan == null) {
+            ValidatorTracer tracer = sTracer;
+            tracer.beginSection(ValidatorTracer.SECTION_COMPILE_EXECUTION_PLAN);
+
+            try {
+                this.mExecutionPlan = ExecutionPlan.compile(this.mViewRulesMap);
+            } finally {
+                tracer.endSection(ValidatorTracer.SECTION_COMPILE_EXECUTION_PLAN);
+            }
+        }
+
+        return this.mExecutionPlan;
+    }
+
+
+    private static final class RegistryHolder {
+        static final Registry REGISTRY = new Registry();
+
+        private RegistryHolder() {
+        }
+
+        static {
+            REGISTRY.register(CheckBox.class, Boolean.class, new CheckBoxBooleanAdapter(), new Class[]{AssertFalse.class, AssertTrue.class, Checked.class});
+            REGISTRY.register(RadioButton.class, Boolean.class, new RadioButtonBooleanAdapter(), new Class[]{AssertFalse.class, AssertTrue.class, Checked.class});
+            REGISTRY.register(Spinner.class, Integer.class, new SpinnerIndexAdapter(), new Class[]{Select.class});
+            REGISTRY.register(new Class[]{DecimalMax.class, DecimalMin.class});
+            REGISTRY.register(new Class[]{Max.class, Min.class});
+            REGISTRY.register(new Class[]{ConfirmEmail.class, ConfirmPassword.class, CreditCard.class, Domain.class, Email.class, IpAddress.class, Isbn.class, NotEmpty.class, Password.class, Pattern.class, Size.class, Url.class});
+        }
+    }
+
+    static class RuleBindings implements SaripaarBinder.Bindings {
+        private final Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> mViewRulesMap;
+
+        RuleBindings(Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap) {
+            this.mViewRulesMap = viewRulesMap;
+        }
+
+        public void addView(View view) {
+            if (!this.mViewRulesMap.containsKey(view)) {
+                this.mViewRulesMap.put(view, new ArrayList());
+            }
+        }
+
+        public void addRule(View view, Class<? extends View> viewType, AnnotationRule rule, ViewDataAdapter dataAdapter) {
+            Class<? extends Annotation> annotationType = rule.mRuleAnnotation.annotationType();
+            if (isSaripaarAnnotation(annotationType)) {
+                if (dataAdapter == null) {
+                    Class<?> ruleDataType = Reflector.getRuleDataType(rule.mRuleAnnotation);
+                    dataAdapter = getDataAdapter(annotationType, viewType, ruleDataType);
+                    if (dataAdapter == null) {
+                        throw newMissingAdapterException(annotationType, viewType, ruleDataType);
+                    }
+                }
+
+                this.addView(view);
+                ((ArrayList)this.mViewRulesMap.get(view)).add(new Pair(rule, dataAdapter));
+            }
+        }
+    }
+
+    static ThreadPoolExecutor newThreadPool(int nThreads, final String threadNamePrefix) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(nThreads, nThreads, 30L, TimeUnit.SECONDS, new LinkedBlockingQueue(), new ThreadFactory() {
+            private final AtomicInteger mCount = new AtomicInteger(1);
+
+            public Thread newThread(final Runnable runnable) {
+                Thread thread = new Thread(new Runnable() {
+                    public void run() {
+                        Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                        runnable.run();
+                    }
+                }, threadNamePrefix + this.mCount.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final class ExecutorHolder {
+        static final Executor EXECUTOR = Validator.newThreadPool(2, "Saripaar #");
+
+        private ExecutorHolder() {
+        }
+    }
+
+    static final class ParallelHolder {
+        static final int PARALLELISM = Math.max(Runtime.getRuntime().availableProcessors(), 1);
+        static final ExecutorService EXECUTOR = Validator.newThreadPool(PARALLELISM, "Saripaar parallel #");
+
+        private ParallelHolder() {
+        }
+    }
+
+    /**
+     * A copy of a task submitted by {@link #runInParallel(Runnable, int)}. A copy runs the task
+     * only if it starts before the caller cancels it, so the caller never waits for copies that
+     * are still queued behind other work, or that would run on its own thread.
+     */
+    static final class ParallelCopy implements Runnable {
+        private static final int STATE_NEW = 0;
+        private static final int STATE_STARTED = 1;
+        private static final int STATE_CANCELLED = 2;
+        private final Runnable mTask;
+        private final AtomicInteger mState = new AtomicInteger(STATE_NEW);
+
+        ParallelCopy(Runnable task) {
+            this.mTask = task;
+        }
+
+        public void run() {
+            if (this.mState.compareAndSet(STATE_NEW, STATE_STARTED)) {
+                this.mTask.run();
+            }
+        }
+
+        boolean cancel() {
+            return this.mState.compareAndSet(STATE_NEW, STATE_CANCELLED);
+        }
+    }
+
+    class ParallelEvaluation implements Runnable {
+        private final ValidationSnapshot mSnapshot;
+        private final Rule[] mRuleFailures;
+        private final AtomicInteger mNextView;
+        private final AtomicInteger mLastView;
+
+        ParallelEvaluation(ValidationSnapshot snapshot, Rule[] ruleFailures) {
+            this.mSnapshot = snapshot;
+            this.mRuleFailures = ruleFailures;
+            this.mNextView = new AtomicInteger();
+            this.mLastView = new AtomicInteger(Integer.MAX_VALUE);
+        }
+
+        public void run() {
+            ValidationPass pass = this.mSnapshot.pass;
+            ExecutionPlan executionPlan = pass.executionPlan;
+            RuleScheduler ruleScheduler = pass.ruleScheduler;
+            boolean immediate = Validator.Mode.IMMEDIATE.equals(pass.validationMode);
+            int[] order = ruleScheduler != null ? ruleScheduler.getOrder() : null;
+
+            int v;
+            while((v = this.mNextView.getAndIncrement()) < executionPlan.views.length && v <= this.mLastView.get()) {
+                int firstRule = executionPlan.ruleStart[v];
+                int lastRule = executionPlan.ruleStart[v + 1] - 1;
+                if (this.mSnapshot.validateView[v]) {
+                    for(int p = firstRule; p <= lastRule; ++p) {
+                        int i = order != null ? order[p] : p;
+                        if ((executionPlan.flags[i] & ExecutionPlan.FLAG_ASYNC_RULE) != 0) {
+                            continue;
+                        }
+
+                        long startNanos = order != null ? System.nanoTime() : 0L;
+                        this.mRuleFailures[i] = Validator.this.validateViewWithRule(executionPlan.views[v], executionPlan.rules[i], executionPlan.adapters[i], executionPlan.flags[i], i, this.mSnapshot.tokens[v], pass, this.mSnapshot);
+                        if (order != null) {
+                            ruleScheduler.record(i, System.nanoTime() - startNanos, this.mRuleFailures[i] != null);
+                        }
+                    }
+
+                    if (immediate && firstRule <= lastRule && this.mRuleFailures[lastRule] != null) {
+                        int lastView;
+                        do {
+                            lastView = this.mLastView.get();
+                        } while(v < lastView && !this.mLastView.compareAndSet(lastView, v));
+                    }
+                }
+            }
+
+        }
+    }
+
+    /**
+     * A pass started with {@link #validate(boolean, long)}, along with the position at which it
+     * was suspended and the errors found so far.
+     */
+    class PartialValidation {
+        final int generation;
+        final ValidationPass pass;
+        final View lastView;
+        long deadlineNanos;
+        int nextView;
+        int nextRule = -1;
+        List<Rule> failedRules;
+        List<ValidationError> validationErrors;
+        boolean hasMoreErrors;
+        boolean addErrorToReport;
+
+        PartialValidation(int generation, ValidationPass pass, View lastView) {
+            this.generation = generation;
+            this.pass = pass;
+            this.lastView = lastView;
+            this.addErrorToReport = lastView != null;
+        }
+
+        boolean isCurrent() {
+            return this.generation == Validator.this.mGeneration.get();
+        }
+
+        void suspend(int nextView, int nextRule, List<Rule> failedRules, List<ValidationError> validationErrors, boolean hasMoreErrors, boolean addErrorToReport) {
+            this.nextView = nextView;
+            this.nextRule = nextRule;
+            this.failedRules = failedRules;
+            this.validationErrors = validationErrors;
+            this.hasMoreErrors = hasMoreErrors;
+            this.addErrorToReport = addErrorToReport;
+        }
+
+        List<View> getUnvalidatedViews() {
+            View[] views = this.pass.executionPlan.views;
+            List<View> unvalidatedViews = new ArrayList();
+
+            for(int v = this.nextView; v < views.length; ++v) {
+                unvalidatedViews.add(views[v]);
+                if (views[v].equals(this.lastView)) {
+                    break;
+                }
+            }
+
+            return unvalidatedViews;
+        }
+    }
+
+    /**
+     * Receives the result of one {@link AsyncRule} request, and doubles as its timeout. A timed
+     * out request is detached from the rule, so that it does not keep the value pending.
+     */
+    class AsyncRequest implements Runnable, AsyncRule.Callback {
+        private final Validator.AsyncValidation mAsyncValidation;
+        private final int mRuleIndex;
+        private final AsyncRule mAsyncRule;
+        private final Object mData;
+
+        AsyncRequest(Validator.AsyncValidation asyncValidation, int ruleIndex, AsyncRule asyncRule, Object data) {
+            this.mAsyncValidation = asyncValidation;
+            this.mRuleIndex = ruleIndex;
+            this.mAsyncRule = asyncRule;
+            this.mData = data;
+        }
+
+        public void onResult(boolean valid) {
+            this.mAsyncValidation.resolve(this.mRuleIndex, valid, this);
+        }
+
+        public void run() {
+            this.mAsyncRule.cancel(this.mData, this);
+            this.mAsyncValidation.resolve(this.mRuleIndex, this.mAsyncRule.isValidOnTimeout(), this);
+        }
+    }
+
+    class AsyncValidation implements Runnable {
+        private final int mGeneration;
+        private final ValidationSnapshot mSnapshot;
+        private Rule[] mRuleFailures;
+        private boolean[] mResolved;
+        private int mUnresolved;
+        private boolean mDelivered;
+        volatile boolean mFinished;
+
+        AsyncValidation(int generation, ValidationSnapshot snapshot) {
+            this.mGeneration = generation;
+            this.mSnapshot = snapshot;
+        }
+
+        boolean isCurrent() {
+            return this.mGeneration == Validator.this.mGeneration.get();
+        }
+
+        public void run() {
+            if (this.isCurrent()) {
+                try {
+                    this.mRuleFailures = Validator.this.evaluateSnapshot(this.mSnapshot);
+                    if (this.mSnapshot.pass.executionPlan.hasAsyncRules) {
+                        this.requestAsyncRules();
+                    } else {
+                        this.deliver(Validator.this.reportSnapshot(this.mSnapshot, this.mRuleFailures), (RuntimeException)null);
+                    }
+                } catch (RuntimeException var2) {
+                    this.deliver((Validator.ValidationReport)null, var2);
+                }
+
+            }
+        }
+
+        private void requestAsyncRules() {
+            ExecutionPlan executionPlan = this.mSnapshot.pass.executionPlan;
+            List<Integer> asyncRules = new ArrayList();
+            final List<View> pendingViews = new ArrayList();
+
+            for(int v = 0; v < executionPlan.views.length; ++v) {
+                if (this.mSnapshot.validateView[v]) {
+                    for(int i = executionPlan.ruleStart[v]; i < executionPlan.ruleStart[v + 1]; ++i) {
+                        if ((executionPlan.flags[i] & ExecutionPlan.FLAG_ASYNC_RULE) != 0 && this.mSnapshot.ruleStates[i] == ValidationSnapshot.STATE_DATA) {
+                            asyncRules.add(i);
+                            if (pendingViews.isEmpty() || pendingViews.get(pendingViews.size() - 1) != executionPlan.views[v]) {
+                                pendingViews.add(executionPlan.views[v]);
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (asyncRules.isEmpty()) {
+                this.deliver(Validator.this.reportSnapshot(this.mSnapshot, this.mRuleFailures), (RuntimeException)null);
+            } else {
+                synchronized(this) {
+                    this.mResolved = new boolean[executionPlan.rules.length];
+                    this.mUnresolved = asyncRules.size();
+                }
+
+                Validator.this.runOnMainThread(new Runnable() {
+                    public void run() {
+                        Validator.ValidationPendingListener validationPendingListener = Validator.this.mValidationPendingListener;
+                        if (AsyncValidation.this.isCurrent() && validationPendingListener != null) {
+                            validationPendingListener.onValidationPending(pendingViews);
+                        }
+
+                    }
+                });
+                Iterator var4 = asyncRules.iterator();
+
+                while(var4.hasNext()) {
+                    int ruleIndex = (Integer)var4.next();
+                    AsyncRule asyncRule = (AsyncRule)executionPlan.rules[ruleIndex];
+                    Validator.AsyncRequest asyncRequest = Validator.this.new AsyncRequest(this, ruleIndex, asyncRule, this.mSnapshot.ruleData[ruleIndex]);
+                    Validator.this.getMainThreadHandler().postDelayed(asyncRequest, asyncRule.getTimeoutMillis());
+                    asyncRule.request(this.mSnapshot.ruleData[ruleIndex], asyncRequest);
+                }
+            }
+        }
+
+        private void resolve(int ruleIndex, boolean valid, Runnable timeout) {
+            boolean complete;
+            synchronized(this) {
+                if (this.mResolved[ruleIndex]) {
+                    return;
+                }
+
+                this.mResolved[ruleIndex] = true;
+                this.mRuleFailures[ruleIndex] = valid ? null : this.mSnapshot.pass.executionPlan.rules[ruleIndex];
+                complete = --this.mUnresolved == 0;
+            }
+
+            Validator.this.getMainThreadHandler().removeCallbacks(timeout);
+            if (complete && this.isCurrent()) {
+                try {
+                    this.deliver(Validator.this.reportSnapshot(this.mSnapshot, this.mRuleFailures), (RuntimeException)null);
+                } catch (RuntimeException var7) {
+                    this.deliver((Validator.ValidationReport)null, var7);
+                }
+            }
+
+        }
+
+        private void deliver(final Validator.ValidationReport validationReport, final RuntimeException exception) {
+            synchronized(this) {
+                if (this.mDelivered) {
+                    return;
+                }
+
+                this.mDelivered = true;
+            }
+
+            Validator.this.runOnMainThread(new Runnable() {
+                public void run() {
+                    ValidationPass pass = AsyncValidation.this.mSnapshot.pass;
+                    if (AsyncValidation.this.isCurrent() && Validator.this.publish(AsyncValidation.this.mGeneration)) {
+                        AsyncValidation.this.mFinished = true;
+                        if (exception != null) {
+                            throw exception;
+                        }
+
+                        if (pass.liveTargetViews != null) {
+                            Validator.this.triggerLiveValidationCallbacks(validationReport, pass.liveTargetViews);
+                        } else {
+                            Validator.this.triggerValidationListenerCallback(validationReport, pass.targetView, pass.ultimate);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    class LiveTextWatcher implements TextWatcher {
+        private final View mView;
+
+        LiveTextWatcher(View view) {
             this.mView = view;
-            this.mOrderedRules = orderedRules;
-            this.mReasonSuffix = reasonSuffix;
-            this.mUltimate = ultimate;
         }
 
-        protected Validator.ValidationReport doInBackground(Void... params) {
-            return Validator.this.validateTill(this.mView, this.mOrderedRules, this.mReasonSuffix, this.mUltimate);
+        public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+        }
+
+        public void onTextChanged(CharSequence s, int start, int before, int count) {
         }
 
-        protected void onPostExecute(Validator.ValidationReport validationReport) {
-            Validator.this.triggerValidationListenerCallback(validationReport, this.mUltimate);
+        public void afterTextChanged(Editable s) {
+            Validator.this.onLiveEdit(this.mView);
+        }
+    }
+
+    class ViewValidatedDispatcher implements Runnable {
+        private ArrayList<Validator.ViewValidatedAction> mPendingActions = new ArrayList();
+        private ArrayList<View> mPendingViews = new ArrayList();
+        private ArrayList<Validator.ViewValidatedAction> mDispatchingActions = new ArrayList();
+        private ArrayList<View> mDispatchingViews = new ArrayList();
+        private boolean mPosted;
+
+        ViewValidatedDispatcher() {
+        }
+
+        void dispatch(Validator.ViewValidatedAction viewValidatedAction, View view) {
+            boolean post;
+            synchronized(this) {
+                this.mPendingActions.add(viewValidatedAction);
+                this.mPendingViews.add(view);
+                post = !this.mPosted;
+                this.mPosted = true;
+            }
+
+            if (post) {
+                Validator.this.runOnMainThread(this);
+            }
+
+        }
+
+        public void run() {
+            ArrayList<Validator.ViewValidatedAction> actions;
+            ArrayList<View> views;
+            synchronized(this) {
+                actions = this.mPendingActions;
+                views = this.mPendingViews;
+                this.mPendingActions = this.mDispatchingActions;
+                this.mPendingViews = this.mDispatchingViews;
+                this.mDispatchingActions = actions;
+                this.mDispatchingViews = views;
+                this.mPosted = false;
+            }
+
+            for(int i = 0; i < views.size(); ++i) {
+                ((Validator.ViewValidatedAction)actions.get(i)).onAllRulesPassed((View)views.get(i));
+            }
+
+            actions.clear();
+            views.clear();
         }
     }
 
     static class ValidationReport {
+        static final Validator.ValidationReport SUCCESS = new Validator.ValidationReport(Collections.<ValidationError>emptyList(), false);
         List<ValidationError> errors;
         boolean hasMoreErrors;
 
@@ -623,16 +2069,33 @@ public class Validator {
             this.errors = errors;
             this.hasMoreErrors = hasMoreErrors;
         }
+
+        static Validator.ValidationReport of(List<ValidationError> errors, boolean hasMoreErrors) {
+            if (errors == null) {
+                return hasMoreErrors ? new Validator.ValidationReport(new ArrayList(), true) : SUCCESS;
+            } else {
+                return new Validator.ValidationReport(errors, hasMoreErrors);
+            }
+        }
     }
 
     public static enum Mode {
         BURST,
-        IMMEDIATE;
+        IMMEDIATE,
+        LIVE;
 
         private Mode() {
         }
     }
 
+    public interface ValidationPendingListener {
+        void onValidationPending(List<View> var1);
+    }
+
+    public interface ValidationSuspendedListener {
+        void onValidationSuspended(List<ValidationError> var1, List<View> var2);
+    }
+
     public interface ViewValidatedAction {
         void onAllRulesPassed(View var1);
     }
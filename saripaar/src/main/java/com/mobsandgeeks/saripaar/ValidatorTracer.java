@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2015 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+/**
+ * Receives begin and end events for the setup phases and validation passes of the
+ * {@link com.mobsandgeeks.saripaar.Validator}. Sections are always properly nested and are ended
+ * on the thread that began them. Install a tracer using
+ * {@link com.mobsandgeeks.saripaar.Validator#setTracer(ValidatorTracer)}.
+ *
+ * @since 2.1
+ */
+public interface ValidatorTracer {
+
+    /**
+     * Creating the rules of a {@link com.mobsandgeeks.saripaar.Validator}.
+     */
+    String SECTION_CREATE_RULES = "Saripaar#createRules";
+
+    /**
+     * Compiling the rule plan of a controller class, includes the field scan.
+     */
+    String SECTION_COMPILE_PLAN = "Saripaar#compilePlan";
+
+    /**
+     * Scanning a controller class for annotated {@link android.view.View} fields.
+     */
+    String SECTION_SCAN_FIELDS = "Saripaar#scanFields";
+
+    /**
+     * Resolving the {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} for a rule.
+     */
+    String SECTION_RESOLVE_ADAPTER = "Saripaar#resolveAdapter";
+
+    /**
+     * Instantiating the rules of the annotated {@link android.view.View}s.
+     */
+    String SECTION_INSTANTIATE_RULES = "Saripaar#instantiateRules";
+
+    /**
+     * Compiling the flattened execution plan of a {@link com.mobsandgeeks.saripaar.Validator}.
+     */
+    String SECTION_COMPILE_EXECUTION_PLAN = "Saripaar#compileExecutionPlan";
+
+    /**
+     * Capturing the state of the {@link android.view.View}s on the main thread before an
+     * asynchronous validation pass.
+     */
+    String SECTION_SNAPSHOT = "Saripaar#snapshot";
+
+    /**
+     * A validation pass.
+     */
+    String SECTION_VALIDATE = "Saripaar#validate";
+
+    /**
+     * Work done by {@link com.mobsandgeeks.saripaar.Validator#prewarm}.
+     */
+    String SECTION_PREWARM = "Saripaar#prewarm";
+
+    /**
+     * The default tracer, ignores all events.
+     */
+    ValidatorTracer NO_OP = new ValidatorTracer() {
+
+        @Override
+        public void beginSection(final String sectionName) {
+            // Do nothing
+        }
+
+        @Override
+        public void endSection(final String sectionName) {
+            // Do nothing
+        }
+    };
+
+    /**
+     * Called when a section begins.
+     *
+     * @param sectionName  One of the {@code SECTION_*} constants.
+     */
+    void beginSection(String sectionName);
+
+    /**
+     * Called when a section ends.
+     *
+     * @param sectionName  One of the {@code SECTION_*} constants, the same that was passed to
+     *      the matching {@link #beginSection(String)} call.
+     */
+    void endSection(String sectionName);
+}
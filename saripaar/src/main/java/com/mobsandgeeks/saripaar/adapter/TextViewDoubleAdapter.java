@@ -18,6 +18,8 @@ import android.widget.TextView;
 
 import com.mobsandgeeks.saripaar.exception.ConversionException;
 
+import java.util.regex.Pattern;
+
 /**
  * Adapter parses and returns a {@link java.lang.Double} from {@link android.widget.TextView}s or
  * its subclasses like {@link android.widget.EditText}s.
@@ -27,13 +29,14 @@ import com.mobsandgeeks.saripaar.exception.ConversionException;
  */
 public class TextViewDoubleAdapter implements ViewDataAdapter<TextView, Double> {
     private static final String REGEX_DECIMAL = "[-+]?[0-9]*\\.?[0-9]+([eE][-+]?[0-9]+)?";
+    private static final Pattern PATTERN_DECIMAL = Pattern.compile(REGEX_DECIMAL);
 
     public TextViewDoubleAdapter() {
     }
 
     public Double getData(TextView editText) throws ConversionException {
         String doubleString = editText.getText().toString().trim();
-        if (!doubleString.matches("[-+]?[0-9]*\\.?[0-9]+([eE][-+]?[0-9]+)?")) {
+        if (!PATTERN_DECIMAL.matcher(doubleString).matches()) {
             String message = String.format("Expected a floating point number, but was %s", doubleString);
             throw new ConversionException(message);
         } else {
@@ -18,6 +18,8 @@ import android.widget.TextView;
 
 import com.mobsandgeeks.saripaar.exception.ConversionException;
 
+import java.util.regex.Pattern;
+
 /**
  * Adapter returns a {@link java.lang.Float} from {@link android.widget.TextView}s or
  * its subclasses like {@link android.widget.EditText}s.
@@ -27,13 +29,14 @@ import com.mobsandgeeks.saripaar.exception.ConversionException;
  */
 public class TextViewFloatAdapter implements ViewDataAdapter<TextView, Float> {
     private static final String REGEX_DECIMAL = "[-+]?[0-9]*\\.?[0-9]+([eE][-+]?[0-9]+)?";
+    private static final Pattern PATTERN_DECIMAL = Pattern.compile(REGEX_DECIMAL);
 
     public TextViewFloatAdapter() {
     }
 
     public Float getData(TextView editText) throws ConversionException {
         String floatString = editText.getText().toString().trim();
-        if (!floatString.matches("[-+]?[0-9]*\\.?[0-9]+([eE][-+]?[0-9]+)?")) {
+        if (!PATTERN_DECIMAL.matcher(floatString).matches()) {
             String message = String.format("Expected a floating point number, but was %s", floatString);
             throw new ConversionException(message);
         } else {
@@ -18,6 +18,8 @@ import android.widget.TextView;
 
 import com.mobsandgeeks.saripaar.exception.ConversionException;
 
+import java.util.regex.Pattern;
+
 /**
  * Adapter parses and returns an {@link java.lang.Integer} from {@link android.widget.TextView}s or
  * its subclasses like {@link android.widget.EditText}s.
@@ -27,13 +29,14 @@ import com.mobsandgeeks.saripaar.exception.ConversionException;
  */
 public class TextViewIntegerAdapter implements ViewDataAdapter<TextView, Integer> {
     private static final String REGEX_INTEGER = "\\d+";
+    private static final Pattern PATTERN_INTEGER = Pattern.compile(REGEX_INTEGER);
 
     public TextViewIntegerAdapter() {
     }
 
     public Integer getData(TextView editText) throws ConversionException {
         String integerString = editText.getText().toString().trim();
-        if (!integerString.matches("\\d+")) {
+        if (!PATTERN_INTEGER.matcher(integerString).matches()) {
             String message = String.format("Expected an integer, but was %s", integerString);
             throw new ConversionException(message);
         } else {
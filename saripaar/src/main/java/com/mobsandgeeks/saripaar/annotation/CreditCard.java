@@ -29,7 +29,7 @@ import java.lang.annotation.Target;
  */
 @ValidateUsing(CreditCardRule.class)
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.METHOD})
 public @interface CreditCard {
     CreditCard.Type[] cardTypes() default {CreditCard.Type.AMEX, CreditCard.Type.DINERS, CreditCard.Type.DISCOVER, CreditCard.Type.MASTERCARD, CreditCard.Type.VISA, CreditCard.Type.MAESTRO, CreditCard.Type.JCB, CreditCard.Type.UNIONPAY, CreditCard.Type.MIR, CreditCard.Type.INTERPAYMENT, CreditCard.Type.UATP};
 
@@ -31,7 +31,7 @@ import java.lang.annotation.Target;
  */
 @ValidateUsing(FutureRule.class)
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.METHOD})
 public @interface Future {
     int sequence() default -1;
 
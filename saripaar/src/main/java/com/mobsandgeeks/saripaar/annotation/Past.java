@@ -31,7 +31,7 @@ import java.lang.annotation.Target;
  */
 @ValidateUsing(PastRule.class)
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.METHOD})
 public @interface Past {
     int sequence() default -1;
 
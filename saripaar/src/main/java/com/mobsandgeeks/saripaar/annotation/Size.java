@@ -9,7 +9,7 @@ import java.lang.annotation.Target;
 
 @ValidateUsing(SizeRule.class)
 @Retention(RetentionPolicy.RUNTIME)
-@Target({ElementType.FIELD})
+@Target({ElementType.FIELD, ElementType.METHOD})
 public @interface Size {
     int min() default -2147483648;
 
@@ -23,7 +23,7 @@ import com.mobsandgeeks.saripaar.annotation.AssertFalse;
  */
 public class AssertFalseRule extends AnnotationRule<AssertFalse, Boolean> {
 
-    protected AssertFalseRule(final AssertFalse assertFalse) {
+    public AssertFalseRule(final AssertFalse assertFalse) {
         super(assertFalse);
     }
 
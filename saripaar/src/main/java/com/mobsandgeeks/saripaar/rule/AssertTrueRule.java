@@ -23,7 +23,7 @@ import com.mobsandgeeks.saripaar.annotation.AssertTrue;
  */
 public class AssertTrueRule extends AnnotationRule<AssertTrue, Boolean> {
 
-    protected AssertTrueRule(final AssertTrue assertTrue) {
+    public AssertTrueRule(final AssertTrue assertTrue) {
         super(assertTrue);
     }
 
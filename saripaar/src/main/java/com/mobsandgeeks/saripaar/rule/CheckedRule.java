@@ -22,9 +22,11 @@ import com.mobsandgeeks.saripaar.annotation.Checked;
  * @since 2.0
  */
 public class CheckedRule extends AnnotationRule<Checked, Boolean> {
+    private final boolean mChecked;
 
-    protected CheckedRule(final Checked checked) {
+    public CheckedRule(final Checked checked) {
         super(checked);
+        mChecked = checked.value();
     }
 
     @Override
@@ -32,6 +34,6 @@ public class CheckedRule extends AnnotationRule<Checked, Boolean> {
         if (value == null) {
             throw new IllegalArgumentException("'data' cannot be null.");
         }
-        return mRuleAnnotation.value() == value;
+        return mChecked == value;
     }
 }
@@ -24,7 +24,7 @@ import com.mobsandgeeks.saripaar.annotation.Email;
  */
 public class ConfirmEmailRule extends SameValueContextualRule<ConfirmEmail, Email, String> {
 
-    protected ConfirmEmailRule(final ConfirmEmail confirmEmail,
+    public ConfirmEmailRule(final ConfirmEmail confirmEmail,
             final ValidationContext validationContext) {
         super(confirmEmail, Email.class, validationContext);
     }
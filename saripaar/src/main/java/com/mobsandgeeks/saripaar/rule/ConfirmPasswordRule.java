@@ -25,7 +25,7 @@ import com.mobsandgeeks.saripaar.annotation.Password;
 public class ConfirmPasswordRule
         extends SameValueContextualRule<ConfirmPassword, Password, String> {
 
-    protected ConfirmPasswordRule(final ConfirmPassword confirmPassword,
+    public ConfirmPasswordRule(final ConfirmPassword confirmPassword,
             final ValidationContext validationContext) {
         super(confirmPassword, Password.class, validationContext);
     }
@@ -46,12 +46,18 @@ public class CreditCardRule extends AnnotationRule<CreditCard, String> {
         }
     };
 
-    protected CreditCardRule(CreditCard creditCard) {
-        super(creditCard);
+    private final CreditCardValidator mCreditCardValidator;
+
+    public CreditCardRule(CreditCard creditCard) {
+        super(creditCard, FLAG_PURE);
+        this.mCreditCardValidator = new CreditCardValidator(getOptions(creditCard.cardTypes()));
     }
 
     public boolean isValid(String creditCardNumber) {
-        CreditCard.Type[] types = ((CreditCard)this.mRuleAnnotation).cardTypes();
+        return this.mCreditCardValidator.isValid(creditCardNumber.replaceAll("\\s", ""));
+    }
+
+    private static long getOptions(CreditCard.Type[] types) {
         HashSet<CreditCard.Type> typesSet = new HashSet(Arrays.asList(types));
         long options = 0L;
         CreditCard.Type type;
@@ -62,7 +68,6 @@ public class CreditCardRule extends AnnotationRule<CreditCard, String> {
         } else {
             options = 0L;
         }
-
-        return (new CreditCardValidator(options)).isValid(creditCardNumber.replaceAll("\\s", ""));
+        return options;
     }
 }
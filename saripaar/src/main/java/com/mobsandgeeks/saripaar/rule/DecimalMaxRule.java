@@ -24,9 +24,11 @@ import commons.validator.routines.DoubleValidator;
  * @since 2.0
  */
 public class DecimalMaxRule extends AnnotationRule<DecimalMax, Double> {
+    private final double mMaxValue;
 
-    protected DecimalMaxRule(final DecimalMax decimalMax) {
+    public DecimalMaxRule(final DecimalMax decimalMax) {
         super(decimalMax);
+        mMaxValue = decimalMax.value();
     }
 
     @Override
@@ -34,7 +36,6 @@ public class DecimalMaxRule extends AnnotationRule<DecimalMax, Double> {
         if (value == null) {
             throw new IllegalArgumentException("'Double' cannot be null.");
         }
-        double maxValue = mRuleAnnotation.value();
-        return DoubleValidator.getInstance().maxValue(value, maxValue);
+        return DoubleValidator.getInstance().maxValue(value, mMaxValue);
     }
 }
@@ -24,9 +24,11 @@ import commons.validator.routines.DoubleValidator;
  * @since 2.0
  */
 public class DecimalMinRule extends AnnotationRule<DecimalMin, Double> {
+    private final double mMinValue;
 
-    protected DecimalMinRule(final DecimalMin decimalMin) {
+    public DecimalMinRule(final DecimalMin decimalMin) {
         super(decimalMin);
+        mMinValue = decimalMin.value();
     }
 
     @Override
@@ -34,7 +36,6 @@ public class DecimalMinRule extends AnnotationRule<DecimalMin, Double> {
         if (value == null) {
             throw new IllegalArgumentException("'Double' cannot be null.");
         }
-        double minValue = mRuleAnnotation.value();
-        return DoubleValidator.getInstance().minValue(value, minValue);
+        return DoubleValidator.getInstance().minValue(value, mMinValue);
     }
 }
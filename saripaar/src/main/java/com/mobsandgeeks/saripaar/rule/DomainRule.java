@@ -24,15 +24,16 @@ import commons.validator.routines.DomainValidator;
  * @since 2.0
  */
 public class DomainRule extends AnnotationRule<Domain, String> {
+    private final boolean mAllowLocal;
 
-    protected DomainRule(final Domain domain) {
-        super(domain);
+    public DomainRule(final Domain domain) {
+        super(domain, FLAG_PURE);
+        mAllowLocal = domain.allowLocal();
     }
 
     @Override
     public boolean isValid(final String domain) {
-        boolean allowLocal = mRuleAnnotation.allowLocal();
-        DomainValidator domainValidator = DomainValidator.getInstance(allowLocal);
+        DomainValidator domainValidator = DomainValidator.getInstance(mAllowLocal);
         return domainValidator.isValid(domain);
     }
 }
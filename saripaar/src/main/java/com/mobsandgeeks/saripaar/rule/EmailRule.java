@@ -24,14 +24,15 @@ import commons.validator.routines.EmailValidator;
  * @since 2.0
  */
 public class EmailRule extends AnnotationRule<Email, String> {
+    private final boolean mAllowLocal;
 
-    protected EmailRule(final Email email) {
-        super(email);
+    public EmailRule(final Email email) {
+        super(email, FLAG_PURE);
+        mAllowLocal = email.allowLocal();
     }
 
     @Override
     public boolean isValid(final String email) {
-        boolean allowLocal = mRuleAnnotation.allowLocal();
-        return EmailValidator.getInstance(allowLocal).isValid(email);
+        return EmailValidator.getInstance(mAllowLocal).isValid(email);
     }
 }
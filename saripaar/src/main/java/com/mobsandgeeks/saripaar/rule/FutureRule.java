@@ -18,6 +18,7 @@ import android.content.Context;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.ContextualAnnotationRule;
+import com.mobsandgeeks.saripaar.TimePrecision;
 import com.mobsandgeeks.saripaar.ValidationContext;
 import com.mobsandgeeks.saripaar.annotation.Future;
 
@@ -34,15 +35,21 @@ import commons.validator.routines.DateValidator;
  * @since 2.0
  */
 public class FutureRule extends AnnotationRule<Future, Date> {
+    private final boolean mStrict;
+    private final TimePrecision mPrecision;
+    private final int mOffset;
 
     private Calendar mSrcCalendar;
     private Calendar mDestCalendar;
 
-    protected FutureRule(Future future) {
+    public FutureRule(Future future) {
         super(future);
+        this.mStrict = future.strict();
+        this.mPrecision = future.precision();
+        this.mOffset = future.offset();
     }
 
     public boolean isValid(Date data) {
-        return DateValidator.FUTURE_VALIDATOR.isValid(((Future)this.mRuleAnnotation).strict(), ((Future)this.mRuleAnnotation).precision(), ((Future)this.mRuleAnnotation).offset(), data);
+        return DateValidator.FUTURE_VALIDATOR.isValid(this.mStrict, this.mPrecision, this.mOffset, data);
     }
 }
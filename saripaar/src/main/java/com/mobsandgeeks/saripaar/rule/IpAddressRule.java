@@ -25,7 +25,7 @@ import commons.validator.routines.InetAddressValidator;
  */
 public class IpAddressRule extends AnnotationRule<IpAddress, String> {
 
-    protected IpAddressRule(final IpAddress ipAddress) {
+    public IpAddressRule(final IpAddress ipAddress) {
         super(ipAddress);
     }
 
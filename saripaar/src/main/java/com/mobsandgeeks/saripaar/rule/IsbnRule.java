@@ -25,7 +25,7 @@ import commons.validator.routines.ISBNValidator;
  */
 public class IsbnRule extends AnnotationRule<Isbn, String> {
 
-    protected IsbnRule(final Isbn isbn) {
+    public IsbnRule(final Isbn isbn) {
         super(isbn);
     }
 
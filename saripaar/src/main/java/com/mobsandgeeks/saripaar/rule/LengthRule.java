@@ -22,9 +22,15 @@ import com.mobsandgeeks.saripaar.annotation.Length;
  * @since 2.0
  */
 public class LengthRule extends AnnotationRule<Length, String> {
+    private final int mMin;
+    private final int mMax;
+    private final boolean mTrim;
 
-    protected LengthRule(final Length length) {
+    public LengthRule(final Length length) {
         super(length);
+        mMin = length.min();
+        mMax = length.max();
+        mTrim = length.trim();
     }
 
     @Override
@@ -32,14 +38,14 @@ public class LengthRule extends AnnotationRule<Length, String> {
         if (text == null) {
             throw new IllegalArgumentException("'text' cannot be null.");
         }
-        int ruleMin = mRuleAnnotation.min();
-        int ruleMax = mRuleAnnotation.max();
+        int ruleMin = mMin;
+        int ruleMax = mMax;
 
         // Assert min is <= max
         assertMinMax(ruleMin, ruleMax);
 
         // Trim?
-        int length = mRuleAnnotation.trim() ? text.trim().length() : text.length();
+        int length = mTrim ? text.trim().length() : text.length();
 
         // Check for min length
         boolean minIsValid = true;
@@ -24,9 +24,11 @@ import commons.validator.routines.IntegerValidator;
  * @since 2.0
  */
 public class MaxRule extends AnnotationRule<Max, Integer> {
+    private final int mMaxValue;
 
-    protected MaxRule(final Max max) {
+    public MaxRule(final Max max) {
         super(max);
+        mMaxValue = max.value();
     }
 
     @Override
@@ -34,7 +36,6 @@ public class MaxRule extends AnnotationRule<Max, Integer> {
         if (value == null) {
             throw new IllegalArgumentException("'Integer' cannot be null.");
         }
-        int maxValue = mRuleAnnotation.value();
-        return IntegerValidator.getInstance().maxValue(value, maxValue);
+        return IntegerValidator.getInstance().maxValue(value, mMaxValue);
     }
 }
@@ -24,9 +24,11 @@ import commons.validator.routines.IntegerValidator;
  * @since 2.0
  */
 public class MinRule extends AnnotationRule<Min, Integer> {
+    private final int mMinValue;
 
-    protected MinRule(final Min min) {
+    public MinRule(final Min min) {
         super(min);
+        mMinValue = min.value();
     }
 
     @Override
@@ -34,7 +36,6 @@ public class MinRule extends AnnotationRule<Min, Integer> {
         if (value == null) {
             throw new IllegalArgumentException("'Integer' cannot be null.");
         }
-        int minValue = mRuleAnnotation.value();
-        return IntegerValidator.getInstance().minValue(value, minValue);
+        return IntegerValidator.getInstance().minValue(value, mMinValue);
     }
 }
@@ -25,24 +25,31 @@ import com.mobsandgeeks.saripaar.annotation.NotEmpty;
  * @since 2.0
  */
 public class NotEmptyRule extends ContextualAnnotationRule<NotEmpty, String> {
+    private final boolean mTrim;
+    private final String mEmptyText;
 
-    protected NotEmptyRule(final NotEmpty notEmpty, final ValidationContext validationContext) {
+    public NotEmptyRule(final NotEmpty notEmpty, final ValidationContext validationContext) {
         super(notEmpty, validationContext);
+        mTrim = notEmpty.trim();
+        mEmptyText = notEmpty.emptyTextResId() != -1
+                ? ""
+                : notEmpty.emptyText();
     }
 
     @Override
     public boolean isValid(final String data) {
         boolean isEmpty = false;
         if (data != null) {
-            String text = mRuleAnnotation.trim() ? data.trim() : data;
+            String text = mTrim ? data.trim() : data;
 
-            String emptyText = mRuleAnnotation.emptyTextResId() != -1
-                    ? ""
-                    : mRuleAnnotation.emptyText();
-
-            isEmpty = emptyText.equals(text) || "".equals(text);
+            isEmpty = mEmptyText.equals(text) || "".equals(text);
         }
 
         return !isEmpty;
     }
+
+    @Override
+    protected boolean readsOtherViews() {
+        return false;
+    }
 }
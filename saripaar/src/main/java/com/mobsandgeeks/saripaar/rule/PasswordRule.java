@@ -19,6 +19,7 @@ import com.mobsandgeeks.saripaar.annotation.Password;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
@@ -45,14 +46,19 @@ public class PasswordRule extends AnnotationRule<Password, String> {
                     "(?=.*[a-z])(?=.*[A-Z])(?=.*[\\d])(?=.*([^\\w]|_)).+");
             }};
 
-    protected PasswordRule(final Password password) {
+    private final int mMin;
+    private final Pattern mSchemePattern;
+
+    public PasswordRule(final Password password) {
         super(password);
+        mMin = password.min();
+        mSchemePattern = Pattern.compile(SCHEME_PATTERNS.get(password.scheme()));
     }
 
     @Override
     public boolean isValid(final String password) {
-        boolean hasMinChars = password.length() >= mRuleAnnotation.min();
-        boolean matchesScheme = password.matches(SCHEME_PATTERNS.get(mRuleAnnotation.scheme()));
+        boolean hasMinChars = password.length() >= mMin;
+        boolean matchesScheme = mSchemePattern.matcher(password).matches();
         return hasMinChars && matchesScheme;
     }
 }
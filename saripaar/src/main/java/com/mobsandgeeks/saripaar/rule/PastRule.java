@@ -18,6 +18,7 @@ import android.content.Context;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.ContextualAnnotationRule;
+import com.mobsandgeeks.saripaar.TimePrecision;
 import com.mobsandgeeks.saripaar.ValidationContext;
 import com.mobsandgeeks.saripaar.annotation.Past;
 
@@ -33,11 +34,17 @@ import commons.validator.routines.DateValidator;
  * @since 2.0
  */
 public class PastRule extends AnnotationRule<Past, Date> {
-    protected PastRule(Past past) {
+    private final boolean mStrict;
+    private final TimePrecision mPrecision;
+    private final int mOffset;
+    public PastRule(Past past) {
         super(past);
+        this.mStrict = past.strict();
+        this.mPrecision = past.precision();
+        this.mOffset = past.offset();
     }
 
     public boolean isValid(Date data) {
-        return DateValidator.PAST_VALIDATOR.isValid(((Past)this.mRuleAnnotation).strict(), ((Past)this.mRuleAnnotation).precision(), ((Past)this.mRuleAnnotation).offset(), data);
+        return DateValidator.PAST_VALIDATOR.isValid(this.mStrict, this.mPrecision, this.mOffset, data);
     }
 }
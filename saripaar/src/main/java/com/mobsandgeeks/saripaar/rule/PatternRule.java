@@ -26,13 +26,23 @@ import commons.validator.routines.RegexValidator;
  * @since 2.0
  */
 public class PatternRule extends AnnotationRule<Pattern, String> {
-    protected PatternRule(Pattern pattern) {
+    private final String mRegex;
+    private final boolean mCaseSensitive;
+    private volatile RegexValidator mRegexValidator;
+
+    public PatternRule(Pattern pattern) {
         super(pattern);
+        this.mRegex = pattern.regex();
+        this.mCaseSensitive = pattern.caseSensitive();
     }
 
     public boolean isValid(String text) {
-        String regex = ((Pattern)this.mRuleAnnotation).regex();
-        boolean caseSensitive = ((Pattern)this.mRuleAnnotation).caseSensitive();
-        return (new RegexValidator(regex, caseSensitive)).isValid(text);
+        RegexValidator regexValidator = this.mRegexValidator;
+        if (regexValidator == null) {
+            regexValidator = new RegexValidator(this.mRegex, this.mCaseSensitive);
+            this.mRegexValidator = regexValidator;
+        }
+
+        return regexValidator.isValid(text);
     }
 }
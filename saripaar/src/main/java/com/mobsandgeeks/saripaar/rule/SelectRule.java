@@ -22,9 +22,11 @@ import com.mobsandgeeks.saripaar.annotation.Select;
  * @since 2.0
  */
 public class SelectRule extends AnnotationRule<Select, Integer> {
+    private final int mDefaultSelection;
 
-    protected SelectRule(final Select select) {
+    public SelectRule(final Select select) {
         super(select);
+        mDefaultSelection = select.defaultSelection();
     }
 
     @Override
@@ -32,6 +34,6 @@ public class SelectRule extends AnnotationRule<Select, Integer> {
         if (index == null) {
             throw new IllegalArgumentException("'index' cannot be null.");
         }
-        return mRuleAnnotation.defaultSelection() != index;
+        return mDefaultSelection != index;
     }
 }
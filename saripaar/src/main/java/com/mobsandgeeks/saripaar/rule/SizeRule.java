@@ -6,25 +6,34 @@ import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.QuickRule;
 import com.mobsandgeeks.saripaar.annotation.Size;
 
+import java.util.regex.Pattern;
+
 public class SizeRule extends AnnotationRule<Size, String> {
-    protected SizeRule(Size size) {
+    private final int mMin;
+    private final int mMax;
+    private final Pattern mFilterPattern;
+    private final boolean mTrim;
+
+    public SizeRule(Size size) {
         super(size);
+        this.mMin = size.min();
+        this.mMax = size.max();
+        this.mFilterPattern = size.filter().length() != 0 ? Pattern.compile("[^" + size.filter() + "]") : null;
+        this.mTrim = size.trim();
     }
 
     public boolean isValid(String text) {
         if (text == null) {
             throw new IllegalArgumentException("'text' cannot be null.");
         } else {
-            int ruleMin = ((Size)this.mRuleAnnotation).min();
-            int ruleMax = ((Size)this.mRuleAnnotation).max();
-            String filter = ((Size)this.mRuleAnnotation).filter();
+            int ruleMin = this.mMin;
+            int ruleMax = this.mMax;
             this.assertMinMax(ruleMin, ruleMax);
             int length;
-            if (filter.length() != 0) {
-                String regex = "[^" + filter + "]";
-                length = ((Size)this.mRuleAnnotation).trim() ? text.trim().replaceAll(regex, "").length() : text.replaceAll(regex, "").length();
+            if (this.mFilterPattern != null) {
+                length = this.mFilterPattern.matcher(this.mTrim ? text.trim() : text).replaceAll("").length();
             } else {
-                length = ((Size)this.mRuleAnnotation).trim() ? text.trim().length() : text.length();
+                length = this.mTrim ? text.trim().length() : text.length();
             }
 
             boolean minIsValid = true;
@@ -24,20 +24,20 @@ import commons.validator.routines.UrlValidator;
  * @since 2.0
  */
 public class UrlRule extends AnnotationRule<Url, String> {
+    private final UrlValidator mUrlValidator;
 
-    protected UrlRule(final Url url) {
-        super(url);
-    }
-
-    @Override
-    public boolean isValid(final String url) {
-        String[] schemes = mRuleAnnotation.schemes();
-        long options = mRuleAnnotation.allowFragments()
+    public UrlRule(final Url url) {
+        super(url, FLAG_PURE);
+        String[] schemes = url.schemes();
+        long options = url.allowFragments()
                 ? 0 : UrlValidator.NO_FRAGMENTS;
 
-        UrlValidator urlValidator = schemes != null && schemes.length > 0
+        mUrlValidator = schemes != null && schemes.length > 0
                 ? new UrlValidator(schemes, options) : UrlValidator.getInstance();
+    }
 
-        return urlValidator.isValid(url);
+    @Override
+    public boolean isValid(final String url) {
+        return mUrlValidator.isValid(url);
     }
 }